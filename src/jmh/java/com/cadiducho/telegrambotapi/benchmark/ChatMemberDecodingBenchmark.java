@@ -0,0 +1,53 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.benchmark;
+
+import com.cadiducho.telegrambotapi.ChatMember;
+import com.cadiducho.telegrambotapi.util.ApiResponse;
+import com.cadiducho.telegrambotapi.util.MoshiProvider;
+import okio.Buffer;
+import okio.ByteString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of {@link ChatMember}, whose subtype is chosen by its status
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatMemberDecodingBenchmark {
+
+    private final ByteString administrators = Payloads.administrators(20);
+    private final ByteString[] members = Payloads.members();
+    private int next;
+
+    /**
+     * getChatMember, cycling through member, restricted, administrator and owner
+     */
+    @Benchmark
+    public Object decodeChatMember() throws IOException {
+        final ByteString member = members[next++ & (members.length - 1)];
+        return ApiResponse.from(new Buffer().write(member), ChatMember.class);
+    }
+
+    /**
+     * getChatAdministrators of a group with an owner and 20 administrators
+     */
+    @Benchmark
+    public Object decodeChatAdministrators() throws IOException {
+        return ApiResponse.from(new Buffer().write(administrators), MoshiProvider.LIST_OF_CHAT_MEMBER);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.benchmark;
+
+import com.cadiducho.telegrambotapi.transport.TelegramTransport;
+import com.cadiducho.telegrambotapi.transport.TransportRequest;
+import com.cadiducho.telegrambotapi.transport.TransportResponse;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ByteString;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Transport that encodes the body of every request without sending it, and answers with a fixed response.
+ * It measures the work of the bot on both sides of a call, without the network.
+ */
+class InMemoryTransport implements TelegramTransport {
+
+    private final ByteString response;
+    private final Buffer sink = new Buffer();
+
+    InMemoryTransport(ByteString response) {
+        this.response = response;
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        final RequestBody body = request.toRequestBody();
+        if (body != null) {
+            body.writeTo(sink);
+            sink.clear();
+        }
+        return new Response(new Buffer().write(response));
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> executeAsync(TransportRequest request) {
+        try {
+            return CompletableFuture.completedFuture(execute(request));
+        } catch (IOException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    private static class Response implements TransportResponse {
+        private final Buffer body;
+
+        private Response(Buffer body) {
+            this.body = body;
+        }
+
+        @Override
+        public int code() {
+            return 200;
+        }
+
+        @Override
+        public long contentLength() {
+            return body.size();
+        }
+
+        @Override
+        public BufferedSource body() {
+            return body;
+        }
+
+        @Override
+        public void close() {
+            body.clear();
+        }
+    }
+}
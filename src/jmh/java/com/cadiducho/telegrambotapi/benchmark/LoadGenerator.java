@@ -0,0 +1,292 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.benchmark;
+
+import com.cadiducho.telegrambotapi.InputFile;
+import com.cadiducho.telegrambotapi.TelegramBot;
+import com.cadiducho.telegrambotapi.TelegramBotConfig;
+import com.cadiducho.telegrambotapi.exception.TelegramException;
+import com.cadiducho.telegrambotapi.metrics.LatencyHistogram;
+import com.cadiducho.telegrambotapi.transport.JdkHttpTransport;
+import com.cadiducho.telegrambotapi.transport.OkHttpTransport;
+import okhttp3.ConnectionPool;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the sustained outbound throughput of a {@link TelegramBot} against a local fake Bot API, without network nor Telegram.
+ * Several threads call a weighted mix of sendMessage, sendPhoto and editMessageText, and the fake API can add latency and answer with 429 errors.
+ * Run with <code>./gradlew loadTest --args="--threads=16 --duration=30 --latency=20 --rate429=0.01"</code>
+ */
+public final class LoadGenerator {
+
+    private static final String USAGE = "Options, all optional:\n"
+            + "  --threads=8          Threads calling the bot\n"
+            + "  --warmup=5           Seconds before measuring\n"
+            + "  --duration=30        Seconds measured\n"
+            + "  --mix=sendMessage:8,sendPhoto:1,editMessageText:1  Weight of every method\n"
+            + "  --transport=okhttp   okhttp or jdk\n"
+            + "  --maxIdle=threads    Idle connections kept by OkHttp\n"
+            + "  --latency=0          Milliseconds the fake API waits before answering\n"
+            + "  --rate429=0          Fraction of requests answered with 429 Too Many Requests\n"
+            + "  --retryAfter=0       retry_after of the 429 errors, in seconds\n"
+            + "  --maxRetries=3       Retries of the bot after a 429 error\n"
+            + "  --photoSize=20000    Bytes of the photos uploaded by sendPhoto";
+
+    private static final String MESSAGE = "{\"ok\":true,\"result\":{\"message_id\":1,\"date\":1700000000,"
+            + "\"chat\":{\"id\":1,\"type\":\"private\"},\"text\":\"Hello\"}}";
+    private static final String TOO_MANY_REQUESTS = "{\"ok\":false,\"error_code\":429,"
+            + "\"description\":\"Too Many Requests: retry after %d\",\"parameters\":{\"retry_after\":%d}}";
+    private static final String[] METHODS = {"sendMessage", "sendPhoto", "editMessageText"};
+    private static final int CHATS = 1000;
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        final Map<String, String> options = parse(args);
+        final int threads = Integer.parseInt(options.getOrDefault("threads", "8"));
+        final long warmup = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("warmup", "5")));
+        final long duration = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("duration", "30")));
+        final Map<String, Integer> mix = parseMix(options.getOrDefault("mix", "sendMessage:8,sendPhoto:1,editMessageText:1"));
+        final String transport = options.getOrDefault("transport", "okhttp");
+        final int maxIdle = Integer.parseInt(options.getOrDefault("maxIdle", Integer.toString(threads)));
+        final long latency = Long.parseLong(options.getOrDefault("latency", "0"));
+        final double rate429 = Double.parseDouble(options.getOrDefault("rate429", "0"));
+        final int retryAfter = Integer.parseInt(options.getOrDefault("retryAfter", "0"));
+        final int maxRetries = Integer.parseInt(options.getOrDefault("maxRetries", "3"));
+        final byte[] photo = new byte[Integer.parseInt(options.getOrDefault("photoSize", "20000"))];
+        new Random(1).nextBytes(photo);
+
+        final FakeApi api = new FakeApi(latency, rate429, retryAfter);
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(api);
+            server.start();
+
+            final TelegramBotConfig.TelegramBotConfigBuilder config = TelegramBotConfig.builder()
+                    .baseUrl(server.url("/").toString())
+                    .maxIdleConnections(maxIdle)
+                    .maxRetries(maxRetries);
+            if (transport.equals("jdk")) {
+                config.transport(new JdkHttpTransport());
+            } else if (!transport.equals("okhttp")) {
+                throw new IllegalArgumentException("Unknown transport " + transport + "\n" + USAGE);
+            }
+            final TelegramBot bot = new TelegramBot("123456:TOKEN", config.build());
+
+            final Map<String, Stats> stats = new LinkedHashMap<>();
+            mix.keySet().forEach(method -> stats.put(method, new Stats()));
+            final Stats total = new Stats();
+            final String[] schedule = schedule(mix);
+            final LongAdder allocated = new LongAdder();
+
+            System.out.printf("Transport %s, %d threads, %d s of warmup and %d s measured, latency %d ms, 429 rate %.3f%n",
+                    transport, threads, TimeUnit.NANOSECONDS.toSeconds(warmup), TimeUnit.NANOSECONDS.toSeconds(duration), latency, rate429);
+            final long start = System.nanoTime();
+            final long measureFrom = start + warmup;
+            final long end = measureFrom + duration;
+            final List<Thread> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                final Thread worker = new Thread(() -> {
+                    long allocatedAtStart = -1;
+                    long now;
+                    while ((now = System.nanoTime()) < end) {
+                        final boolean measured = now >= measureFrom;
+                        if (measured && allocatedAtStart < 0) {
+                            allocatedAtStart = allocatedBytes();
+                        }
+                        final String method = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+                        final long chatId = ThreadLocalRandom.current().nextInt(CHATS) + 1;
+                        boolean success = true;
+                        try {
+                            call(bot, method, chatId, photo);
+                        } catch (TelegramException ex) {
+                            success = false;
+                        }
+                        if (measured) {
+                            final long nanos = System.nanoTime() - now;
+                            stats.get(method).record(nanos, success);
+                            total.record(nanos, success);
+                        }
+                    }
+                    if (allocatedAtStart >= 0) {
+                        allocated.add(allocatedBytes() - allocatedAtStart);
+                    }
+                }, "LoadGenerator-" + i);
+                workers.add(worker);
+                worker.start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+
+            report(bot, api, stats, total, duration, allocated.sum());
+        }
+    }
+
+    private static void call(TelegramBot bot, String method, long chatId, byte[] photo) throws TelegramException {
+        switch (method) {
+            case "sendMessage":
+                bot.sendMessage(chatId, "Hello, this is a message of the load generator");
+                break;
+            case "sendPhoto":
+                bot.sendPhoto(chatId, InputFile.of(photo, "photo.jpg"), "A photo", null, null, null, null, null);
+                break;
+            case "editMessageText":
+                bot.editMessageText(chatId, 1, null, "This message has been edited", null, null, null);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown method " + method);
+        }
+    }
+
+    private static void report(TelegramBot bot, FakeApi api, Map<String, Stats> stats, Stats total, long duration, long allocated) {
+        final double seconds = (double) duration / TimeUnit.SECONDS.toNanos(1);
+        final long calls = total.latency.getCount();
+        System.out.printf("Throughput: %.1f calls/s (%d calls, %d failed)%n", total.successes.sum() / seconds, calls, total.failures.sum());
+
+        System.out.printf("%-16s %10s %10s %10s %10s %10s%n", "Latency (ms)", "calls", "p50", "p99", "p999", "max");
+        printLatency("all", total);
+        stats.forEach(LoadGenerator::printLatency);
+
+        if (allocated > 0 && calls > 0) {
+            System.out.printf("Allocation of the calling threads: %.1f MB/s, %.1f KB per call%n",
+                    allocated / seconds / (1024 * 1024), (double) allocated / calls / 1024);
+        }
+
+        String pool = "";
+        if (bot.getTransport() instanceof OkHttpTransport) {
+            final ConnectionPool connectionPool = ((OkHttpTransport) bot.getTransport()).getClient().connectionPool();
+            pool = String.format(", %d in the pool (%d idle)", connectionPool.connectionCount(), connectionPool.idleConnectionCount());
+        }
+        System.out.printf("Connections: %d opened%s. The fake API received %d requests and answered %d with 429%n",
+                api.connections.sum(), pool, api.requests.sum(), api.tooManyRequests.sum());
+    }
+
+    private static void printLatency(String name, Stats stats) {
+        final LatencyHistogram latency = stats.latency;
+        System.out.printf("%-16s %10d %10.3f %10.3f %10.3f %10.3f%n", name, latency.getCount(),
+                millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)), millis(latency.getMax()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    /**
+     * Get the bytes allocated by the current thread, or 0 if the JVM does not measure it
+     */
+    private static long allocatedBytes() {
+        final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        final Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                System.out.println(USAGE);
+                System.exit(arg.equals("--help") ? 0 : 1);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        final Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            final String[] parts = entry.split(":");
+            if (!List.of(METHODS).contains(parts[0])) {
+                throw new IllegalArgumentException("Unknown method " + parts[0] + ", use " + String.join(", ", METHODS));
+            }
+            weights.put(parts[0], parts.length > 1 ? Integer.parseInt(parts[1]) : 1);
+        }
+        return weights;
+    }
+
+    /**
+     * Expand the weights of the mix to a list of methods, picked at random by the workers
+     */
+    private static String[] schedule(Map<String, Integer> mix) {
+        final List<String> schedule = new ArrayList<>();
+        mix.forEach((method, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(method);
+            }
+        });
+        return schedule.toArray(new String[0]);
+    }
+
+    private static class Stats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private void record(long nanos, boolean success) {
+            latency.record(nanos);
+            (success ? successes : failures).increment();
+        }
+    }
+
+    /**
+     * Answers every method with the same message, after the injected latency or with a 429 error
+     */
+    private static class FakeApi extends Dispatcher {
+        private final long latency;
+        private final double rate429;
+        private final int retryAfter;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder connections = new LongAdder();
+        private final LongAdder tooManyRequests = new LongAdder();
+
+        private FakeApi(long latency, double rate429, int retryAfter) {
+            this.latency = latency;
+            this.rate429 = rate429;
+            this.retryAfter = retryAfter;
+        }
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            requests.increment();
+            if (request.getSequenceNumber() == 0) {
+                connections.increment();
+            }
+
+            final MockResponse response;
+            if (rate429 > 0 && ThreadLocalRandom.current().nextDouble() < rate429) {
+                tooManyRequests.increment();
+                response = new MockResponse().setResponseCode(429).setBody(String.format(TOO_MANY_REQUESTS, retryAfter, retryAfter));
+            } else {
+                response = new MockResponse().setBody(MESSAGE);
+            }
+            if (latency > 0) {
+                response.setHeadersDelay(latency, TimeUnit.MILLISECONDS);
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.benchmark;
+
+import okio.ByteString;
+
+/**
+ * Realistic responses of the Bot API used by the benchmarks
+ */
+final class Payloads {
+
+    private static final String USER = "{\"id\":%d,\"is_bot\":false,\"first_name\":\"Name\",\"last_name\":\"Surname\",\"username\":\"user%d\",\"language_code\":\"es\"}";
+    private static final String GROUP = "{\"id\":-1001234567890,\"title\":\"Busy group\",\"username\":\"busygroup\",\"type\":\"supergroup\",\"is_forum\":true}";
+
+    private static final String TEXT = "{\"update_id\":%d,\"message\":{\"message_id\":%d,\"message_thread_id\":7,\"from\":" + USER + ",\"chat\":" + GROUP + ","
+            + "\"date\":1700000000,\"text\":\"/search@bot some words to look for https://example.com\",\"entities\":["
+            + "{\"offset\":0,\"length\":11,\"type\":\"bot_command\"},{\"offset\":35,\"length\":19,\"type\":\"url\"}]}}";
+    private static final String PHOTO = "{\"update_id\":%d,\"message\":{\"message_id\":%d,\"from\":" + USER + ",\"chat\":" + GROUP + ",\"date\":1700000000,"
+            + "\"photo\":[{\"file_id\":\"AgACAgQAAxkBAAIBQ2VhYmNkZWYxMjM0NTY3ODkwAAE\",\"file_unique_id\":\"AQADsmall\",\"file_size\":1386,\"width\":90,\"height\":67},"
+            + "{\"file_id\":\"AgACAgQAAxkBAAIBQ2VhYmNkZWYxMjM0NTY3ODkwAAI\",\"file_unique_id\":\"AQADmedium\",\"file_size\":20134,\"width\":320,\"height\":240},"
+            + "{\"file_id\":\"AgACAgQAAxkBAAIBQ2VhYmNkZWYxMjM0NTY3ODkwAAM\",\"file_unique_id\":\"AQADbig\",\"file_size\":96512,\"width\":1280,\"height\":960}],"
+            + "\"caption\":\"Look at this\",\"caption_entities\":[{\"offset\":0,\"length\":4,\"type\":\"bold\"}],"
+            + "\"reply_to_message\":{\"message_id\":1,\"from\":" + USER + ",\"chat\":" + GROUP + ",\"date\":1699999000,\"text\":\"Send photos\"}}}";
+    private static final String CALLBACK = "{\"update_id\":%d,\"callback_query\":{\"id\":\"4382bfdwdsb323b2d9\",\"from\":" + USER + ","
+            + "\"message\":{\"message_id\":%d,\"from\":{\"id\":1,\"is_bot\":true,\"first_name\":\"Bot\",\"username\":\"bot\"},\"chat\":" + GROUP + ","
+            + "\"date\":1700000000,\"text\":\"Choose an option\",\"reply_markup\":{\"inline_keyboard\":[[{\"text\":\"Yes\",\"callback_data\":\"vote:yes\"},"
+            + "{\"text\":\"No\",\"callback_data\":\"vote:no\"}]]}},\"chat_instance\":\"-8412957312759\",\"data\":\"vote:yes\"}}";
+    private static final String INLINE = "{\"update_id\":%d,\"inline_query\":{\"id\":\"%d\",\"from\":" + USER + ","
+            + "\"query\":\"cats\",\"offset\":\"\",\"chat_type\":\"private\"}}";
+    private static final String[] UPDATES = {TEXT, PHOTO, CALLBACK, INLINE};
+
+    private static final String OWNER = "{\"status\":\"creator\",\"user\":" + USER + ",\"is_anonymous\":false,\"custom_title\":\"Boss\"}";
+    private static final String ADMINISTRATOR = "{\"status\":\"administrator\",\"user\":" + USER + ",\"can_be_edited\":false,\"is_anonymous\":false,"
+            + "\"can_manage_chat\":true,\"can_delete_messages\":true,\"can_manage_video_chats\":true,\"can_restrict_members\":true,"
+            + "\"can_promote_members\":false,\"can_change_info\":true,\"can_invite_users\":true,\"can_pin_messages\":true,\"can_manage_topics\":true}";
+    private static final String MEMBER = "{\"status\":\"member\",\"user\":" + USER + "}";
+    private static final String RESTRICTED = "{\"status\":\"restricted\",\"user\":" + USER + ",\"is_member\":true,\"can_send_messages\":true,"
+            + "\"can_send_audios\":false,\"can_send_documents\":false,\"can_send_photos\":true,\"can_send_videos\":false,\"can_send_video_notes\":false,"
+            + "\"can_send_voice_notes\":false,\"can_send_polls\":false,\"can_send_other_messages\":false,\"can_add_web_page_previews\":false,"
+            + "\"can_change_info\":false,\"can_invite_users\":true,\"can_pin_messages\":false,\"can_manage_topics\":false,\"until_date\":0}";
+
+    /**
+     * Message returned by sendMessage
+     */
+    static final ByteString SENT_MESSAGE = ByteString.encodeUtf8("{\"ok\":true,\"result\":{\"message_id\":42,\"from\":{\"id\":1,\"is_bot\":true,"
+            + "\"first_name\":\"Bot\",\"username\":\"bot\"},\"chat\":" + GROUP + ",\"date\":1700000000,\"text\":\"Choose an option\","
+            + "\"reply_markup\":{\"inline_keyboard\":[[{\"text\":\"Yes\",\"callback_data\":\"vote:yes\"},{\"text\":\"No\",\"callback_data\":\"vote:no\"}]]}}}");
+
+    /**
+     * Response of the methods that return True
+     */
+    static final ByteString TRUE = ByteString.encodeUtf8("{\"ok\":true,\"result\":true}");
+
+    private Payloads() {
+    }
+
+    /**
+     * Response of getUpdates, cycling through text, photo, callback query and inline query updates
+     * @param count Number of updates
+     */
+    static ByteString updates(int count) {
+        final StringBuilder json = new StringBuilder("{\"ok\":true,\"result\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            //Updates take up to 6 numbers: update id, message or query id, and the ids and usernames of the users
+            json.append(String.format(UPDATES[i % UPDATES.length], 1000 + i, 500 + i, 80 + i, 80 + i, 90 + i, 90 + i));
+        }
+        return ByteString.encodeUtf8(json.append("]}").toString());
+    }
+
+    /**
+     * Response of getChatAdministrators with an owner and several administrators
+     * @param count Number of administrators
+     */
+    static ByteString administrators(int count) {
+        final StringBuilder json = new StringBuilder("{\"ok\":true,\"result\":[").append(String.format(OWNER, 1, 1));
+        for (int i = 0; i < count; i++) {
+            json.append(',').append(String.format(ADMINISTRATOR, 100 + i, 100 + i));
+        }
+        return ByteString.encodeUtf8(json.append("]}").toString());
+    }
+
+    /**
+     * Response of getChatMember for every status with its own fields
+     */
+    static ByteString[] members() {
+        return new ByteString[]{
+                ByteString.encodeUtf8("{\"ok\":true,\"result\":" + String.format(MEMBER, 10, 10) + "}"),
+                ByteString.encodeUtf8("{\"ok\":true,\"result\":" + String.format(RESTRICTED, 11, 11) + "}"),
+                ByteString.encodeUtf8("{\"ok\":true,\"result\":" + String.format(ADMINISTRATOR, 12, 12) + "}"),
+                ByteString.encodeUtf8("{\"ok\":true,\"result\":" + String.format(OWNER, 13, 13) + "}")
+        };
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.benchmark;
+
+import com.cadiducho.telegrambotapi.ParseMode;
+import com.cadiducho.telegrambotapi.TelegramBot;
+import com.cadiducho.telegrambotapi.TelegramBotConfig;
+import com.cadiducho.telegrambotapi.exception.TelegramException;
+import com.cadiducho.telegrambotapi.inline.InlineKeyboardButton;
+import com.cadiducho.telegrambotapi.inline.InlineKeyboardMarkup;
+import com.cadiducho.telegrambotapi.inline.InlineQueryResult;
+import com.cadiducho.telegrambotapi.inline.InlineQueryResultArticle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and encoding the requests of sendMessage with an inline keyboard and of answerInlineQuery,
+ * as JSON and as multipart/form-data, including the decoding of their small responses
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequestEncodingBenchmark {
+
+    @Param({"false", "true"})
+    private boolean multipart;
+
+    private TelegramBot sendBot;
+    private TelegramBot answerBot;
+    private InlineKeyboardMarkup keyboard;
+    private List<InlineQueryResult> results;
+
+    @Setup
+    public void setUp() {
+        sendBot = bot(new InMemoryTransport(Payloads.SENT_MESSAGE));
+        answerBot = bot(new InMemoryTransport(Payloads.TRUE));
+
+        keyboard = new InlineKeyboardMarkup();
+        final List<List<InlineKeyboardButton>> rows = new ArrayList<>();
+        for (int row = 0; row < 3; row++) {
+            final List<InlineKeyboardButton> buttons = new ArrayList<>();
+            for (int column = 0; column < 3; column++) {
+                final InlineKeyboardButton button = new InlineKeyboardButton();
+                button.setText("Option " + row + "-" + column);
+                button.setCallbackData("vote:" + row + ":" + column);
+                buttons.add(button);
+            }
+            rows.add(buttons);
+        }
+        keyboard.setInlineKeyboard(rows);
+
+        results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final InlineQueryResultArticle article = new InlineQueryResultArticle("Result " + i, "Text of the result number " + i);
+            article.setId(Integer.toString(i));
+            article.setDescription("Description of the result number " + i);
+            article.setThumbnailUrl("https://example.com/thumbnails/" + i + ".jpg");
+            results.add(article);
+        }
+    }
+
+    private TelegramBot bot(InMemoryTransport transport) {
+        return new TelegramBot("123456:TOKEN", TelegramBotConfig.builder()
+                .transport(transport)
+                .multipartRequests(multipart)
+                .build());
+    }
+
+    @Benchmark
+    public Object sendMessageWithKeyboard() throws TelegramException {
+        return sendBot.sendMessage(-1001234567890L, null, "Choose an *option*", ParseMode.MARKDOWN, null, null, null, 42, keyboard);
+    }
+
+    @Benchmark
+    public Object answerInlineQuery() throws TelegramException {
+        return answerBot.answerInlineQuery("4382bfdwdsb323b2d9", results, 300, true, "20", null);
+    }
+}
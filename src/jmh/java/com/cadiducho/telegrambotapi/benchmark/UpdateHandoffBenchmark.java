@@ -0,0 +1,91 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.benchmark;
+
+import com.cadiducho.telegrambotapi.Update;
+import com.cadiducho.telegrambotapi.handlers.DefaultBotUpdatesPoller;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Time from a batch of updates being received by the reader thread of the updates poller until the handler has been called for all of them.
+ * The updates supplier spins instead of blocking, so the time is spent in the handoff between the reader and handler threads
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UpdateHandoffBenchmark {
+
+    @Param({"1", "100"})
+    private int batchSize;
+
+    private final AtomicReference<List<Update>> received = new AtomicReference<>();
+    private final AtomicInteger lastHandled = new AtomicInteger();
+    private DefaultBotUpdatesPoller poller;
+    private Update[] updates;
+    private int nextUpdateId;
+
+    @Setup
+    public void setUp() {
+        updates = new Update[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            updates[i] = new Update();
+        }
+        nextUpdateId = 1;
+        lastHandled.set(0);
+
+        //The bot is only used by the default updates supplier
+        poller = new DefaultBotUpdatesPoller(null);
+        poller.setUpdatesSupplier(() -> {
+            List<Update> batch;
+            while ((batch = received.getAndSet(null)) == null) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                Thread.onSpinWait();
+            }
+            return batch;
+        });
+        poller.setHandler(update -> lastHandled.lazySet(update.getUpdateId()));
+        poller.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        poller.stop();
+    }
+
+    @Benchmark
+    public int handoff() {
+        //The previous batch has been handled, so its updates can be reused
+        final List<Update> batch = new ArrayList<>(batchSize);
+        for (Update update : updates) {
+            update.setUpdateId(nextUpdateId++);
+            batch.add(update);
+        }
+        final int last = nextUpdateId - 1;
+        received.set(batch);
+        while (lastHandled.get() < last) {
+            Thread.onSpinWait();
+        }
+        return last;
+    }
+}
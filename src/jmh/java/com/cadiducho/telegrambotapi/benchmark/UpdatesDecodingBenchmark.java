@@ -0,0 +1,54 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.benchmark;
+
+import com.cadiducho.telegrambotapi.util.ApiResponse;
+import com.cadiducho.telegrambotapi.util.MoshiProvider;
+import okio.Buffer;
+import okio.ByteString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of getUpdates responses with a mix of text, photo, callback query and inline query updates,
+ * fully decoded and as {@link com.cadiducho.telegrambotapi.LazyUpdate}s
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UpdatesDecodingBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int updates;
+
+    private ByteString payload;
+
+    @Setup
+    public void setUp() {
+        payload = Payloads.updates(updates);
+    }
+
+    @Benchmark
+    public Object decodeUpdates() throws IOException {
+        return ApiResponse.from(new Buffer().write(payload), MoshiProvider.LIST_OF_UPDATE);
+    }
+
+    @Benchmark
+    public Object decodeLazyUpdates() throws IOException {
+        return ApiResponse.from(new Buffer().write(payload), MoshiProvider.LIST_OF_LAZY_UPDATE);
+    }
+}
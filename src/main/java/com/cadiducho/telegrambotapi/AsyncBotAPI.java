@@ -0,0 +1,786 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi;
+
+import com.cadiducho.telegrambotapi.exception.TelegramException;
+import com.cadiducho.telegrambotapi.game.GameHighScore;
+import com.cadiducho.telegrambotapi.inline.InlineKeyboardMarkup;
+import com.cadiducho.telegrambotapi.inline.InlineQueryResult;
+import com.cadiducho.telegrambotapi.inline.InlineQueryResultsButton;
+import com.cadiducho.telegrambotapi.payment.LabeledPrice;
+import com.cadiducho.telegrambotapi.payment.ShippingOption;
+import com.cadiducho.telegrambotapi.sticker.InputSticker;
+import com.cadiducho.telegrambotapi.sticker.MaskPosition;
+import com.cadiducho.telegrambotapi.sticker.Sticker;
+import com.cadiducho.telegrambotapi.sticker.StickerSet;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous view of a {@link BotAPI}.
+ * Every Telegram method of {@link BotAPI} is mirrored here with the same parameters, but instead of blocking the caller
+ * until Telegram answers, the request is enqueued and a {@link CompletableFuture} is returned.
+ * Failed calls complete the future exceptionally with a {@link TelegramException}.
+ */
+public interface AsyncBotAPI {
+
+    /**
+     * Functional call to a {@link BotAPI} method
+     * @param <T> Type of the result
+     */
+    @FunctionalInterface
+    interface BotMethod<T> {
+        T call(BotAPI bot) throws TelegramException;
+    }
+
+    /**
+     * Get the blocking instance behind this view
+     * @return BotAPI
+     */
+    BotAPI getInstance();
+
+    /**
+     * Execute asynchronously a single {@link BotAPI} method, like <code>execute(bot -> bot.sendMessage(chatId, "Hello"))</code>.
+     * The lambda must invoke exactly one Telegram method, and its returned value is ignored.
+     * @param method The method call to execute
+     * @param <T> Type of the result
+     * @return A future completed with the result of the method
+     */
+    <T> CompletableFuture<T> execute(BotMethod<T> method);
+
+    //---- Telegram Methods ----//
+
+    default CompletableFuture<User> getMe() {
+        return execute(BotAPI::getMe);
+    }
+
+    default CompletableFuture<Boolean> logOut() {
+        return execute(BotAPI::logOut);
+    }
+
+    default CompletableFuture<Boolean> close() {
+        return execute(BotAPI::close);
+    }
+
+    default CompletableFuture<Message> sendMessage(Object chat_id, String text) {
+        return execute(bot -> bot.sendMessage(chat_id, text));
+    }
+
+    default CompletableFuture<Message> sendMessage(Object chat_id, String text, ParseMode parse_mode, Boolean disable_notification, Boolean protect_content, Boolean disable_web_page_preview, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendMessage(chat_id, text, parse_mode, disable_notification, protect_content, disable_web_page_preview, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendMessage(Object chat_id, Integer message_thread_id, String text, ParseMode parse_mode, Boolean disable_notification, Boolean protect_content, Boolean disable_web_page_preview, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendMessage(chat_id, message_thread_id, text, parse_mode, disable_notification, protect_content, disable_web_page_preview, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> forwardMessage(Object chat_id, Integer from_chat_id, Integer message_id) {
+        return execute(bot -> bot.forwardMessage(chat_id, from_chat_id, message_id));
+    }
+
+    default CompletableFuture<Message> forwardMessage(Object chat_id, Integer from_chat_id, Boolean disable_notification, Boolean protect_content, Integer message_id) {
+        return execute(bot -> bot.forwardMessage(chat_id, from_chat_id, disable_notification, protect_content, message_id));
+    }
+
+    default CompletableFuture<Message> forwardMessage(Object chat_id, Integer message_thread_id, Integer from_chat_id, Boolean disable_notification, Boolean protect_content, Integer message_id) {
+        return execute(bot -> bot.forwardMessage(chat_id, message_thread_id, from_chat_id, disable_notification, protect_content, message_id));
+    }
+
+    default CompletableFuture<MessageId> copyMessage(Object chat_id, Object from_chat_id, Integer message_id) {
+        return execute(bot -> bot.copyMessage(chat_id, from_chat_id, message_id));
+    }
+
+    default CompletableFuture<MessageId> copyMessage(Object chat_id, Object from_chat_id, Integer message_id, String caption, String parse_mode, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Boolean allow_sending_without_reply, Object reply_markup) {
+        return execute(bot -> bot.copyMessage(chat_id, from_chat_id, message_id, caption, parse_mode, disable_notification, protect_content, reply_to_message_id, allow_sending_without_reply, reply_markup));
+    }
+
+    default CompletableFuture<MessageId> copyMessage(Object chat_id, Integer message_thread_id, Object from_chat_id, Integer message_id, String caption, String parse_mode, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Boolean allow_sending_without_reply, Object reply_markup) {
+        return execute(bot -> bot.copyMessage(chat_id, message_thread_id, from_chat_id, message_id, caption, parse_mode, disable_notification, protect_content, reply_to_message_id, allow_sending_without_reply, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendPhoto(Object chat_id, String photo) {
+        return execute(bot -> bot.sendPhoto(chat_id, photo));
+    }
+
+    default CompletableFuture<Message> sendPhoto(Object chat_id, java.io.File photo) {
+        return execute(bot -> bot.sendPhoto(chat_id, photo));
+    }
+
+    default CompletableFuture<Message> sendPhoto(Object chat_id, Object photo, String caption, Boolean has_spoiler, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendPhoto(chat_id, photo, caption, has_spoiler, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendPhoto(Object chat_id, Integer message_thread_id, Object photo, String caption, Boolean has_spoiler, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendPhoto(chat_id, message_thread_id, photo, caption, has_spoiler, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendAudio(Object chat_id, String audio) {
+        return execute(bot -> bot.sendAudio(chat_id, audio));
+    }
+
+    default CompletableFuture<Message> sendAudio(Object chat_id, java.io.File audio) {
+        return execute(bot -> bot.sendAudio(chat_id, audio));
+    }
+
+    default CompletableFuture<Message> sendAudio(Object chat_id, Object audio, String caption, Integer duration, String performer, String title, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendAudio(chat_id, audio, caption, duration, performer, title, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendAudio(Object chat_id, Integer message_thread_id, Object audio, String caption, Integer duration, String performer, String title, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendAudio(chat_id, message_thread_id, audio, caption, duration, performer, title, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendDocument(Object chat_id, String document) {
+        return execute(bot -> bot.sendDocument(chat_id, document));
+    }
+
+    default CompletableFuture<Message> sendDocument(Object chat_id, java.io.File document) {
+        return execute(bot -> bot.sendDocument(chat_id, document));
+    }
+
+    default CompletableFuture<Message> sendDocument(Object chat_id, Object document, Boolean disable_content_type_detection, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendDocument(chat_id, document, disable_content_type_detection, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendDocument(Object chat_id, Integer message_thread_id, Object document, Boolean disable_content_type_detection, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendDocument(chat_id, message_thread_id, document, disable_content_type_detection, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendVideo(Object chat_id, String video) {
+        return execute(bot -> bot.sendVideo(chat_id, video));
+    }
+
+    default CompletableFuture<Message> sendVideo(Object chat_id, java.io.File video) {
+        return execute(bot -> bot.sendVideo(chat_id, video));
+    }
+
+    default CompletableFuture<Message> sendVideo(Object chat_id, Object video, Integer duration, Integer width, Integer height, String caption, ParseMode parse_mode, Boolean has_spoiler, Boolean supports_streaming, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendVideo(chat_id, video, duration, width, height, caption, parse_mode, has_spoiler, supports_streaming, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendVideo(Object chat_id, Integer message_thread_id, Object video, Integer duration, Integer width, Integer height, String caption, ParseMode parse_mode, Boolean has_spoiler, Boolean supports_streaming, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendVideo(chat_id, message_thread_id, video, duration, width, height, caption, parse_mode, has_spoiler, supports_streaming, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendAnimation(Object chat_id, String animation) {
+        return execute(bot -> bot.sendAnimation(chat_id, animation));
+    }
+
+    default CompletableFuture<Message> sendAnimation(Object chat_id, java.io.File animation) {
+        return execute(bot -> bot.sendAnimation(chat_id, animation));
+    }
+
+    default CompletableFuture<Message> sendAnimation(Object chat_id, Object animation, Integer duration, Integer width, Integer height, Object thumbnail, String caption, ParseMode parse_mode, Boolean has_spoiler, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendAnimation(chat_id, animation, duration, width, height, thumbnail, caption, parse_mode, has_spoiler, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendAnimation(Object chat_id, Integer message_thread_id, Object animation, Integer duration, Integer width, Integer height, Object thumbnail, String caption, ParseMode parse_mode, Boolean has_spoiler, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendAnimation(chat_id, message_thread_id, animation, duration, width, height, thumbnail, caption, parse_mode, has_spoiler, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendVoice(Object chat_id, String voice) {
+        return execute(bot -> bot.sendVoice(chat_id, voice));
+    }
+
+    default CompletableFuture<Message> sendVoice(Object chat_id, java.io.File voice) {
+        return execute(bot -> bot.sendVoice(chat_id, voice));
+    }
+
+    default CompletableFuture<Message> sendVoice(Object chat_id, Object voice, String caption, Integer duration, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendVoice(chat_id, voice, caption, duration, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendVoice(Object chat_id, Integer message_thread_id, Object voice, String caption, Integer duration, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendVoice(chat_id, message_thread_id, voice, caption, duration, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendMediaGroup(Object chat_id, List<InputMedia> media) {
+        return execute(bot -> bot.sendMediaGroup(chat_id, media));
+    }
+
+    default CompletableFuture<Message> sendMediaGroup(Object chat_id, List<InputMedia> media, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id) {
+        return execute(bot -> bot.sendMediaGroup(chat_id, media, disable_notification, protect_content, reply_to_message_id));
+    }
+
+    default CompletableFuture<Message> sendMediaGroup(Object chat_id, Integer message_thread_id, List<InputMedia> media, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id) {
+        return execute(bot -> bot.sendMediaGroup(chat_id, message_thread_id, media, disable_notification, protect_content, reply_to_message_id));
+    }
+
+    default CompletableFuture<Message> sendLocation(Object chat_id, Float latitude, Float longitude) {
+        return execute(bot -> bot.sendLocation(chat_id, latitude, longitude));
+    }
+
+    default CompletableFuture<Message> sendLocation(Object chat_id, Float latitude, Float longitude, Float horizontal_accuracy, Integer live_period, Integer heading, Integer proximity_alert_radius, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendLocation(chat_id, latitude, longitude, horizontal_accuracy, live_period, heading, proximity_alert_radius, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendLocation(Object chat_id, Integer message_thread_id, Float latitude, Float longitude, Float horizontal_accuracy, Integer live_period, Integer heading, Integer proximity_alert_radius, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendLocation(chat_id, message_thread_id, latitude, longitude, horizontal_accuracy, live_period, heading, proximity_alert_radius, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Object> editMessageLiveLocation(Object chat_id, Integer message_id, String inline_message_id, Float latitude, Float longitude, Float horizontal_accuracy, Integer heading, Integer proximity_alert_radius, InlineKeyboardMarkup reply_markup) {
+        return execute(bot -> bot.editMessageLiveLocation(chat_id, message_id, inline_message_id, latitude, longitude, horizontal_accuracy, heading, proximity_alert_radius, reply_markup));
+    }
+
+    default CompletableFuture<Object> stopMessageLiveLocation(Object chat_id, Integer message_id, String inline_message_id, InlineKeyboardMarkup reply_markup) {
+        return execute(bot -> bot.stopMessageLiveLocation(chat_id, message_id, inline_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendVideoNote(Object chat_id, String video_note) {
+        return execute(bot -> bot.sendVideoNote(chat_id, video_note));
+    }
+
+    default CompletableFuture<Message> sendVideoNote(Object chat_id, java.io.File video_note) {
+        return execute(bot -> bot.sendVideoNote(chat_id, video_note));
+    }
+
+    default CompletableFuture<Message> sendVideoNote(Object chat_id, Object video_note, Integer duration, Integer length, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendVideoNote(chat_id, video_note, duration, length, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendVideoNote(Object chat_id, Integer message_thread_id, Object video_note, Integer duration, Integer length, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendVideoNote(chat_id, message_thread_id, video_note, duration, length, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendVenue(Object chat_id, Float latitude, Float longitude, String title, String address) {
+        return execute(bot -> bot.sendVenue(chat_id, latitude, longitude, title, address));
+    }
+
+    default CompletableFuture<Message> sendVenue(Object chat_id, Float latitude, Float longitude, String title, String address, String foursquare_id, String foursquare_type, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendVenue(chat_id, latitude, longitude, title, address, foursquare_id, foursquare_type, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendVenue(Object chat_id, Integer message_thread_id, Float latitude, Float longitude, String title, String address, String foursquare_id, String foursquare_type, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendVenue(chat_id, message_thread_id, latitude, longitude, title, address, foursquare_id, foursquare_type, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendContact(Object chat_id, String phone_number, String first_name) {
+        return execute(bot -> bot.sendContact(chat_id, phone_number, first_name));
+    }
+
+    default CompletableFuture<Message> sendContact(Object chat_id, String phone_number, String first_name, String last_name, String vcard, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendContact(chat_id, phone_number, first_name, last_name, vcard, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendContact(Object chat_id, Integer message_thread_id, String phone_number, String first_name, String last_name, String vcard, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendContact(chat_id, message_thread_id, phone_number, first_name, last_name, vcard, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendPoll(Object chat_id, String question, List<String> options) {
+        return execute(bot -> bot.sendPoll(chat_id, question, options));
+    }
+
+    default CompletableFuture<Message> sendPoll(Object chat_id, String question, List<String> options, Boolean is_anonymous, String type, Boolean allows_multiple_answers, Integer correct_option_id, String explanation, String explanation_parse_mode, Integer open_period, Integer close_date, Boolean is_closed, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendPoll(chat_id, question, options, is_anonymous, type, allows_multiple_answers, correct_option_id, explanation, explanation_parse_mode, open_period, close_date, is_closed, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendPoll(Object chat_id, Integer message_thread_id, String question, List<String> options, Boolean is_anonymous, String type, Boolean allows_multiple_answers, Integer correct_option_id, String explanation, String explanation_parse_mode, Integer open_period, Integer close_date, Boolean is_closed, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendPoll(chat_id, message_thread_id, question, options, is_anonymous, type, allows_multiple_answers, correct_option_id, explanation, explanation_parse_mode, open_period, close_date, is_closed, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendDice(Object chat_id) {
+        return execute(bot -> bot.sendDice(chat_id));
+    }
+
+    default CompletableFuture<Message> sendDice(Object chat_id, String emoji, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendDice(chat_id, emoji, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendDice(Object chat_id, Integer message_thread_id, String emoji, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendDice(chat_id, message_thread_id, emoji, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Boolean> sendChatAction(Object chat_id, String action) {
+        return execute(bot -> bot.sendChatAction(chat_id, action));
+    }
+
+    default CompletableFuture<Boolean> sendChatAction(Object chat_id, Integer message_thread_id, String action) {
+        return execute(bot -> bot.sendChatAction(chat_id, message_thread_id, action));
+    }
+
+    default CompletableFuture<Boolean> sendChatAction(Object chat_id, BotAPI.ChatAction action) {
+        return execute(bot -> bot.sendChatAction(chat_id, action));
+    }
+
+    default CompletableFuture<UserProfilePhotos> getUserProfilePhotos(Long user_id) {
+        return execute(bot -> bot.getUserProfilePhotos(user_id));
+    }
+
+    default CompletableFuture<UserProfilePhotos> getUserProfilePhotos(Long user_id, Integer offset, Integer limit) {
+        return execute(bot -> bot.getUserProfilePhotos(user_id, offset, limit));
+    }
+
+    default CompletableFuture<File> getFile(String file_id) {
+        return execute(bot -> bot.getFile(file_id));
+    }
+
+    default CompletableFuture<Boolean> banChatMember(Object chat_id, Long user_id) {
+        return execute(bot -> bot.banChatMember(chat_id, user_id));
+    }
+
+    default CompletableFuture<Boolean> banChatMember(Object chat_id, Long user_id, Integer until_date, Boolean revoke_messages) {
+        return execute(bot -> bot.banChatMember(chat_id, user_id, until_date, revoke_messages));
+    }
+
+    default CompletableFuture<Boolean> leaveChat(Object chat_id) {
+        return execute(bot -> bot.leaveChat(chat_id));
+    }
+
+    default CompletableFuture<Boolean> unbanChatMember(Object chat_id, Long user_id) {
+        return execute(bot -> bot.unbanChatMember(chat_id, user_id));
+    }
+
+    default CompletableFuture<Boolean> unbanChatMember(Object chat_id, Long user_id, Boolean only_if_banned) {
+        return execute(bot -> bot.unbanChatMember(chat_id, user_id, only_if_banned));
+    }
+
+    default CompletableFuture<Boolean> restrictChatMember(Object chat_id, Long user_id, ChatPermissions permissions) {
+        return execute(bot -> bot.restrictChatMember(chat_id, user_id, permissions));
+    }
+
+    default CompletableFuture<Boolean> restrictChatMember(Object chat_id, Long user_id, ChatPermissions permissions, Boolean use_independent_chat_permissions, Integer until_date) {
+        return execute(bot -> bot.restrictChatMember(chat_id, user_id, permissions, use_independent_chat_permissions, until_date));
+    }
+
+    default CompletableFuture<Boolean> promoteChatMember(Object chat_id, Long user_id, Boolean is_anonymous, Boolean can_manage_chat, Boolean can_change_info, Boolean can_post_messages, Boolean can_edit_messages, Boolean can_delete_messages, Boolean can_manage_voice_chats, Boolean can_invite_users, Boolean can_restrict_members, Boolean can_pin_messages, Boolean can_promote_members, Boolean can_post_stories, Boolean can_edit_stories, Boolean can_delete_stories, Boolean can_manage_topics) {
+        return execute(bot -> bot.promoteChatMember(chat_id, user_id, is_anonymous, can_manage_chat, can_change_info, can_post_messages, can_edit_messages, can_delete_messages, can_manage_voice_chats, can_invite_users, can_restrict_members, can_pin_messages, can_promote_members, can_post_stories, can_edit_stories, can_delete_stories, can_manage_topics));
+    }
+
+    default CompletableFuture<Boolean> setChatAdministratorCustomTitle(Object chat_id, Long user_id, String custom_title) {
+        return execute(bot -> bot.setChatAdministratorCustomTitle(chat_id, user_id, custom_title));
+    }
+
+    default CompletableFuture<Boolean> banChatSenderChat(Object chat_id, String sender_chat_id) {
+        return execute(bot -> bot.banChatSenderChat(chat_id, sender_chat_id));
+    }
+
+    default CompletableFuture<Boolean> unbanChatSenderChat(Object chat_id, String sender_chat_id) {
+        return execute(bot -> bot.unbanChatSenderChat(chat_id, sender_chat_id));
+    }
+
+    default CompletableFuture<Boolean> setChatPermissions(Object chat_id, ChatPermissions permissions, Boolean use_independent_chat_permissions) {
+        return execute(bot -> bot.setChatPermissions(chat_id, permissions, use_independent_chat_permissions));
+    }
+
+    default CompletableFuture<String> exportChatInviteLink(Object chat_id) {
+        return execute(bot -> bot.exportChatInviteLink(chat_id));
+    }
+
+    default CompletableFuture<ChatInviteLink> createChatInviteLink(Object chat_id) {
+        return execute(bot -> bot.createChatInviteLink(chat_id));
+    }
+
+    default CompletableFuture<ChatInviteLink> createChatInviteLink(Object chat_id, String name, Integer expire_date, Integer member_limit, Boolean creates_join_request) {
+        return execute(bot -> bot.createChatInviteLink(chat_id, name, expire_date, member_limit, creates_join_request));
+    }
+
+    default CompletableFuture<ChatInviteLink> editChatInviteLink(Object chat_id, String invite_link, String name, Integer expire_date, Integer member_limit, Boolean creates_join_request) {
+        return execute(bot -> bot.editChatInviteLink(chat_id, invite_link, name, expire_date, member_limit, creates_join_request));
+    }
+
+    default CompletableFuture<ChatInviteLink> revokeChatInviteLink(Object chat_id, String invite_link) {
+        return execute(bot -> bot.revokeChatInviteLink(chat_id, invite_link));
+    }
+
+    default CompletableFuture<Boolean> approveChatJoinRequest(Object chat_id, Long user_id) {
+        return execute(bot -> bot.approveChatJoinRequest(chat_id, user_id));
+    }
+
+    default CompletableFuture<Boolean> declineChatJoinRequest(Object chat_id, Long user_id) {
+        return execute(bot -> bot.declineChatJoinRequest(chat_id, user_id));
+    }
+
+    default CompletableFuture<Boolean> setChatPhoto(Object chat_id, Object photo) {
+        return execute(bot -> bot.setChatPhoto(chat_id, photo));
+    }
+
+    default CompletableFuture<Boolean> deleteChatPhoto(Object chat_id) {
+        return execute(bot -> bot.deleteChatPhoto(chat_id));
+    }
+
+    default CompletableFuture<Boolean> setChatTitle(Object chat_id, String title) {
+        return execute(bot -> bot.setChatTitle(chat_id, title));
+    }
+
+    default CompletableFuture<Boolean> setChatDescription(Object chat_id) {
+        return execute(bot -> bot.setChatDescription(chat_id));
+    }
+
+    default CompletableFuture<Boolean> setChatDescription(Object chat_id, String description) {
+        return execute(bot -> bot.setChatDescription(chat_id, description));
+    }
+
+    default CompletableFuture<Boolean> pinChatMessage(Object chat_id, Integer message_id) {
+        return execute(bot -> bot.pinChatMessage(chat_id, message_id));
+    }
+
+    default CompletableFuture<Boolean> pinChatMessage(Object chat_id, Integer message_id, Boolean disable_notification) {
+        return execute(bot -> bot.pinChatMessage(chat_id, message_id, disable_notification));
+    }
+
+    default CompletableFuture<Boolean> unpinChatMessage(Object chat_id) {
+        return execute(bot -> bot.unpinChatMessage(chat_id));
+    }
+
+    default CompletableFuture<Boolean> unpinChatMessage(Object chat_id, Integer message_id) {
+        return execute(bot -> bot.unpinChatMessage(chat_id, message_id));
+    }
+
+    default CompletableFuture<Boolean> unpinAllChatMessages(Object chat_id) {
+        return execute(bot -> bot.unpinAllChatMessages(chat_id));
+    }
+
+    default CompletableFuture<Chat> getChat(Object chat_id) {
+        return execute(bot -> bot.getChat(chat_id));
+    }
+
+    default CompletableFuture<List<ChatMember>> getChatAdministrators(Object chat_id) {
+        return execute(bot -> bot.getChatAdministrators(chat_id));
+    }
+
+    default CompletableFuture<Integer> getChatMemberCount(Object chat_id) {
+        return execute(bot -> bot.getChatMemberCount(chat_id));
+    }
+
+    default CompletableFuture<ChatMember> getChatMember(Object chat_id, Long user_id) {
+        return execute(bot -> bot.getChatMember(chat_id, user_id));
+    }
+
+    default CompletableFuture<Boolean> setChatStickerSet(Object chat_id, String sticker_set_name) {
+        return execute(bot -> bot.setChatStickerSet(chat_id, sticker_set_name));
+    }
+
+    default CompletableFuture<Boolean> deleteChatStickerSet(Object chat_id) {
+        return execute(bot -> bot.deleteChatStickerSet(chat_id));
+    }
+
+    default CompletableFuture<List<Sticker>> getForumTopicIconStickers() {
+        return execute(BotAPI::getForumTopicIconStickers);
+    }
+
+    default CompletableFuture<ForumTopic> createForumTopic(Object chat_id, String name) {
+        return execute(bot -> bot.createForumTopic(chat_id, name));
+    }
+
+    default CompletableFuture<ForumTopic> createForumTopic(Object chat_id, String name, Integer icon_color, String icon_custom_emoji_id) {
+        return execute(bot -> bot.createForumTopic(chat_id, name, icon_color, icon_custom_emoji_id));
+    }
+
+    default CompletableFuture<Boolean> editForumTopic(Object chat_id, Integer message_thread_id, String name, String icon_custom_emoji_id) {
+        return execute(bot -> bot.editForumTopic(chat_id, message_thread_id, name, icon_custom_emoji_id));
+    }
+
+    default CompletableFuture<Boolean> closeForumTopic(Object chat_id, Integer message_thread_id) {
+        return execute(bot -> bot.closeForumTopic(chat_id, message_thread_id));
+    }
+
+    default CompletableFuture<Boolean> reopenForumTopic(Object chat_id, Integer message_thread_id) {
+        return execute(bot -> bot.reopenForumTopic(chat_id, message_thread_id));
+    }
+
+    default CompletableFuture<Boolean> deleteForumTopic(Object chat_id, Integer message_thread_id) {
+        return execute(bot -> bot.deleteForumTopic(chat_id, message_thread_id));
+    }
+
+    default CompletableFuture<Boolean> unpinAllForumTopicMessages(Object chat_id, Integer message_thread_id) {
+        return execute(bot -> bot.unpinAllForumTopicMessages(chat_id, message_thread_id));
+    }
+
+    default CompletableFuture<Boolean> editGeneralForumTopic(Object chat_id, String name) {
+        return execute(bot -> bot.editGeneralForumTopic(chat_id, name));
+    }
+
+    default CompletableFuture<Boolean> closeGeneralForumTopic(Object chat_id) {
+        return execute(bot -> bot.closeGeneralForumTopic(chat_id));
+    }
+
+    default CompletableFuture<Boolean> reopenGeneralForumTopic(Object chat_id) {
+        return execute(bot -> bot.reopenGeneralForumTopic(chat_id));
+    }
+
+    default CompletableFuture<Boolean> hideGeneralForumTopic(Object chat_id) {
+        return execute(bot -> bot.hideGeneralForumTopic(chat_id));
+    }
+
+    default CompletableFuture<Boolean> unhideGeneralForumTopic(Object chat_id) {
+        return execute(bot -> bot.unhideGeneralForumTopic(chat_id));
+    }
+
+    default CompletableFuture<Boolean> unpinAllGeneralForumTopicMessages(Object chat_id) {
+        return execute(bot -> bot.unpinAllGeneralForumTopicMessages(chat_id));
+    }
+
+    default CompletableFuture<Boolean> answerCallbackQuery(String callback_query_id) {
+        return execute(bot -> bot.answerCallbackQuery(callback_query_id));
+    }
+
+    default CompletableFuture<Boolean> answerCallbackQuery(String callback_query_id, String text, Boolean show_alert, String url, Integer cache_time) {
+        return execute(bot -> bot.answerCallbackQuery(callback_query_id, text, show_alert, url, cache_time));
+    }
+
+    default CompletableFuture<Boolean> setMyCommands(List<BotCommand> commands, BotCommandScope scope, String language_code) {
+        return execute(bot -> bot.setMyCommands(commands, scope, language_code));
+    }
+
+    default CompletableFuture<Boolean> setMyCommands(List<BotCommand> commands) {
+        return execute(bot -> bot.setMyCommands(commands));
+    }
+
+    default CompletableFuture<Boolean> deleteMyCommands(BotCommandScope scope, String language_code) {
+        return execute(bot -> bot.deleteMyCommands(scope, language_code));
+    }
+
+    default CompletableFuture<List<BotCommand>> getMyCommands(BotCommandScope scope, String language_code) {
+        return execute(bot -> bot.getMyCommands(scope, language_code));
+    }
+
+    default CompletableFuture<List<BotCommand>> getMyCommands() {
+        return execute(BotAPI::getMyCommands);
+    }
+
+    default CompletableFuture<Boolean> setMyName(String name, String language_code) {
+        return execute(bot -> bot.setMyName(name, language_code));
+    }
+
+    default CompletableFuture<BotName> getMyName(String language_code) {
+        return execute(bot -> bot.getMyName(language_code));
+    }
+
+    default CompletableFuture<Boolean> setMyDescription(String description, String language_code) {
+        return execute(bot -> bot.setMyDescription(description, language_code));
+    }
+
+    default CompletableFuture<BotDescription> getMyDescription(String language_code) {
+        return execute(bot -> bot.getMyDescription(language_code));
+    }
+
+    default CompletableFuture<Boolean> setMyShortDescription(String short_description, String language_code) {
+        return execute(bot -> bot.setMyShortDescription(short_description, language_code));
+    }
+
+    default CompletableFuture<BotShortDescription> getMyShortDescription(String language_code) {
+        return execute(bot -> bot.getMyShortDescription(language_code));
+    }
+
+    default CompletableFuture<Boolean> setChatMenuButton(Object chat_id, MenuButton menu_button) {
+        return execute(bot -> bot.setChatMenuButton(chat_id, menu_button));
+    }
+
+    default CompletableFuture<MenuButton> getChatMenuButton(Object chat_id) {
+        return execute(bot -> bot.getChatMenuButton(chat_id));
+    }
+
+    default CompletableFuture<Boolean> setMyDefaultAdministratorRights(ChatAdministratorRights rights, Boolean for_channels) {
+        return execute(bot -> bot.setMyDefaultAdministratorRights(rights, for_channels));
+    }
+
+    default CompletableFuture<ChatAdministratorRights> getMyDefaultAdministratorRights(Boolean for_channels) {
+        return execute(bot -> bot.getMyDefaultAdministratorRights(for_channels));
+    }
+
+    default CompletableFuture<Message> editMessageText(Object chat_id, Integer message_id, String inline_message_id, String text, ParseMode parse_mode, Boolean disable_web_page_preview, InlineKeyboardMarkup reply_markup) {
+        return execute(bot -> bot.editMessageText(chat_id, message_id, inline_message_id, text, parse_mode, disable_web_page_preview, reply_markup));
+    }
+
+    default CompletableFuture<Message> editMessageCaption(Object chat_id, Integer message_id, String inline_message_id, String caption, ParseMode parseMode, InlineKeyboardMarkup reply_markup) {
+        return execute(bot -> bot.editMessageCaption(chat_id, message_id, inline_message_id, caption, parseMode, reply_markup));
+    }
+
+    default CompletableFuture<Message> editMessageMedia(Object chat_id, Integer message_id, String inline_message_id, InputMedia media, InlineKeyboardMarkup reply_markup) {
+        return execute(bot -> bot.editMessageMedia(chat_id, message_id, inline_message_id, media, reply_markup));
+    }
+
+    default CompletableFuture<Message> editMessageReplyMarkup(Object chat_id, Integer message_id, String inline_message_id, InlineKeyboardMarkup reply_markup) {
+        return execute(bot -> bot.editMessageReplyMarkup(chat_id, message_id, inline_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Poll> stopPoll(Object chat_id, Integer message_id) {
+        return execute(bot -> bot.stopPoll(chat_id, message_id));
+    }
+
+    default CompletableFuture<Poll> stopPoll(Object chat_id, Integer message_id, InlineKeyboardMarkup reply_markup) {
+        return execute(bot -> bot.stopPoll(chat_id, message_id, reply_markup));
+    }
+
+    default CompletableFuture<Boolean> deleteMessage(Object chat_id, Integer message_id) {
+        return execute(bot -> bot.deleteMessage(chat_id, message_id));
+    }
+
+    default CompletableFuture<List<Update>> getUpdates(Integer offset, Integer limit, Integer timeout, List<String> allowed_updates) {
+        return execute(bot -> bot.getUpdates(offset, limit, timeout, allowed_updates));
+    }
+
+    default CompletableFuture<WebhookInfo> getWebhookInfo() {
+        return execute(BotAPI::getWebhookInfo);
+    }
+
+    default CompletableFuture<Boolean> setWebhook(String url, java.io.File certificate, String ip_address, Integer max_connections, List<String> allowed_updates, Boolean drop_pending_updates, String secret_token) {
+        return execute(bot -> bot.setWebhook(url, certificate, ip_address, max_connections, allowed_updates, drop_pending_updates, secret_token));
+    }
+
+    default CompletableFuture<Boolean> deleteWebhook() {
+        return execute(BotAPI::deleteWebhook);
+    }
+
+    default CompletableFuture<Boolean> deleteWebhook(Boolean drop_pending_updates) {
+        return execute(bot -> bot.deleteWebhook(drop_pending_updates));
+    }
+
+    default CompletableFuture<Message> sendSticker(Object chat_id, String sticker) {
+        return execute(bot -> bot.sendSticker(chat_id, sticker));
+    }
+
+    default CompletableFuture<Message> sendSticker(Object chat_id, java.io.File sticker) {
+        return execute(bot -> bot.sendSticker(chat_id, sticker));
+    }
+
+    default CompletableFuture<Message> sendSticker(Object chat_id, Object sticker, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendSticker(chat_id, sticker, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendSticker(Object chat_id, Integer message_thread_id, Object sticker, String emoji, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) {
+        return execute(bot -> bot.sendSticker(chat_id, message_thread_id, sticker, emoji, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<StickerSet> getStickerSet(String name) {
+        return execute(bot -> bot.getStickerSet(name));
+    }
+
+    default CompletableFuture<List<Sticker>> getCustomEmojiStickers(List<String> custom_emoji_ids) {
+        return execute(bot -> bot.getCustomEmojiStickers(custom_emoji_ids));
+    }
+
+    default CompletableFuture<File> uploadStickerFile(Long user_id, Object png_sticker) {
+        return execute(bot -> bot.uploadStickerFile(user_id, png_sticker));
+    }
+
+    default CompletableFuture<Boolean> createNewStickerSet(Long user_id, String name, String title, List<InputSticker> stickers, String sticker_format, String sticker_type, Boolean needs_repainting) {
+        return execute(bot -> bot.createNewStickerSet(user_id, name, title, stickers, sticker_format, sticker_type, needs_repainting));
+    }
+
+    default CompletableFuture<Boolean> addStickerToSet(Long user_id, String name, InputSticker sticker) {
+        return execute(bot -> bot.addStickerToSet(user_id, name, sticker));
+    }
+
+    default CompletableFuture<Boolean> setStickerPositionInSet(String sticker, Integer position) {
+        return execute(bot -> bot.setStickerPositionInSet(sticker, position));
+    }
+
+    default CompletableFuture<Boolean> deleteStickerFromSet(String sticker) {
+        return execute(bot -> bot.deleteStickerFromSet(sticker));
+    }
+
+    default CompletableFuture<Boolean> setStickerMaskPosition(String name, com.cadiducho.telegrambotapi.sticker.MaskPosition mask_position) {
+        return execute(bot -> bot.setStickerMaskPosition(name, mask_position));
+    }
+
+    default CompletableFuture<Boolean> setStickerSetTitle(String name, String title) {
+        return execute(bot -> bot.setStickerSetTitle(name, title));
+    }
+
+    default CompletableFuture<Boolean> setStickerSetThumbnail(String name, Long user_id, java.io.File thumbnail) {
+        return execute(bot -> bot.setStickerSetThumbnail(name, user_id, thumbnail));
+    }
+
+    default CompletableFuture<Boolean> setStickerSetThumbnail(String name, Long user_id, String thumbnail) {
+        return execute(bot -> bot.setStickerSetThumbnail(name, user_id, thumbnail));
+    }
+
+    default CompletableFuture<Boolean> setCustomEmojiStickerSetThumbnail(String name, String custom_emoji_id) {
+        return execute(bot -> bot.setCustomEmojiStickerSetThumbnail(name, custom_emoji_id));
+    }
+
+    default CompletableFuture<Boolean> deleteStickerSet(String name) {
+        return execute(bot -> bot.deleteStickerSet(name));
+    }
+
+    default CompletableFuture<Boolean> setStickerEmojiList(String sticker, List<String> emoji_list) {
+        return execute(bot -> bot.setStickerEmojiList(sticker, emoji_list));
+    }
+
+    default CompletableFuture<Boolean> setStickerKeywords(String sticker, List<String> keywords) {
+        return execute(bot -> bot.setStickerKeywords(sticker, keywords));
+    }
+
+    default CompletableFuture<Boolean> answerInlineQuery(String inlineQueryId, List<InlineQueryResult> results) {
+        return execute(bot -> bot.answerInlineQuery(inlineQueryId, results));
+    }
+
+    default CompletableFuture<Boolean> answerInlineQuery(String inlineQueryId, List<InlineQueryResult> results, Integer cache_time, Boolean is_personal, String next_offset, InlineQueryResultsButton button) {
+        return execute(bot -> bot.answerInlineQuery(inlineQueryId, results, cache_time, is_personal, next_offset, button));
+    }
+
+    default CompletableFuture<SentWebAppMessage> answerWebAppQuery(String web_app_query_id, InlineQueryResult result) {
+        return execute(bot -> bot.answerWebAppQuery(web_app_query_id, result));
+    }
+
+    default CompletableFuture<Message> sendInvoice(Integer chat_id, String title, String description, String payload, String provider_token, String currency, List<LabeledPrice> prices, Integer max_tip_amount, List<Integer> suggested_tip_amounts, String start_parameter) {
+        return execute(bot -> bot.sendInvoice(chat_id, title, description, payload, provider_token, currency, prices, max_tip_amount, suggested_tip_amounts, start_parameter));
+    }
+
+    default CompletableFuture<Message> sendInvoice(Integer chat_id, String title, String description, String payload, String provider_token, String start_parameter, String currency, List<LabeledPrice> prices, String provider_data, String photo_url, Integer photo_size, Integer photo_width, Integer photo_height, Boolean need_name, Boolean need_phone_number, Boolean need_email, Boolean need_shipping_address, Boolean send_phone_number_to_provider, Boolean send_email_to_provider, Boolean is_flexible, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, InlineKeyboardMarkup reply_markup) {
+        return execute(bot -> bot.sendInvoice(chat_id, title, description, payload, provider_token, start_parameter, currency, prices, provider_data, photo_url, photo_size, photo_width, photo_height, need_name, need_phone_number, need_email, need_shipping_address, send_phone_number_to_provider, send_email_to_provider, is_flexible, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendInvoice(Integer chat_id, Integer message_thread_id, String title, String description, String payload, String provider_token, String start_parameter, String currency, List<LabeledPrice> prices, String provider_data, String photo_url, Integer photo_size, Integer photo_width, Integer photo_height, Boolean need_name, Boolean need_phone_number, Boolean need_email, Boolean need_shipping_address, Boolean send_phone_number_to_provider, Boolean send_email_to_provider, Boolean is_flexible, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, InlineKeyboardMarkup reply_markup) {
+        return execute(bot -> bot.sendInvoice(chat_id, message_thread_id, title, description, payload, provider_token, start_parameter, currency, prices, provider_data, photo_url, photo_size, photo_width, photo_height, need_name, need_phone_number, need_email, need_shipping_address, send_phone_number_to_provider, send_email_to_provider, is_flexible, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<String> createInvoiceLink(String title, String description, String payload, String provider_token, String currency, List<LabeledPrice> prices) {
+        return execute(bot -> bot.createInvoiceLink(title, description, payload, provider_token, currency, prices));
+    }
+
+    default CompletableFuture<String> createInvoiceLink(String title, String description, String payload, String provider_token, String currency, List<LabeledPrice> prices, Integer max_tip_amount, List<Integer> suggested_tip_amounts, String provider_data, String photo_url, Integer photo_size, Integer photo_width, Integer photo_height, Boolean need_name, Boolean need_phone_number, Boolean need_email, Boolean need_shipping_address, Boolean send_phone_number_to_provider, Boolean send_email_to_provider, Boolean is_flexible) {
+        return execute(bot -> bot.createInvoiceLink(title, description, payload, provider_token, currency, prices, max_tip_amount, suggested_tip_amounts, provider_data, photo_url, photo_size, photo_width, photo_height, need_name, need_phone_number, need_email, need_shipping_address, send_phone_number_to_provider, send_email_to_provider, is_flexible));
+    }
+
+    default CompletableFuture<Boolean> answerShippingQuery(String shipping_query_id, Boolean ok) {
+        return execute(bot -> bot.answerShippingQuery(shipping_query_id, ok));
+    }
+
+    default CompletableFuture<Boolean> answerShippingQuery(String shipping_query_id, Boolean ok, List<ShippingOption> shipping_options, String error_message) {
+        return execute(bot -> bot.answerShippingQuery(shipping_query_id, ok, shipping_options, error_message));
+    }
+
+    default CompletableFuture<Boolean> answerPreCheckoutQuery(String pre_checkout_query_id, Boolean ok) {
+        return execute(bot -> bot.answerPreCheckoutQuery(pre_checkout_query_id, ok));
+    }
+
+    default CompletableFuture<Boolean> answerPreCheckoutQuery(String pre_checkout_query_id, Boolean ok, String error_message) {
+        return execute(bot -> bot.answerPreCheckoutQuery(pre_checkout_query_id, ok, error_message));
+    }
+
+    default CompletableFuture<Message> sendGame(Object chat_id, String game_short_name) {
+        return execute(bot -> bot.sendGame(chat_id, game_short_name));
+    }
+
+    default CompletableFuture<Message> sendGame(Object chat_id, String game_short_name, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, InlineKeyboardMarkup reply_markup) {
+        return execute(bot -> bot.sendGame(chat_id, game_short_name, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Message> sendGame(Object chat_id, Integer message_thread_id, String game_short_name, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, InlineKeyboardMarkup reply_markup) {
+        return execute(bot -> bot.sendGame(chat_id, message_thread_id, game_short_name, disable_notification, protect_content, reply_to_message_id, reply_markup));
+    }
+
+    default CompletableFuture<Object> setGameScore(Long user_id, Integer score) {
+        return execute(bot -> bot.setGameScore(user_id, score));
+    }
+
+    default CompletableFuture<Object> setGameScore(Long user_id, Integer score, Boolean force, Boolean disable_edit_message, Object chat_id, Integer message_id, String inline_message_id) {
+        return execute(bot -> bot.setGameScore(user_id, score, force, disable_edit_message, chat_id, message_id, inline_message_id));
+    }
+
+    default CompletableFuture<List<GameHighScore>> getGameHighScores(Long user_id) {
+        return execute(bot -> bot.getGameHighScores(user_id));
+    }
+
+    default CompletableFuture<List<GameHighScore>> getGameHighScores(Long user_id, Object chat_id, Integer message_id, String inline_message_id) {
+        return execute(bot -> bot.getGameHighScores(user_id, chat_id, message_id, inline_message_id));
+    }
+}
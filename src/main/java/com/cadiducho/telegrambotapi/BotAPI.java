@@ -53,6 +53,16 @@ public interface BotAPI {
      * @return BotAPI
      */
     BotAPI getInstance();
+
+    /**
+     * Get the asynchronous view of this bot, whose methods return a {@link java.util.concurrent.CompletableFuture}
+     * instead of blocking until Telegram answers. Implementations written before it existed do not support it
+     * @return AsyncBotAPI
+     * @throws UnsupportedOperationException If this implementation has no asynchronous view, unlike {@link TelegramBot}
+     */
+    default AsyncBotAPI getAsyncInstance() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not implement getAsyncInstance(), use TelegramBot for asynchronous calls");
+    }
     
     //---- Telegram Methods ----//
     
@@ -1366,11 +1376,11 @@ public interface BotAPI {
      * The bot must be an administrator in the chat for this to work and must have the appropriate admin rights.     * 
      * Note: In regular groups (non-supergroups), this method will only work if the ‘All Members Are Admins’ setting is off in the target group.
      * @param chat_id Unique identifier for the target chat or username of the target supergroup or channel (in the format @channelusername)
-     * @param photo New chat photo, uploaded using multipart/form-data
+     * @param photo New chat photo, uploaded using multipart/form-data. A {@link java.io.File}, a {@link java.nio.file.Path}, a byte array or an {@link InputFile}
      * @return True on success
      * @throws com.cadiducho.telegrambotapi.exception.TelegramException if the method fails in Telegram servers
      */
-    Boolean setChatPhoto(Object chat_id, java.io.File photo) throws TelegramException;
+    Boolean setChatPhoto(Object chat_id, Object photo) throws TelegramException;
 
     /**
      * Use this method to delete a chat photo. 
@@ -2073,11 +2083,12 @@ public interface BotAPI {
     /**
      * Use this method to upload a .png file with a sticker for later use in createNewStickerSet and addStickerToSet methods (can be used multiple times). Returns the uploaded File on success.
      * @param user_id User identifier of sticker file owner
-     * @param png_sticker Png image with the sticker, must be up to 512 kilobytes in size, dimensions must not exceed 512px, and either width or height must be exactly 512px. 
+     * @param png_sticker Png image with the sticker, must be up to 512 kilobytes in size, dimensions must not exceed 512px, and either width or height must be exactly 512px.
+     *                    A {@link java.io.File}, a {@link java.nio.file.Path}, a byte array or an {@link InputFile}
      * @return The uploaded File on success.
      * @throws com.cadiducho.telegrambotapi.exception.TelegramException if the method fails in Telegram servers
      */
-    File uploadStickerFile(Long user_id, java.io.File png_sticker) throws TelegramException;
+    File uploadStickerFile(Long user_id, Object png_sticker) throws TelegramException;
     
     /**
      * Use this method to create new sticker set owned by a user. The bot will be able to edit the created sticker set. Returns True on success.
@@ -0,0 +1,224 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi;
+
+import lombok.Getter;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Contents of a file to upload, read from memory or streamed without being copied to a temporary file.
+ * It can be passed to every method that uploads files, like sendPhoto or sendDocument.
+ * Files read from a stream or a {@link Source} can only be sent once, so their requests are not retried.
+ */
+public abstract class InputFile {
+
+    /**
+     * Size of the chunks written from a {@link ByteBuffer}, so it is not copied as a whole
+     */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * Name of the file sent to Telegram
+     */
+    @Getter private final String fileName;
+
+    private InputFile(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Create the body of this file
+     * @param mediaType Media type of the file
+     * @return The body
+     */
+    public abstract RequestBody toRequestBody(MediaType mediaType);
+
+    /**
+     * Check if this file can be sent more than once
+     * @return False if the file is read from a stream
+     */
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    /**
+     * Upload a file from the disk
+     * @param file The file
+     * @return The file to upload
+     */
+    public static InputFile of(java.io.File file) {
+        return new InputFile(file.getName()) {
+            @Override
+            public RequestBody toRequestBody(MediaType mediaType) {
+                return RequestBody.create(file, mediaType);
+            }
+        };
+    }
+
+    /**
+     * Upload a file from the disk, mapping it to memory instead of copying it to the heap
+     * @param path Path of the file
+     * @return The file to upload
+     */
+    public static InputFile of(Path path) {
+        return new InputFile(path.getFileName().toString()) {
+            @Override
+            public RequestBody toRequestBody(MediaType mediaType) {
+                return new RequestBody() {
+                    @Override
+                    public MediaType contentType() {
+                        return mediaType;
+                    }
+
+                    @Override
+                    public long contentLength() throws IOException {
+                        return Files.size(path);
+                    }
+
+                    @Override
+                    public void writeTo(BufferedSink sink) throws IOException {
+                        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                            writeChunked(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), sink);
+                        }
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Upload a file held in memory
+     * @param content Content of the file
+     * @param fileName Name of the file
+     * @return The file to upload
+     */
+    public static InputFile of(byte[] content, String fileName) {
+        return new InputFile(fileName) {
+            @Override
+            public RequestBody toRequestBody(MediaType mediaType) {
+                return RequestBody.create(content, mediaType);
+            }
+        };
+    }
+
+    /**
+     * Upload a file held in a buffer, like a direct or mapped {@link ByteBuffer}.
+     * Its remaining bytes are sent, and the position of the buffer is not modified
+     * @param content Content of the file
+     * @param fileName Name of the file
+     * @return The file to upload
+     */
+    public static InputFile of(ByteBuffer content, String fileName) {
+        return new InputFile(fileName) {
+            @Override
+            public RequestBody toRequestBody(MediaType mediaType) {
+                return new RequestBody() {
+                    @Override
+                    public MediaType contentType() {
+                        return mediaType;
+                    }
+
+                    @Override
+                    public long contentLength() {
+                        return content.remaining();
+                    }
+
+                    @Override
+                    public void writeTo(BufferedSink sink) throws IOException {
+                        writeChunked(content.duplicate(), sink);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Upload a file read from a stream of unknown length. The stream is closed once sent
+     * @param content Content of the file
+     * @param fileName Name of the file
+     * @return The file to upload
+     */
+    public static InputFile of(InputStream content, String fileName) {
+        return of(Okio.source(content), -1, fileName);
+    }
+
+    /**
+     * Upload a file read from a stream. The stream is closed once sent
+     * @param content Content of the file
+     * @param length Number of bytes of the stream, or -1 if unknown
+     * @param fileName Name of the file
+     * @return The file to upload
+     */
+    public static InputFile of(InputStream content, long length, String fileName) {
+        return of(Okio.source(content), length, fileName);
+    }
+
+    /**
+     * Upload a file read from an Okio {@link Source}. The source is closed once sent
+     * @param content Content of the file
+     * @param length Number of bytes of the source, or -1 if unknown
+     * @param fileName Name of the file
+     * @return The file to upload
+     */
+    public static InputFile of(Source content, long length, String fileName) {
+        return new InputFile(fileName) {
+            @Override
+            public RequestBody toRequestBody(MediaType mediaType) {
+                return new RequestBody() {
+                    @Override
+                    public MediaType contentType() {
+                        return mediaType;
+                    }
+
+                    @Override
+                    public long contentLength() {
+                        return length;
+                    }
+
+                    @Override
+                    public boolean isOneShot() {
+                        return true;
+                    }
+
+                    @Override
+                    public void writeTo(BufferedSink sink) throws IOException {
+                        try (content) {
+                            sink.writeAll(content);
+                        }
+                    }
+                };
+            }
+
+            @Override
+            public boolean isRepeatable() {
+                return false;
+            }
+        };
+    }
+
+    private static void writeChunked(ByteBuffer buffer, BufferedSink sink) throws IOException {
+        final int end = buffer.limit();
+        while (buffer.position() < end) {
+            buffer.limit(Math.min(end, buffer.position() + CHUNK_SIZE));
+            sink.write(buffer);
+            buffer.limit(end);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi;
+
+import com.cadiducho.telegrambotapi.inline.ChosenInlineResult;
+import com.cadiducho.telegrambotapi.inline.InlineQuery;
+import com.cadiducho.telegrambotapi.payment.PreCheckoutQuery;
+import com.cadiducho.telegrambotapi.payment.ShippingQuery;
+import com.cadiducho.telegrambotapi.util.MoshiProvider;
+import lombok.Getter;
+import okio.Buffer;
+import okio.ByteString;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * An {@link Update} that keeps its raw JSON and only decodes it on the first access to one of its objects.
+ * The update id, the kind of update, the chat id and the sender id are read when it is received, so updates can be routed or dropped without building the whole object graph.
+ * Received from {@link BotAPI#getUpdates(Integer, Integer, Integer, java.util.List)} when {@link TelegramBotConfig#getLazyUpdates()} is enabled.
+ */
+public class LazyUpdate extends Update {
+
+    /**
+     * Raw JSON of this update
+     */
+    @Getter private final ByteString raw;
+
+    /**
+     * Name of the field that holds the content of this update, like "message" or "callback_query". Null if unknown.
+     */
+    @Getter private final String kind;
+
+    /**
+     * Optional. Identifier of the chat where the update was originated, if it has one
+     */
+    @Getter private final Long chatId;
+
+    /**
+     * Optional. Identifier of the user that originated the update, if it has one
+     */
+    @Getter private final Long senderId;
+
+    private volatile Update decoded;
+
+    public LazyUpdate(ByteString raw, Integer updateId, String kind, Long chatId, Long senderId) {
+        this.raw = raw;
+        this.kind = kind;
+        this.chatId = chatId;
+        this.senderId = senderId;
+        super.setUpdateId(updateId);
+    }
+
+    /**
+     * Check if the full update has already been decoded
+     * @return True if any of its objects has been accessed
+     */
+    public boolean isDecoded() {
+        return decoded != null;
+    }
+
+    private Update decoded() {
+        Update update = decoded;
+        if (update == null) {
+            synchronized (this) {
+                update = decoded;
+                if (update == null) {
+                    try {
+                        update = MoshiProvider.<Update>adapter(Update.class).fromJson(new Buffer().write(raw));
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                    decoded = update;
+                }
+            }
+        }
+        return update;
+    }
+
+    @Override
+    public Message getMessage() {
+        return decoded().getMessage();
+    }
+
+    @Override
+    public void setMessage(Message message) {
+        decoded().setMessage(message);
+    }
+
+    @Override
+    public Message getEditedMessage() {
+        return decoded().getEditedMessage();
+    }
+
+    @Override
+    public void setEditedMessage(Message editedMessage) {
+        decoded().setEditedMessage(editedMessage);
+    }
+
+    @Override
+    public Message getChannelPost() {
+        return decoded().getChannelPost();
+    }
+
+    @Override
+    public void setChannelPost(Message channelPost) {
+        decoded().setChannelPost(channelPost);
+    }
+
+    @Override
+    public Message getEditedChannelPost() {
+        return decoded().getEditedChannelPost();
+    }
+
+    @Override
+    public void setEditedChannelPost(Message editedChannelPost) {
+        decoded().setEditedChannelPost(editedChannelPost);
+    }
+
+    @Override
+    public InlineQuery getInlineQuery() {
+        return decoded().getInlineQuery();
+    }
+
+    @Override
+    public void setInlineQuery(InlineQuery inlineQuery) {
+        decoded().setInlineQuery(inlineQuery);
+    }
+
+    @Override
+    public ChosenInlineResult getChosenInlineResult() {
+        return decoded().getChosenInlineResult();
+    }
+
+    @Override
+    public void setChosenInlineResult(ChosenInlineResult chosenInlineResult) {
+        decoded().setChosenInlineResult(chosenInlineResult);
+    }
+
+    @Override
+    public CallbackQuery getCallbackQuery() {
+        return decoded().getCallbackQuery();
+    }
+
+    @Override
+    public void setCallbackQuery(CallbackQuery callbackQuery) {
+        decoded().setCallbackQuery(callbackQuery);
+    }
+
+    @Override
+    public ShippingQuery getShippingQuery() {
+        return decoded().getShippingQuery();
+    }
+
+    @Override
+    public void setShippingQuery(ShippingQuery shippingQuery) {
+        decoded().setShippingQuery(shippingQuery);
+    }
+
+    @Override
+    public PreCheckoutQuery getPreCheckoutQuery() {
+        return decoded().getPreCheckoutQuery();
+    }
+
+    @Override
+    public void setPreCheckoutQuery(PreCheckoutQuery preCheckoutQuery) {
+        decoded().setPreCheckoutQuery(preCheckoutQuery);
+    }
+
+    @Override
+    public Poll getPoll() {
+        return decoded().getPoll();
+    }
+
+    @Override
+    public void setPoll(Poll poll) {
+        decoded().setPoll(poll);
+    }
+
+    @Override
+    public PollAnswer getPollAnswer() {
+        return decoded().getPollAnswer();
+    }
+
+    @Override
+    public void setPollAnswer(PollAnswer pollAnswer) {
+        decoded().setPollAnswer(pollAnswer);
+    }
+
+    @Override
+    public ChatMemberUpdated getMyChatMember() {
+        return decoded().getMyChatMember();
+    }
+
+    @Override
+    public void setMyChatMember(ChatMemberUpdated myChatMember) {
+        decoded().setMyChatMember(myChatMember);
+    }
+
+    @Override
+    public ChatMemberUpdated getChatMember() {
+        return decoded().getChatMember();
+    }
+
+    @Override
+    public void setChatMember(ChatMemberUpdated chatMember) {
+        decoded().setChatMember(chatMember);
+    }
+
+    @Override
+    public ChatJoinRequest getChatJoinRequest() {
+        return decoded().getChatJoinRequest();
+    }
+
+    @Override
+    public void setChatJoinRequest(ChatJoinRequest chatJoinRequest) {
+        decoded().setChatJoinRequest(chatJoinRequest);
+    }
+
+    @Override
+    public String toString() {
+        return "LazyUpdate(updateId=" + getUpdateId() + ", kind=" + kind + ", chatId=" + chatId + ", senderId=" + senderId + ")";
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi;
+
+import com.squareup.moshi.Json;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Describes why a request was unsuccessful.
+ */
+@ToString
+@Getter @Setter
+public class ResponseParameters {
+
+    /**
+     * Optional. The group has been migrated to a supergroup with the specified identifier.
+     */
+    @Json(name = "migrate_to_chat_id") private Long migrateToChatId;
+
+    /**
+     * Optional. In case of exceeding flood control, the number of seconds left to wait before the request can be repeated
+     */
+    @Json(name = "retry_after") private Integer retryAfter;
+}
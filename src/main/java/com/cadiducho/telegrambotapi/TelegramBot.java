@@ -7,6 +7,7 @@
 
 package com.cadiducho.telegrambotapi;
 
+import com.cadiducho.telegrambotapi.exception.TelegramApiException;
 import com.cadiducho.telegrambotapi.exception.TelegramException;
 import com.cadiducho.telegrambotapi.game.GameHighScore;
 import com.cadiducho.telegrambotapi.handlers.BotUpdatesPoller;
@@ -16,38 +17,97 @@ import com.cadiducho.telegrambotapi.inline.InlineQueryResult;
 import com.cadiducho.telegrambotapi.inline.InlineQueryResultsButton;
 import com.cadiducho.telegrambotapi.keyboard.ReplyKeyboardMarkup;
 import com.cadiducho.telegrambotapi.keyboard.ReplyKeyboardRemove;
+import com.cadiducho.telegrambotapi.metrics.BotMetricsListener;
 import com.cadiducho.telegrambotapi.payment.LabeledPrice;
 import com.cadiducho.telegrambotapi.payment.ShippingOption;
 import com.cadiducho.telegrambotapi.sticker.InputSticker;
 import com.cadiducho.telegrambotapi.sticker.MaskPosition;
 import com.cadiducho.telegrambotapi.sticker.Sticker;
 import com.cadiducho.telegrambotapi.sticker.StickerSet;
+import com.cadiducho.telegrambotapi.transport.TelegramTransport;
+import com.cadiducho.telegrambotapi.transport.TransportRequest;
+import com.cadiducho.telegrambotapi.transport.TransportResponse;
 import com.cadiducho.telegrambotapi.util.ApiResponse;
+import com.cadiducho.telegrambotapi.util.ChatCache;
+import com.cadiducho.telegrambotapi.util.FileIdCache;
 import com.cadiducho.telegrambotapi.util.MediaTypes;
 import com.cadiducho.telegrambotapi.util.MoshiProvider;
-import com.squareup.moshi.JsonAdapter;
-import com.squareup.moshi.Moshi;
-import com.squareup.moshi.Types;
+import com.cadiducho.telegrambotapi.util.RateLimiter;
+import com.cadiducho.telegrambotapi.util.RequestCoalescer;
+import com.cadiducho.telegrambotapi.util.RequestParameters;
+import com.cadiducho.telegrambotapi.util.VirtualThreads;
 import lombok.Getter;
+import lombok.extern.java.Log;
 import okhttp3.*;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.List;
-import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Default implementation to build Telegrams Bots
  * Telegram Bot API version 6.9
  */
+@Log
 public class TelegramBot implements BotAPI {
 
+    /**
+     * Time waited for the response of a long polling getUpdates after its timeout passes in the server
+     */
+    private static final Duration LONG_POLL_MARGIN = Duration.ofSeconds(10);
+
     private final String apiUrl;
+    private final String fileUrl;
     private final String token;
     @Getter private final BotAPI instance;
+    @Getter private final AsyncBotAPI asyncInstance;
     @Getter private final BotUpdatesPoller updatesPoller;
 
-    private final Moshi moshi;
-    private final OkHttpClient httpClient = new OkHttpClient();
+    private final boolean forceMultipart;
+    private final boolean localMode;
+    private final boolean lazyUpdates;
+    private final RateLimiter rateLimiter;
+    private final int maxRetries;
+    private final RequestCoalescer coalescer;
+    private final BotMetricsListener metrics;
+
+    /**
+     * Cache of chat metadata, or null if it is disabled. Updates received by a webhook must be passed to {@link ChatCache#invalidate(Update)}
+     */
+    @Getter private final ChatCache chatCache;
+    private final FileIdCache fileIdCache;
+    @Getter private final TelegramTransport transport;
+
+    /**
+     * Executor of the calls of {@link AsyncBotAPI} when they run as blocking calls in virtual threads, or null to use the asynchronous transport
+     */
+    private final ExecutorService callExecutor;
+
+    /**
+     * Request captured by {@link AsyncBotAPI#execute(AsyncBotAPI.BotMethod)} instead of being executed
+     */
+    private final ThreadLocal<PendingRequest> pendingRequest = new ThreadLocal<>();
 
     @Override
     public void startUpdatesPoller() {
@@ -60,33 +120,438 @@ public class TelegramBot implements BotAPI {
     }
 
     public TelegramBot(String token) {
+        this(token, TelegramBotConfig.builder().build());
+    }
+
+    public TelegramBot(String token, TelegramBotConfig config) {
         instance = this;
-        this.moshi = MoshiProvider.getMoshi();
+        asyncInstance = new AsyncTelegramBot();
+        this.transport = config.buildTransport();
+        this.forceMultipart = Boolean.TRUE.equals(config.getMultipartRequests());
+        this.localMode = Boolean.TRUE.equals(config.getLocalMode());
+        this.lazyUpdates = Boolean.TRUE.equals(config.getLazyUpdates());
+        this.rateLimiter = config.getRateLimiter();
+        this.maxRetries = config.getMaxRetries() != null ? config.getMaxRetries() : 0;
+        this.coalescer = Boolean.TRUE.equals(config.getCoalesceReads()) ? new RequestCoalescer() : null;
+        this.metrics = config.getMetrics();
+        this.chatCache = config.getChatCacheTtl() != null
+                ? new ChatCache(config.getChatCacheTtl(), config.getChatCacheSize() != null ? config.getChatCacheSize() : 1000)
+                : null;
+        this.fileIdCache = config.getFileIdCache();
         this.token = token;
-        apiUrl = "https://api.telegram.org/bot" + token + "/";
-        updatesPoller = new DefaultBotUpdatesPoller(instance);
+        final String baseUrl = config.getBaseUrl() != null ? config.getBaseUrl().replaceAll("/+$", "") : "https://api.telegram.org";
+        apiUrl = baseUrl + "/bot" + token + "/";
+        fileUrl = baseUrl + "/file/bot" + token + "/";
+
+        final DefaultBotUpdatesPoller poller = new DefaultBotUpdatesPoller(instance);
+        if (config.getPollTimeout() != null) poller.setTimeout((int) config.getPollTimeout().getSeconds());
+        if (config.getPollLimit() != null) poller.setLimit(config.getPollLimit());
+        if (config.getAllowedUpdates() != null) poller.setAllowedUpdates(config.getAllowedUpdates());
+        if (config.getQueueHighWatermark() != null || config.getQueueLowWatermark() != null) {
+            final int high = config.getQueueHighWatermark() != null ? config.getQueueHighWatermark() : 1000;
+            poller.setWatermarks(config.getQueueLowWatermark() != null ? config.getQueueLowWatermark() : high / 2, high);
+        }
+        if (useVirtualThreads(config)) {
+            this.callExecutor = VirtualThreads.newThreadPerTaskExecutor("Telegram API call-");
+            poller.setHandlerExecutor(VirtualThreads.newThreadPerTaskExecutor("Telegram update handler-"));
+        } else {
+            this.callExecutor = null;
+            if (config.getHandlerThreads() != null) {
+                poller.setHandlerExecutor(Executors.newFixedThreadPool(config.getHandlerThreads(), handlerThreads()));
+            }
+        }
+        if (config.getUpdateOrderingKey() != null) poller.setOrderingKey(config.getUpdateOrderingKey());
+        updatesPoller = poller;
+    }
+
+    private static ThreadFactory handlerThreads() {
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, "Telegram update handler-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static boolean useVirtualThreads(TelegramBotConfig config) {
+        if (!Boolean.TRUE.equals(config.getVirtualThreads())) {
+            return false;
+        }
+        if (!VirtualThreads.isSupported()) {
+            log.warning("Virtual threads require Java 21 or newer, using platform threads");
+            return false;
+        }
+        return true;
     }
 
-    private <T> T handleRequest(Request request, java.lang.reflect.Type type) throws TelegramException {
-        try (Response response = httpClient.newCall(request).execute()) {
-            ApiResponse<T> apiResponse = ApiResponse.from(Objects.requireNonNull(response.body()).source(), type);
-            if (apiResponse.getOk()) {
-                return apiResponse.getResult();
-            } else {
-                throw new TelegramException(apiResponse.getDescription());
+    @SuppressWarnings("unchecked")
+    private <T> T handleRequest(String method, RequestParameters parameters, Type type) throws TelegramException {
+        PendingRequest pending = pendingRequest.get();
+        if (pending != null) {
+            pending.capture(method, parameters, type);
+            return null;
+        }
+
+        if (chatCache != null && chatCache.isCached(method)) {
+            final Object cached = chatCache.get(method, parameters);
+            if (cached != null) {
+                return (T) cached;
+            }
+            final long generation = chatCache.generation(parameters);
+            final T result = executeCoalesced(method, parameters, type);
+            chatCache.put(method, parameters, result, generation);
+            return result;
+        }
+        final T result = fileIdCache != null && parameters != null && parameters.hasFiles()
+                ? fileIdCache.upload(method, parameters, () -> executeCoalesced(method, parameters, type))
+                : executeCoalesced(method, parameters, type);
+        if (chatCache != null) {
+            chatCache.invalidate(method, parameters, result);
+        }
+        return result;
+    }
+
+    private <T> T executeCoalesced(String method, RequestParameters parameters, Type type) throws TelegramException {
+        if (coalescer != null && coalescer.isCoalesced(method)) {
+            return coalescer.execute(RequestCoalescer.key(method, parameters), () -> executeWithRetries(method, parameters, type));
+        }
+        return executeWithRetries(method, parameters, type);
+    }
+
+    private <T> T executeWithRetries(String method, RequestParameters parameters, Type type) throws TelegramException {
+        RequestParameters current = parameters;
+        long generation = 0;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                final T result = executeRequest(method, current, type);
+                if (current != parameters) {
+                    migrated(method, current, result, generation);
+                }
+                return result;
+            } catch (TelegramApiException ex) {
+                final long delay = prepareRetry(ex, current, attempt);
+                if (delay < 0) {
+                    throw ex;
+                }
+                if (isMigration(ex, current)) {
+                    current = migrate(current, ex.getMigrateToChatId());
+                    generation = chatCache != null ? chatCache.generation(current) : 0;
+                }
+                sleep(delay);
             }
+        }
+    }
+
+    private <T> T executeRequest(String method, RequestParameters parameters, Type type) throws TelegramException {
+        final TransportRequest request = buildRequest(method, parameters);
+        if (rateLimiter != null) {
+            sleep(rateLimiter.reserveChat(method, getChatId(parameters)));
+            sleep(rateLimiter.reserveGlobal(method));
+        }
+
+        final long start = startRequest(method);
+        try (TransportResponse response = transport.execute(request)) {
+            final T result = parseResponse(response, type);
+            endRequest(method, start, null);
+            return result;
+        } catch (TelegramException ex) {
+            endRequest(method, start, ex);
+            throw ex;
         } catch (IOException ex) {
-            throw new TelegramException("Could not get a response.", ex);
+            final TelegramException failure = new TelegramException("Could not get a response.", ex);
+            endRequest(method, start, failure);
+            throw failure;
+        } catch (RuntimeException ex) {
+            //Like a malformed response, counted as a failure but thrown as it is
+            endRequest(method, start, new TelegramException("Could not get a response.", ex));
+            throw ex;
+        }
+    }
+
+    private long startRequest(String method) {
+        if (metrics != null) {
+            metrics.onRequestStart(method);
+        }
+        return System.nanoTime();
+    }
+
+    private void endRequest(String method, long start, TelegramException failure) {
+        if (metrics == null) {
+            return;
+        }
+        if (failure == null) {
+            metrics.onRequestSuccess(method, System.nanoTime() - start);
+        } else {
+            metrics.onRequestFailure(method, System.nanoTime() - start, failure);
+        }
+    }
+
+    private TransportRequest buildRequest(String method, RequestParameters parameters) {
+        return TransportRequest.builder()
+                .url(apiUrl + method)
+                .parameters(parameters)
+                .forceMultipart(forceMultipart)
+                .readTimeout(longPollTimeout(method, parameters))
+                .build();
+    }
+
+    /**
+     * Get the read timeout of a long polling getUpdates, which is answered when an update arrives or after its timeout
+     * @return The timeout, or null if the request is not a long poll
+     */
+    private static Duration longPollTimeout(String method, RequestParameters parameters) {
+        if (!"getUpdates".equals(method) || parameters == null || !(parameters.get("timeout") instanceof Integer)) {
+            return null;
+        }
+        final int timeout = (Integer) parameters.get("timeout");
+        return timeout > 0 ? Duration.ofSeconds(timeout).plus(LONG_POLL_MARGIN) : null;
+    }
+
+    private static Object getChatId(RequestParameters parameters) {
+        return parameters != null ? parameters.get("chat_id") : null;
+    }
+
+    /**
+     * Check if a failed request must be retried
+     * @return Nanoseconds to wait before retrying, or -1 if it must not be retried
+     */
+    private long prepareRetry(TelegramApiException ex, RequestParameters parameters, int attempt) {
+        if (attempt >= maxRetries || (parameters != null && !parameters.isRepeatable())) {
+            return -1;
+        }
+        if (ex.getRetryAfter() != null) {
+            log.fine(() -> "Flood control exceeded, retrying in " + ex.getRetryAfter() + " seconds");
+            return TimeUnit.SECONDS.toNanos(ex.getRetryAfter());
+        }
+        if (isMigration(ex, parameters)) {
+            log.fine(() -> "Chat " + getChatId(parameters) + " migrated to " + ex.getMigrateToChatId());
+            return 0;
+        }
+        return -1;
+    }
+
+    private static boolean isMigration(TelegramApiException ex, RequestParameters parameters) {
+        return ex.getRetryAfter() == null && ex.getMigrateToChatId() != null && getChatId(parameters) != null;
+    }
+
+    /**
+     * Get the parameters to retry a request in the supergroup that a group was migrated to.
+     * The parameters of the caller are not changed, as the coalescer and the chat cache identify the request by its original chat.
+     * The original chat is invalidated, so the chat cache never stores the result of the supergroup under it
+     * @param parameters Parameters of the failed attempt
+     * @param chatId Identifier of the supergroup
+     * @return A copy of the parameters sent to the supergroup
+     */
+    private RequestParameters migrate(RequestParameters parameters, Long chatId) {
+        final RequestParameters migrated = parameters.copy();
+        migrated.add("chat_id", chatId);
+        if (chatCache != null) {
+            chatCache.invalidate(getChatId(parameters));
+        }
+        return migrated;
+    }
+
+    /**
+     * Cache the result of a request retried in a supergroup under the supergroup, or invalidate it if the method changes the chat
+     */
+    private void migrated(String method, RequestParameters parameters, Object result, long generation) {
+        if (chatCache == null) {
+            return;
+        }
+        if (chatCache.isCached(method)) {
+            chatCache.put(method, parameters, result, generation);
+        } else {
+            chatCache.invalidate(method, parameters, result);
+        }
+    }
+
+    private static void sleep(long nanos) throws TelegramException {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TelegramException("Interrupted while waiting to send a request", ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> handleRequestAsync(String method, RequestParameters parameters, Type type) {
+        if (chatCache != null && chatCache.isCached(method)) {
+            final Object cached = chatCache.get(method, parameters);
+            if (cached != null) {
+                return CompletableFuture.completedFuture((T) cached);
+            }
+            final long generation = chatCache.generation(parameters);
+            final CompletableFuture<T> future = executeCoalescedAsync(method, parameters, type);
+            future.thenAccept(result -> chatCache.put(method, parameters, result, generation));
+            return future;
+        }
+        final CompletableFuture<T> future = fileIdCache != null && parameters != null && parameters.hasFiles()
+                ? fileIdCache.uploadAsync(method, parameters, () -> executeCoalescedAsync(method, parameters, type))
+                : executeCoalescedAsync(method, parameters, type);
+        if (chatCache == null) {
+            return future;
         }
+        //Invalidate before the caller sees the result, so its next read is not served from the cache
+        final CompletableFuture<T> invalidated = future.thenApply(result -> {
+            chatCache.invalidate(method, parameters, result);
+            return result;
+        });
+        invalidated.whenComplete((result, ex) -> {
+            if (invalidated.isCancelled()) {
+                future.cancel(true);
+            }
+        });
+        return invalidated;
     }
 
-    private MultipartBody.Builder bodyBuilder() {
-        final MultipartBody.Builder parameters = new MultipartBody.Builder().setType(MultipartBody.FORM);
-        parameters.addFormDataPart("token", token);
+    private <T> CompletableFuture<T> executeCoalescedAsync(String method, RequestParameters parameters, Type type) {
+        if (coalescer != null && coalescer.isCoalesced(method)) {
+            return coalescer.executeAsync(RequestCoalescer.key(method, parameters), () -> executeWithRetriesAsync(method, parameters, type));
+        }
+        return executeWithRetriesAsync(method, parameters, type);
+    }
 
-        return parameters;
+    private <T> CompletableFuture<T> executeWithRetriesAsync(String method, RequestParameters parameters, Type type) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        executeRequestAsync(future, method, parameters, type, 0);
+        return future;
     }
 
+    private <T> void executeRequestAsync(CompletableFuture<T> future, String method, RequestParameters parameters, Type type, int attempt) {
+        final TransportRequest request = buildRequest(method, parameters);
+        final Runnable execute = () -> {
+            if (future.isDone()) {
+                return;
+            }
+            final long start = startRequest(method);
+            final CompletableFuture<TransportResponse> call = transport.executeAsync(request);
+            future.whenComplete((result, ex) -> {
+                if (future.isCancelled()) {
+                    call.cancel(true);
+                }
+            });
+            call.whenComplete((response, failure) -> {
+                if (failure != null) {
+                    final Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                    final TelegramException ex = new TelegramException("Could not get a response.", cause);
+                    endRequest(method, start, ex);
+                    future.completeExceptionally(ex);
+                    return;
+                }
+                try (response) {
+                    final T result = parseResponse(response, type);
+                    endRequest(method, start, null);
+                    future.complete(result);
+                } catch (TelegramApiException ex) {
+                    endRequest(method, start, ex);
+                    //Wait in the scheduler instead of blocking a thread of the transport
+                    final long delay = prepareRetry(ex, parameters, attempt);
+                    if (delay < 0) {
+                        future.completeExceptionally(ex);
+                    } else if (isMigration(ex, parameters)) {
+                        final RequestParameters migrated = migrate(parameters, ex.getMigrateToChatId());
+                        final long generation = chatCache != null ? chatCache.generation(migrated) : 0;
+                        future.thenAccept(result -> migrated(method, migrated, result, generation));
+                        runAfter(delay, () -> executeRequestAsync(future, method, migrated, type, attempt + 1));
+                    } else {
+                        runAfter(delay, () -> executeRequestAsync(future, method, parameters, type, attempt + 1));
+                    }
+                } catch (TelegramException ex) {
+                    endRequest(method, start, ex);
+                    future.completeExceptionally(ex);
+                } catch (IOException | RuntimeException ex) {
+                    final TelegramException failed = new TelegramException("Could not get a response.", ex);
+                    endRequest(method, start, failed);
+                    future.completeExceptionally(failed);
+                }
+            });
+        };
+        if (rateLimiter != null) {
+            runAfter(rateLimiter.reserveChat(method, getChatId(parameters)), () -> runAfter(rateLimiter.reserveGlobal(method), execute));
+        } else {
+            execute.run();
+        }
+    }
+
+    private static void runAfter(long delay, Runnable task) {
+        if (delay > 0) {
+            CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(task);
+        } else {
+            task.run();
+        }
+    }
+
+    private <T> T parseResponse(TransportResponse response, Type type) throws IOException, TelegramException {
+        ApiResponse<T> apiResponse = ApiResponse.from(response.body(), type);
+        if (apiResponse.getOk()) {
+            return apiResponse.getResult();
+        } else {
+            throw new TelegramApiException(apiResponse.getDescription(), apiResponse.getErrorCode(), apiResponse.getParameters());
+        }
+    }
+
+    private static class PendingRequest {
+        private String method;
+        private RequestParameters parameters;
+        private Type type;
+
+        private void capture(String method, RequestParameters parameters, Type type) {
+            if (this.method != null) {
+                throw new IllegalStateException("Only one Telegram method can be executed asynchronously at once");
+            }
+            this.method = method;
+            this.parameters = parameters;
+            this.type = type;
+        }
+    }
+
+    private class AsyncTelegramBot implements AsyncBotAPI {
+
+        @Override
+        public BotAPI getInstance() {
+            return instance;
+        }
+
+        @Override
+        public <T> CompletableFuture<T> execute(BotMethod<T> method) {
+            final PendingRequest pending = new PendingRequest();
+            pendingRequest.set(pending);
+            try {
+                method.call(instance);
+            } catch (TelegramException | RuntimeException ex) {
+                return CompletableFuture.failedFuture(ex);
+            } finally {
+                pendingRequest.remove();
+            }
+
+            if (pending.method == null) {
+                return CompletableFuture.failedFuture(new IllegalStateException("No Telegram method was executed"));
+            }
+            if (callExecutor != null) {
+                return executeBlocking(pending);
+            }
+            return handleRequestAsync(pending.method, pending.parameters, pending.type);
+        }
+
+        /**
+         * Execute a captured request as a blocking call in a virtual thread, which is parked instead of blocked while waiting for Telegram
+         */
+        private <T> CompletableFuture<T> executeBlocking(PendingRequest pending) {
+            final CompletableFuture<T> future = new CompletableFuture<>();
+            callExecutor.execute(() -> {
+                try {
+                    future.complete(handleRequest(pending.method, pending.parameters, pending.type));
+                } catch (TelegramException | RuntimeException ex) {
+                    future.completeExceptionally(ex);
+                }
+            });
+            return future;
+        }
+    }
 
     private Object getSafeChatId(Object rawChatId) {
         if (rawChatId == null) {
@@ -110,50 +575,69 @@ public class TelegramBot implements BotAPI {
     }
 
 
-    private void safeAdd(MultipartBody.Builder parameters, String str, Object obj) {
+    private void safeAdd(RequestParameters parameters, String str, Object obj) {
         if (str == null) {
             return;
         }
 
         //Check markup style if exists
         if (str.equals("reply_markup") && obj != null) {
-            JsonAdapter adapter;
-            if (obj instanceof ReplyKeyboardRemove) adapter = moshi.adapter(ReplyKeyboardRemove.class);
-            else if (obj instanceof ReplyKeyboardMarkup) adapter = moshi.adapter(ReplyKeyboardMarkup.class);
-            else if (obj instanceof InlineKeyboardMarkup) adapter = moshi.adapter(InlineKeyboardMarkup.class);
-            else if (obj instanceof ForceReply) adapter = moshi.adapter(ForceReply.class);
+            Class<?> markupType;
+            if (obj instanceof ReplyKeyboardRemove) markupType = ReplyKeyboardRemove.class;
+            else if (obj instanceof ReplyKeyboardMarkup) markupType = ReplyKeyboardMarkup.class;
+            else if (obj instanceof InlineKeyboardMarkup) markupType = InlineKeyboardMarkup.class;
+            else if (obj instanceof ForceReply) markupType = ForceReply.class;
             else throw new IllegalArgumentException("The replyMarkup must be on of the following classes: " +
                         ReplyKeyboardRemove.class.getName() + ", " +
                         ReplyKeyboardMarkup.class.getName() + ", " +
                         InlineKeyboardMarkup.class.getName() + ", " +
                         ForceReply.class.getName());
 
-            //noinspection unchecked
-            parameters.addFormDataPart("reply_markup", adapter.toJson(obj));
+            parameters.add("reply_markup", obj, markupType);
             return;
         }
 
         if (str.equals("parse_mode")) {
             if (obj == null) return;
 
-            parameters.addFormDataPart(str, ((ParseMode) obj).getMode().toLowerCase());
+            parameters.add(str, obj instanceof ParseMode ? ((ParseMode) obj).getMode().toLowerCase() : obj.toString());
             return;
         }
 
         //Return normal values (check optionals -> null)
-        if (obj != null) {
-            parameters.addFormDataPart(str, obj.toString());
-        }
+        parameters.add(str, obj);
+    }
+
+    private void safeAdd(RequestParameters parameters, String str, Object obj, Type type) {
+        parameters.add(str, obj, type);
     }
 
-    private void addFile(MultipartBody.Builder parameters, String name, Object obj, MediaType type) {
+    private void addFile(RequestParameters parameters, String name, Object obj, MediaType type) {
+        if (obj == null) {
+            return;
+        }
+
         if (obj instanceof String) {
-            parameters.addFormDataPart(name, obj.toString());
+            parameters.add(name, obj);
+        } else if (obj instanceof InputFile) {
+            parameters.addFile(name, (InputFile) obj, type);
+        } else if (localMode && obj instanceof java.io.File) {
+            //A local server reads the file from the disk
+            parameters.add(name, ((java.io.File) obj).getAbsoluteFile().toPath().toUri().toString());
+        } else if (localMode && obj instanceof Path) {
+            parameters.add(name, ((Path) obj).toAbsolutePath().toUri().toString());
         } else if (obj instanceof java.io.File) {
-            java.io.File fFile = (java.io.File) obj;
-            parameters.addFormDataPart(name, fFile.getName(), RequestBody.create(fFile, type));
+            parameters.addFile(name, (java.io.File) obj, type);
+        } else if (obj instanceof Path) {
+            parameters.addFile(name, InputFile.of((Path) obj), type);
+        } else if (obj instanceof byte[]) {
+            parameters.addFile(name, InputFile.of((byte[]) obj, name), type);
+        } else if (obj instanceof ByteBuffer) {
+            parameters.addFile(name, InputFile.of((ByteBuffer) obj, name), type);
+        } else if (obj instanceof InputStream) {
+            parameters.addFile(name, InputFile.of((InputStream) obj, name), type);
         } else {
-            throw new IllegalArgumentException("The " + name + " must be a string or a file!");
+            throw new IllegalArgumentException("The " + name + " must be a string, a file, a path, a byte array, a byte buffer, an input stream or an InputFile!");
         }
     }
 
@@ -161,32 +645,23 @@ public class TelegramBot implements BotAPI {
 
     @Override
     public User getMe() throws TelegramException {
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getMe")
-                .build();
-        return handleRequest(request, User.class);
+        return handleRequest("getMe", null, User.class);
     }
 
     @Override
     public Boolean logOut() throws TelegramException {
-        final Request request = new Request.Builder()
-                .url(apiUrl + "logOut")
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("logOut", null, Boolean.class);
     }
 
     @Override
     public Boolean close() throws TelegramException {
-        final Request request = new Request.Builder()
-                .url(apiUrl + "close")
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("close", null, Boolean.class);
     }
 
     @Override
     public Message sendMessage(Object chat_id, Integer message_thread_id, String text, ParseMode parse_mode, Boolean disable_notification, Boolean protect_content, Boolean disable_web_page_preview, Integer reply_to_message_id, Object reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
@@ -199,17 +674,13 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "reply_to_message_id", reply_to_message_id);
         safeAdd(parameters, "reply_markup", reply_markup);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendMessage")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendMessage", parameters, Message.class);
     }
 
     @Override
     public Message forwardMessage(Object chat_id, Integer message_thread_id, Integer from_chat_id, Boolean disable_notification, Boolean protect_content, Integer message_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
@@ -218,18 +689,14 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "from_chat_id", from_chat_id);
         safeAdd(parameters, "message_id", message_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendMessage")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendMessage", parameters, Message.class);
     }
 
     @Override
     public MessageId copyMessage(Object chat_id, Integer message_thread_id, Object from_chat_id, Integer message_id, String caption, String parse_mode, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Boolean allow_sending_without_reply, Object reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
         Object safeFromChatId = getSafeChatId(from_chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
@@ -243,17 +710,13 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "allow_sending_without_reply", allow_sending_without_reply);
         safeAdd(parameters, "reply_markup", reply_markup);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "copyMessage")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, MessageId.class);
+        return handleRequest("copyMessage", parameters, MessageId.class);
     }
 
     @Override
     public Message sendPhoto(Object chat_id, Integer message_thread_id, Object photo, String caption, Boolean has_spoiler, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
@@ -265,17 +728,13 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "reply_markup", reply_markup);
         addFile(parameters, "photo", photo, MediaTypes.MEDIA_TYPE_PHOTO);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendPhoto")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendPhoto", parameters, Message.class);
     }
 
     @Override
     public Message sendAudio(Object chat_id, Integer message_thread_id, Object audio, String caption, Integer duration, String performer, String title, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
@@ -289,17 +748,13 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "reply_markup", reply_markup);
         addFile(parameters, "audio", audio, MediaTypes.MEDIA_TYPE_AUDIO);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendAudio")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendAudio", parameters, Message.class);
     }
 
     @Override
     public Message sendDocument(Object chat_id, Integer message_thread_id, Object document, Boolean disable_content_type_detection, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
@@ -310,17 +765,13 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "reply_markup", reply_markup);
         addFile(parameters, "document", document, MediaTypes.MEDIA_TYPE_APPLICATION);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendDocument")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendDocument", parameters, Message.class);
     }
 
     @Override
     public Message sendVideo(Object chat_id, Integer message_thread_id, Object video, Integer duration, Integer width, Integer height, String caption, ParseMode parse_mode, Boolean has_spoiler, Boolean supports_streaming, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
@@ -337,11 +788,7 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "reply_markup", reply_markup);
         addFile(parameters, "video", video, MediaTypes.MEDIA_TYPE_VIDEO);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendVideo")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendVideo", parameters, Message.class);
     }
 
 
@@ -349,7 +796,7 @@ public class TelegramBot implements BotAPI {
     @Override
     public Message sendAnimation(Object chat_id, Integer message_thread_id, Object animation, Integer duration, Integer width, Integer height, Object thumbnail, String caption, ParseMode parse_mode, Boolean has_spoiler, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
@@ -366,17 +813,13 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "reply_to_message_id", reply_to_message_id);
         safeAdd(parameters, "reply_markup", reply_markup);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendAnimation")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendAnimation", parameters, Message.class);
     }
 
     @Override
     public Message sendVoice(Object chat_id, Integer message_thread_id, Object voice, String caption, Integer duration, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
@@ -388,36 +831,28 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "reply_markup", reply_markup);
         addFile(parameters, "voice", voice, MediaTypes.MEDIA_TYPE_AUDIO);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendVoice")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendVoice", parameters, Message.class);
     }
 
     @Override
     public Message sendMediaGroup(Object chat_id, Integer message_thread_id, List<InputMedia> media, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
-        safeAdd(parameters, "media", moshi.adapter(Types.newParameterizedType(List.class, InputMedia.class)).toJson(media));
+        safeAdd(parameters, "media", media, MoshiProvider.LIST_OF_INPUT_MEDIA);
         safeAdd(parameters, "disable_notification", disable_notification);
         safeAdd(parameters, "protect_content", protect_content);
         safeAdd(parameters, "reply_to_message_id", reply_to_message_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendMediaGroup")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendMediaGroup", parameters, Message.class);
     }
 
     @Override
     public Message sendLocation(Object chat_id, Integer message_thread_id, Float latitude, Float longitude, Float horizontal_accuracy, Integer live_period, Integer heading, Integer proximity_alert_radius, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
@@ -432,17 +867,13 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "reply_to_message_id", reply_to_message_id);
         safeAdd(parameters, "reply_markup", reply_markup);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendLocation")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendLocation", parameters, Message.class);
     }
 
     @Override
     public Object editMessageLiveLocation(Object chat_id, Integer message_id, String inline_message_id, Float latitude, Float longitude, Float horizontal_accuracy, Integer heading, Integer proximity_alert_radius, InlineKeyboardMarkup reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_id", message_id);
@@ -454,34 +885,26 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "proximity_alert_radius", proximity_alert_radius);
         safeAdd(parameters, "reply_markup", reply_markup);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "editMessageLiveLocation")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("editMessageLiveLocation", parameters, Message.class);
     }
 
     @Override
     public Object stopMessageLiveLocation(Object chat_id, Integer message_id, String inline_message_id, InlineKeyboardMarkup reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_id", message_id);
         safeAdd(parameters, "inline_message_id", inline_message_id);
         safeAdd(parameters, "reply_markup", reply_markup);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "stopMessageLiveLocation")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("stopMessageLiveLocation", parameters, Message.class);
     }
 
     @Override
     public Message sendVideoNote(Object chat_id, Integer message_thread_id, Object video_note, Integer duration, Integer length, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
@@ -493,17 +916,13 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "reply_markup", reply_markup);
         addFile(parameters, "video_note", video_note, MediaTypes.MEDIA_TYPE_VIDEO);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendVideoNote")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendVideoNote", parameters, Message.class);
     }
 
     @Override
     public Message sendVenue(Object chat_id, Integer message_thread_id, Float latitude, Float longitude, String title, String address, String foursquare_id, String foursquare_type, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
@@ -518,17 +937,13 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "reply_to_message_id", reply_to_message_id);
         safeAdd(parameters, "reply_markup", reply_markup);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendVenue")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendVenue", parameters, Message.class);
     }
 
     @Override
     public Message sendContact(Object chat_id, Integer message_thread_id, String phone_number, String first_name, String last_name, String vcard, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
 
@@ -542,11 +957,7 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "reply_to_message_id", reply_to_message_id);
         safeAdd(parameters, "reply_markup", reply_markup);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendContact")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendContact", parameters, Message.class);
     }
 
     @Override
@@ -554,12 +965,12 @@ public class TelegramBot implements BotAPI {
                             Integer correct_option_id, String explanation, String explanation_parse_mode, Integer open_period, Integer close_date,
                             Boolean is_closed, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
         safeAdd(parameters, "question", question);
-        safeAdd(parameters, "options", moshi.adapter(Types.newParameterizedType(List.class, String.class)).toJson(options));
+        safeAdd(parameters, "options", options, MoshiProvider.LIST_OF_STRING);
         safeAdd(parameters, "is_anonymous", is_anonymous);
         safeAdd(parameters, "type", type);
         safeAdd(parameters, "allows_multiple_answers", allows_multiple_answers);
@@ -574,18 +985,14 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "reply_to_message_id", reply_to_message_id);
         safeAdd(parameters, "reply_markup", reply_markup);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendPoll")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendPoll", parameters, Message.class);
     }
 
     @Override
     public Message sendDice(Object chat_id, Integer message_thread_id, String emoji, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
 
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
@@ -595,78 +1002,299 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "reply_to_message_id", reply_to_message_id);
         safeAdd(parameters, "reply_markup", reply_markup);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendDice")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendDice", parameters, Message.class);
     }
 
     @Override
     public Boolean sendChatAction(Object chat_id, Integer message_thread_id, String action) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
         safeAdd(parameters, "action", action);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendChatAction")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("sendChatAction", parameters, Boolean.class);
     }
 
     @Override
     public UserProfilePhotos getUserProfilePhotos(Long user_id, Integer offset, Integer limit) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "user_id", user_id);
         safeAdd(parameters, "offset", offset);
         safeAdd(parameters, "limit", limit);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getUserProfilePhotos")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, UserProfilePhotos.class);
+        return handleRequest("getUserProfilePhotos", parameters, UserProfilePhotos.class);
     }
 
     @Override
     public File getFile(String file_id) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "file_id", file_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getFile")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, File.class);
+        return handleRequest("getFile", parameters, File.class);
+    }
+
+    /**
+     * Download a file. The returned source must be closed to release its connection
+     * @param file_id File identifier to get info about
+     * @return The content of the file
+     * @throws TelegramException If the file cannot be downloaded
+     */
+    public BufferedSource downloadFile(String file_id) throws TelegramException {
+        return downloadFile(getFile(file_id));
+    }
+
+    /**
+     * Download a file. The returned source must be closed to release its connection
+     * @param file File returned by {@link #getFile(String)}
+     * @return The content of the file
+     * @throws TelegramException If the file cannot be downloaded
+     */
+    public BufferedSource downloadFile(File file) throws TelegramException {
+        return downloadFile(file, 0, Long.MAX_VALUE);
+    }
+
+    /**
+     * Download a file as an input stream, which must be closed to release its connection
+     * @param file File returned by {@link #getFile(String)}
+     * @return The content of the file
+     * @throws TelegramException If the file cannot be downloaded
+     */
+    public InputStream downloadFileAsStream(File file) throws TelegramException {
+        return downloadFile(file).inputStream();
+    }
+
+    /**
+     * Download a part of a file. The returned source must be closed to release its connection
+     * @param file File returned by {@link #getFile(String)}
+     * @param offset Number of bytes to skip from the start of the file
+     * @param maxBytes Maximum size of the file. Reading more bytes from the source fails
+     * @return The content of the file from the offset
+     * @throws TelegramException If the file cannot be downloaded or is bigger than the maximum size
+     */
+    public BufferedSource downloadFile(File file, long offset, long maxBytes) throws TelegramException {
+        final Path local = localPath(file);
+        if (local != null) {
+            try {
+                checkSize(Files.size(local), maxBytes);
+                final FileChannel channel = FileChannel.open(local, StandardOpenOption.READ);
+                channel.position(offset);
+                return Okio.buffer(Okio.source(Channels.newInputStream(channel)));
+            } catch (IOException ex) {
+                throw new TelegramException("Could not read the file.", ex);
+            }
+        }
+
+        final TransportResponse response = openFile(file, offset, maxBytes);
+        final long limit = response.code() == 206 ? maxBytes - offset : maxBytes;
+        final BufferedSource source = Okio.buffer(new CappedSource(response.body(), limit));
+        if (offset > 0 && response.code() != 206) {
+            //The server sent the whole file
+            try {
+                source.skip(offset);
+            } catch (IOException ex) {
+                response.close();
+                throw new TelegramException("Could not download the file.", ex);
+            }
+        }
+        return source;
+    }
+
+    /**
+     * Download a file to a path, streaming it without holding it in memory. Any existing file in the path is replaced
+     * @param file_id File identifier to get info about
+     * @param target Path to save the file
+     * @param maxBytes Maximum size of the file
+     * @return Size of the downloaded file
+     * @throws TelegramException If the file cannot be downloaded or is bigger than the maximum size
+     */
+    public long downloadFile(String file_id, Path target, long maxBytes) throws TelegramException {
+        return downloadFile(getFile(file_id), target, maxBytes);
+    }
+
+    /**
+     * Download a file to a path, streaming it without holding it in memory. Any existing file in the path is replaced
+     * @param file File returned by {@link #getFile(String)}
+     * @param target Path to save the file
+     * @param maxBytes Maximum size of the file
+     * @return Size of the downloaded file
+     * @throws TelegramException If the file cannot be downloaded or is bigger than the maximum size
+     */
+    public long downloadFile(File file, Path target, long maxBytes) throws TelegramException {
+        return downloadFile(file, target, maxBytes, false);
+    }
+
+    /**
+     * Resume the download of a file to a path, like after a failed download.
+     * The path must only hold the start of this same file, which is kept, and only the rest of the file is downloaded
+     * @param file_id File identifier to get info about
+     * @param target Path with the start of the file
+     * @param maxBytes Maximum size of the file
+     * @return Size of the downloaded file
+     * @throws TelegramException If the file cannot be downloaded or is bigger than the maximum size
+     */
+    public long resumeDownload(String file_id, Path target, long maxBytes) throws TelegramException {
+        return resumeDownload(getFile(file_id), target, maxBytes);
+    }
+
+    /**
+     * Resume the download of a file to a path, like after a failed download.
+     * The path must only hold the start of this same file, which is kept, and only the rest of the file is downloaded
+     * @param file File returned by {@link #getFile(String)}
+     * @param target Path with the start of the file
+     * @param maxBytes Maximum size of the file
+     * @return Size of the downloaded file
+     * @throws TelegramException If the file cannot be downloaded or is bigger than the maximum size
+     */
+    public long resumeDownload(File file, Path target, long maxBytes) throws TelegramException {
+        return downloadFile(file, target, maxBytes, true);
+    }
+
+    private long downloadFile(File file, Path target, long maxBytes, boolean resume) throws TelegramException {
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long offset = resume ? channel.size() : 0;
+            if (file.getFileSize() != null && offset >= file.getFileSize()) {
+                if (offset == file.getFileSize()) {
+                    return offset;
+                }
+                offset = 0;
+            }
+
+            final Path local = localPath(file);
+            if (local != null) {
+                try (FileChannel source = FileChannel.open(local, StandardOpenOption.READ)) {
+                    final long size = source.size();
+                    checkSize(size, maxBytes);
+                    if (offset > size) {
+                        offset = 0;
+                    }
+                    channel.truncate(offset);
+                    //Copied by the kernel, without reading the file in the JVM
+                    for (long position = offset; position < size; ) {
+                        position += source.transferTo(position, size - position, channel.position(position));
+                    }
+                    return size;
+                }
+            }
+
+            try (TransportResponse response = openFile(file, offset, maxBytes)) {
+                if (response.code() != 206) {
+                    offset = 0;
+                }
+                channel.truncate(offset);
+                final BufferedSource source = response.body();
+                final long limit = maxBytes - offset;
+                final long written = channel.transferFrom(source, offset, limit);
+                if (written == limit && !source.exhausted()) {
+                    throw new TelegramException("The file is bigger than " + maxBytes + " bytes");
+                }
+                return offset + written;
+            }
+        } catch (IOException ex) {
+            throw new TelegramException("Could not download the file.", ex);
+        }
+    }
+
+    /**
+     * Get the path of a file in the disk of a local Bot API server
+     * @return The path, or null if the file must be downloaded
+     * @throws TelegramException If the server returned an absolute path that cannot be read. The server does not serve these files over HTTP
+     */
+    private Path localPath(File file) throws TelegramException {
+        if (!localMode || file.getFilePath() == null) {
+            return null;
+        }
+        final Path path = Paths.get(file.getFilePath());
+        if (!path.isAbsolute()) {
+            return null;
+        }
+        if (!Files.isReadable(path)) {
+            throw new TelegramException("The file " + path + " of the local Bot API server cannot be read, it must be in a disk shared with the server");
+        }
+        return path;
+    }
+
+    private static void checkSize(long size, long maxBytes) throws TelegramException {
+        if (size > maxBytes) {
+            throw new TelegramException("The file is bigger than " + maxBytes + " bytes");
+        }
+    }
+
+    private TransportResponse openFile(File file, long offset, long maxBytes) throws TelegramException {
+        if (file.getFilePath() == null) {
+            throw new IllegalArgumentException("The file has no path, it must be obtained with getFile");
+        }
+        if (file.getFileSize() != null) {
+            checkSize(file.getFileSize(), maxBytes);
+        }
+
+        final TransportRequest.TransportRequestBuilder request = TransportRequest.builder().url(fileUrl + file.getFilePath());
+        if (offset > 0) {
+            request.header("Range", "bytes=" + offset + "-");
+        }
+        final TransportResponse response;
+        try {
+            response = transport.execute(request.build());
+        } catch (IOException ex) {
+            throw new TelegramException("Could not download the file.", ex);
+        }
+        if (!response.isSuccessful()) {
+            response.close();
+            throw new TelegramException("Could not download the file, response code " + response.code());
+        }
+
+        final long length = response.contentLength();
+        if (length >= 0 && (response.code() == 206 ? offset + length : length) > maxBytes) {
+            response.close();
+            throw new TelegramException("The file is bigger than " + maxBytes + " bytes");
+        }
+        return response;
+    }
+
+    /**
+     * Source that fails when more bytes than the maximum are read
+     */
+    private static class CappedSource extends ForwardingSource {
+        private long remaining;
+
+        private CappedSource(Source delegate, long maxBytes) {
+            super(delegate);
+            this.remaining = maxBytes;
+        }
+
+        @Override
+        public long read(Buffer sink, long byteCount) throws IOException {
+            final long read = super.read(sink, byteCount);
+            if (read > 0) {
+                remaining -= read;
+                if (remaining < 0) {
+                    throw new IOException("The file is bigger than the maximum size");
+                }
+            }
+            return read;
+        }
     }
 
     @Override
     public Boolean banChatMember(Object chat_id, Long user_id, Integer until_date, Boolean revoke_messages) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "user_id", user_id);
         safeAdd(parameters, "until_date", until_date);
         safeAdd(parameters, "revoke_messages", revoke_messages);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "banChatMember")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("banChatMember", parameters, Boolean.class);
     }
 
     @Override
     public Boolean restrictChatMember(Object chat_id, Long user_id, ChatPermissions permissions, Boolean use_independent_chat_permissions, Integer until_date) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "user_id", user_id);
@@ -674,17 +1302,13 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "use_independent_chat_permissions", use_independent_chat_permissions);
         safeAdd(parameters, "until_date", until_date);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "restrictChatMember")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("restrictChatMember", parameters, Boolean.class);
     }
 
     @Override
     public Boolean promoteChatMember(Object chat_id, Long user_id, Boolean is_anonymous, Boolean can_manage_chat, Boolean can_change_info, Boolean can_post_messages, Boolean can_edit_messages, Boolean can_delete_messages, Boolean can_manage_video_chats, Boolean can_invite_users, Boolean can_restrict_members, Boolean can_pin_messages, Boolean can_promote_members, Boolean can_post_stories, Boolean can_edit_stories, Boolean can_delete_stories, Boolean can_manage_topics) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "user_id", user_id);
@@ -704,93 +1328,69 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "can_edit_stories", can_edit_stories);
         safeAdd(parameters, "can_delete_stories", can_delete_stories);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "promoteChatMember")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("promoteChatMember", parameters, Boolean.class);
     }
 
     @Override
     public Boolean setChatAdministratorCustomTitle(Object chat_id, Long user_id, String custom_title) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "user_id", user_id);
         safeAdd(parameters, "custom_title", custom_title);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setChatAdministratorCustomTitle")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setChatAdministratorCustomTitle", parameters, Boolean.class);
     }
 
     @Override
     public Boolean banChatSenderChat(Object chat_id, String sender_chat_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "sender_chat_id", sender_chat_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "banChatSenderChat")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("banChatSenderChat", parameters, Boolean.class);
     }
 
     @Override
     public Boolean unbanChatSenderChat(Object chat_id, String sender_chat_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "sender_chat_id", sender_chat_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "unbanChatSenderChat")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("unbanChatSenderChat", parameters, Boolean.class);
     }
 
     @Override
     public Boolean setChatPermissions(Object chat_id, ChatPermissions permissions, Boolean use_independent_chat_permissions) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "permissions", permissions);
         safeAdd(parameters, "use_independent_chat_permissions", use_independent_chat_permissions);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setChatPermissions")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setChatPermissions", parameters, Boolean.class);
     }
 
     @Override
     public String exportChatInviteLink(Object chat_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "exportChatInviteLink")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, String.class);
+        return handleRequest("exportChatInviteLink", parameters, String.class);
     }
 
     @Override
     public ChatInviteLink createChatInviteLink(Object chat_id, String name, Integer expire_date, Integer member_limit, Boolean creates_join_request) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "name", name);
@@ -798,17 +1398,13 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "member_limit", member_limit);
         safeAdd(parameters, "creates_join_request", creates_join_request);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "createChatInviteLink")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, ChatInviteLink.class);
+        return handleRequest("createChatInviteLink", parameters, ChatInviteLink.class);
     }
 
     @Override
     public ChatInviteLink editChatInviteLink(Object chat_id, String invite_link, String name, Integer expire_date, Integer member_limit, Boolean creates_join_request) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "invite_link", invite_link);
@@ -817,468 +1413,341 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "member_limit", member_limit);
         safeAdd(parameters, "creates_join_request", creates_join_request);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "editChatInviteLink")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, ChatInviteLink.class);
+        return handleRequest("editChatInviteLink", parameters, ChatInviteLink.class);
     }
 
     @Override
     public ChatInviteLink revokeChatInviteLink(Object chat_id, String invite_link) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "invite_link", invite_link);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "revokeChatInviteLink")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, ChatInviteLink.class);
+        return handleRequest("revokeChatInviteLink", parameters, ChatInviteLink.class);
     }
 
     @Override
     public Boolean approveChatJoinRequest(Object chat_id, Long user_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "user_id", user_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "approveChatJoinRequest")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("approveChatJoinRequest", parameters, Boolean.class);
     }
 
     @Override
     public Boolean declineChatJoinRequest(Object chat_id, Long user_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "user_id", user_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "declineChatJoinRequest")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("declineChatJoinRequest", parameters, Boolean.class);
     }
 
     @Override
-    public Boolean setChatPhoto(Object chat_id, java.io.File photo) throws TelegramException {
+    public Boolean setChatPhoto(Object chat_id, Object photo) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         addFile(parameters, "photo", photo, MediaTypes.MEDIA_TYPE_PHOTO);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setChatPhoto")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setChatPhoto", parameters, Boolean.class);
     }
 
     @Override
     public Boolean deleteChatPhoto(Object chat_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "deleteChatPhoto")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("deleteChatPhoto", parameters, Boolean.class);
     }
 
     @Override
     public Boolean setChatTitle(Object chat_id, String title) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "title", title);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setChatTitle")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setChatTitle", parameters, Boolean.class);
     }
 
     @Override
     public Boolean setChatDescription(Object chat_id, String description) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "description", description);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setChatDescription")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setChatDescription", parameters, Boolean.class);
     }
 
     @Override
     public Boolean pinChatMessage(Object chat_id, Integer message_id, Boolean disable_notification) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_id", message_id);
         safeAdd(parameters, "disable_notification", disable_notification);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "pinChatMessage")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("pinChatMessage", parameters, Boolean.class);
     }
 
     @Override
     public Boolean unpinChatMessage(Object chat_id, Integer message_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_id", message_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "unpinChatMessage")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("unpinChatMessage", parameters, Boolean.class);
     }
 
     @Override
     public Boolean unpinAllChatMessages(Object chat_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "unpinAllChatMessages")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("unpinAllChatMessages", parameters, Boolean.class);
     }
 
     @Override
     public Boolean leaveChat(Object chat_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "leaveChat")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("leaveChat", parameters, Boolean.class);
     }
 
     @Override
     public Boolean unbanChatMember(Object chat_id, Long user_id, Boolean only_if_banned) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "user_id", user_id);
         safeAdd(parameters, "only_if_banned", only_if_banned);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "unbanChatMember")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("unbanChatMember", parameters, Boolean.class);
     }
 
     @Override
     public Chat getChat(Object chat_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getChat")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Chat.class);
+        return handleRequest("getChat", parameters, Chat.class);
     }
 
     @Override
     public List<ChatMember> getChatAdministrators(Object chat_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getChatAdministrators")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Types.newParameterizedType(List.class, ChatMember.class));
+        return handleRequest("getChatAdministrators", parameters, MoshiProvider.LIST_OF_CHAT_MEMBER);
     }
 
     @Override
     public Integer getChatMemberCount(Object chat_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getChatMemberCount")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Integer.class);
+        return handleRequest("getChatMemberCount", parameters, Integer.class);
     }
 
     @Override
     public ChatMember getChatMember(Object chat_id, Long user_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "user_id", user_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getChatMember")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, ChatMember.class);
+        return handleRequest("getChatMember", parameters, ChatMember.class);
     }
 
     @Override
     public Boolean setChatStickerSet(Object chat_id, String sticker_set_name) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "sticker_set_name", sticker_set_name);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setChatStickerSet")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setChatStickerSet", parameters, Boolean.class);
     }
 
     @Override
     public Boolean deleteChatStickerSet(Object chat_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "deleteChatStickerSet")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("deleteChatStickerSet", parameters, Boolean.class);
     }
 
     @Override
     public List<Sticker> getForumTopicIconStickers() throws TelegramException {
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getForumTopicIconStickers")
-                .build();
-        return handleRequest(request, Types.newParameterizedType(List.class, Sticker.class));
+        return handleRequest("getForumTopicIconStickers", null, MoshiProvider.LIST_OF_STICKER);
     }
 
     @Override
     public ForumTopic createForumTopic(Object chat_id, String name, Integer icon_color, String icon_custom_emoji_id) throws TelegramException {
         final Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "name", name);
         safeAdd(parameters, "icon_color", icon_color);
         safeAdd(parameters, "icon_custom_emoji_id", icon_custom_emoji_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "createForumTopic")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, ForumTopic.class);
+        return handleRequest("createForumTopic", parameters, ForumTopic.class);
     }
 
     @Override
     public Boolean editForumTopic(Object chat_id, Integer message_thread_id, String name, String icon_custom_emoji_id) throws TelegramException {
         final Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
         safeAdd(parameters, "name", name);
         safeAdd(parameters, "icon_custom_emoji_id", icon_custom_emoji_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "editForumTopic")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("editForumTopic", parameters, Boolean.class);
     }
 
     @Override
     public Boolean closeForumTopic(Object chat_id, Integer message_thread_id) throws TelegramException {
         final Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "closeForumTopic")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("closeForumTopic", parameters, Boolean.class);
     }
 
     @Override
     public Boolean reopenForumTopic(Object chat_id, Integer message_thread_id) throws TelegramException {
         final Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "reopenForumTopic")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("reopenForumTopic", parameters, Boolean.class);
     }
 
     @Override
     public Boolean deleteForumTopic(Object chat_id, Integer message_thread_id) throws TelegramException {
         final Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "deleteForumTopic")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("deleteForumTopic", parameters, Boolean.class);
     }
 
     @Override
     public Boolean unpinAllForumTopicMessages(Object chat_id, Integer message_thread_id) throws TelegramException {
         final Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "unpinAllForumTopicMessages")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("unpinAllForumTopicMessages", parameters, Boolean.class);
     }
 
     @Override
     public Boolean editGeneralForumTopic(Object chat_id, String name) throws TelegramException {
         final Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "name", name);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "editGeneralForumTopic")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("editGeneralForumTopic", parameters, Boolean.class);
     }
 
     @Override
     public Boolean closeGeneralForumTopic(Object chat_id) throws TelegramException {
         final Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "closeGeneralForumTopic")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("closeGeneralForumTopic", parameters, Boolean.class);
     }
 
     @Override
     public Boolean reopenGeneralForumTopic(Object chat_id) throws TelegramException {
         final Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "reopenGeneralForumTopic")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("reopenGeneralForumTopic", parameters, Boolean.class);
     }
 
     @Override
     public Boolean hideGeneralForumTopic(Object chat_id) throws TelegramException {
         final Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "hideGeneralForumTopic")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("hideGeneralForumTopic", parameters, Boolean.class);
     }
 
     @Override
     public Boolean unhideGeneralForumTopic(Object chat_id) throws TelegramException {
         final Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "unhideGeneralForumTopic")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("unhideGeneralForumTopic", parameters, Boolean.class);
     }
 
     @Override
     public Boolean unpinAllGeneralForumTopicMessages(Object chat_id) throws TelegramException {
         final Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         
-        final Request request = new Request.Builder()
-                .url(apiUrl + "unpinAllGeneralForumTopicMessages")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("unpinAllGeneralForumTopicMessages", parameters, Boolean.class);
     }
 
     @Override
     public Boolean answerCallbackQuery(String callback_query_id, String text, Boolean show_alert, String url, Integer cache_time) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "callback_query_id", callback_query_id);
         safeAdd(parameters, "text", text);
@@ -1286,197 +1755,141 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "url", url);
         safeAdd(parameters, "cache_time", cache_time);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "answerCallbackQuery")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("answerCallbackQuery", parameters, Boolean.class);
     }
 
     @Override
     public Boolean setMyCommands(List<BotCommand> commands, BotCommandScope scope, String language_code) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
-        safeAdd(parameters, "commands", moshi.adapter(Types.newParameterizedType(List.class, BotCommand.class)).toJson(commands));
+        safeAdd(parameters, "commands", commands, MoshiProvider.LIST_OF_BOT_COMMAND);
         safeAdd(parameters, "scope", scope);
         safeAdd(parameters, "language_code", language_code);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setMyCommands")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setMyCommands", parameters, Boolean.class);
     }
 
     @Override
     public Boolean deleteMyCommands(BotCommandScope scope, String language_code) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "scope", scope);
         safeAdd(parameters, "language_code", language_code);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setMyCommands")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setMyCommands", parameters, Boolean.class);
     }
 
     @Override
     public List<BotCommand> getMyCommands(BotCommandScope scope, String language_code) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "scope", scope);
         safeAdd(parameters, "language_code", language_code);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getMyCommands")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Types.newParameterizedType(List.class, BotCommand.class));
+        return handleRequest("getMyCommands", parameters, MoshiProvider.LIST_OF_BOT_COMMAND);
     }
 
     @Override
     public Boolean setMyName(String name, String language_code) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "name", name);
         safeAdd(parameters, "language_code", language_code);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setMyName")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setMyName", parameters, Boolean.class);
     }
 
     @Override
     public BotName getMyName(String language_code) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "language_code", language_code);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getMyName")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, BotName.class);
+        return handleRequest("getMyName", parameters, BotName.class);
     }
 
     @Override
     public Boolean setMyDescription(String description, String language_code) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "description", description);
         safeAdd(parameters, "language_code", language_code);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setMyDescription")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setMyDescription", parameters, Boolean.class);
     }
 
     @Override
     public BotDescription getMyDescription(String language_code) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "language_code", language_code);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getMyDescription")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, BotDescription.class);
+        return handleRequest("getMyDescription", parameters, BotDescription.class);
     }
 
     @Override
     public Boolean setMyShortDescription(String short_description, String language_code) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "short_description", short_description);
         safeAdd(parameters, "language_code", language_code);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setMyShortDescription")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setMyShortDescription", parameters, Boolean.class);
     }
 
     @Override
     public BotShortDescription getMyShortDescription(String language_code) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "language_code", language_code);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getMyShortDescription")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, BotShortDescription.class);
+        return handleRequest("getMyShortDescription", parameters, BotShortDescription.class);
     }
 
     @Override
     public Boolean setChatMenuButton(Object chat_id, MenuButton menu_button) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
-        safeAdd(parameters, "menu_button", moshi.adapter(MenuButton.class).toJson(menu_button));
+        safeAdd(parameters, "menu_button", menu_button, MenuButton.class);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setChatMenuButton")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setChatMenuButton", parameters, Boolean.class);
     }
 
     @Override
     public MenuButton getChatMenuButton(Object chat_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getChatMenuButton")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, MenuButton.class);
+        return handleRequest("getChatMenuButton", parameters, MenuButton.class);
     }
 
     @Override
     public Boolean setMyDefaultAdministratorRights(ChatAdministratorRights rights, Boolean for_channels) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
-        safeAdd(parameters, "rights", moshi.adapter(ChatAdministratorRights.class).toJson(rights));
+        safeAdd(parameters, "rights", rights, ChatAdministratorRights.class);
         safeAdd(parameters, "for_channels", for_channels);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setMyDefaultAdministratorRights")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setMyDefaultAdministratorRights", parameters, Boolean.class);
     }
 
     @Override
     public ChatAdministratorRights getMyDefaultAdministratorRights(Boolean for_channels) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "for_channels", for_channels);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getMyDefaultAdministratorRights")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, ChatAdministratorRights.class);
+        return handleRequest("getMyDefaultAdministratorRights", parameters, ChatAdministratorRights.class);
     }
 
     @Override
     public Message editMessageText(Object chat_id, Integer message_id, String inline_message_id, String text, ParseMode parse_mode, Boolean disable_web_page_preview, InlineKeyboardMarkup reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_id", message_id);
@@ -1486,159 +1899,120 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "disableWebPagePreview", disable_web_page_preview);
         safeAdd(parameters, "reply_markup", reply_markup);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "editMessageText")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("editMessageText", parameters, Message.class);
     }
 
     @Override
     public Message editMessageCaption(Object chat_id, Integer message_id, String inline_message_id, String caption, ParseMode parse_mode, InlineKeyboardMarkup reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_id", message_id);
         safeAdd(parameters, "caption", caption);
-        safeAdd(parameters, "caption", parse_mode);
+        safeAdd(parameters, "parse_mode", parse_mode);
         safeAdd(parameters, "inline_message_id", inline_message_id);
         safeAdd(parameters, "reply_markup", reply_markup);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "editMessageCaption")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("editMessageCaption", parameters, Message.class);
     }
 
     @Override
     public Message editMessageMedia(Object chat_id, Integer message_id, String inline_message_id, InputMedia media, InlineKeyboardMarkup reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_id", message_id);
         safeAdd(parameters, "inline_message_id", inline_message_id);
-        safeAdd(parameters, "media", moshi.adapter(InputMedia.class).toJson(media));
+        safeAdd(parameters, "media", media, InputMedia.class);
         safeAdd(parameters, "reply_markup", reply_markup);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "editMessageMedia")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("editMessageMedia", parameters, Message.class);
     }
 
     @Override
     public Message editMessageReplyMarkup(Object chat_id, Integer message_id, String inline_message_id, InlineKeyboardMarkup reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_id", message_id);
         safeAdd(parameters, "inline_message_id", inline_message_id);
         safeAdd(parameters, "reply_markup", reply_markup);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "editMessageReplyMarkup")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("editMessageReplyMarkup", parameters, Message.class);
     }
 
     @Override
     public Poll stopPoll(Object chat_id, Integer message_id, InlineKeyboardMarkup reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
 
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_id", message_id);
         safeAdd(parameters, "reply_markup", reply_markup);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "stopPoll")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Poll.class);
+        return handleRequest("stopPoll", parameters, Poll.class);
     }
 
     @Override
     public Boolean deleteMessage(Object chat_id, Integer message_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
 
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_id", message_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "deleteMessage")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("deleteMessage", parameters, Boolean.class);
     }
 
     @Override
     public List<Update> getUpdates(Integer offset, Integer limit, Integer timeout, List<String> allowed_updates) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "offset", offset);
         safeAdd(parameters, "limit", limit);
         safeAdd(parameters, "timeout", timeout);
-        safeAdd(parameters, "allowed_updates", moshi.adapter(Types.newParameterizedType(List.class, String.class)).toJson(allowed_updates));
+        safeAdd(parameters, "allowed_updates", allowed_updates, MoshiProvider.LIST_OF_STRING);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getUpdates")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Types.newParameterizedType(List.class, Update.class));
+        return handleRequest("getUpdates", parameters, lazyUpdates ? MoshiProvider.LIST_OF_LAZY_UPDATE : MoshiProvider.LIST_OF_UPDATE);
     }
 
     @Override
     public WebhookInfo getWebhookInfo() throws TelegramException {
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getWebhookInfo")
-                .build();
-        return handleRequest(request, WebhookInfo.class);
+        return handleRequest("getWebhookInfo", null, WebhookInfo.class);
     }
 
 
     @Override
     public Boolean setWebhook(String url, java.io.File certificate, String ip_address, Integer max_connections, List<String> allowed_updates, Boolean drop_pending_updates, String secret_token) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "url", url);
         addFile(parameters, "certificate", certificate, MediaTypes.MEDIA_TYPE_APPLICATION);
         safeAdd(parameters, "ip_address", ip_address);
         safeAdd(parameters, "max_connections", max_connections);
-        safeAdd(parameters, "allowed_updates", allowed_updates);
+        safeAdd(parameters, "allowed_updates", allowed_updates, MoshiProvider.LIST_OF_STRING);
         safeAdd(parameters, "drop_pending_updates", drop_pending_updates);
         safeAdd(parameters, "secret_token", secret_token);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setWebhook")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setWebhook", parameters, Boolean.class);
     }
 
     @Override
     public Boolean deleteWebhook(Boolean drop_pending_updates) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
         safeAdd(parameters, "drop_pending_updates", drop_pending_updates);
-        final Request request = new Request.Builder()
-                .url(apiUrl + "deleteWebhook")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("deleteWebhook", parameters, Boolean.class);
     }
 
     @Override
     public Message sendSticker(Object chat_id, Integer message_thread_id, Object sticker, String emoji, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, Object reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "emoji", emoji);
@@ -1649,240 +2023,185 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "reply_markup", reply_markup);
         addFile(parameters, "sticker", sticker, MediaTypes.MEDIA_TYPE_APPLICATION);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendSticker")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendSticker", parameters, Message.class);
     }
 
     @Override
     public StickerSet getStickerSet(String name) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "name", name);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getStickerSet")
-                .build();
-        return handleRequest(request, StickerSet.class);
+        return handleRequest("getStickerSet", parameters, StickerSet.class);
     }
 
     @Override
     public List<Sticker> getCustomEmojiStickers(List<String> custom_emoji_ids) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
-        safeAdd(parameters, "custom_emoji_ids", moshi.adapter(Types.newParameterizedType(List.class, String.class)).toJson(custom_emoji_ids));
+        safeAdd(parameters, "custom_emoji_ids", custom_emoji_ids, MoshiProvider.LIST_OF_STRING);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getCustomEmojiStickers")
-                .build();
-        return handleRequest(request, Types.newParameterizedType(List.class, Sticker.class));
+        return handleRequest("getCustomEmojiStickers", parameters, MoshiProvider.LIST_OF_STICKER);
     }
 
     @Override
-    public File uploadStickerFile(Long user_id, java.io.File png_sticker) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+    public File uploadStickerFile(Long user_id, Object png_sticker) throws TelegramException {
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "user_id", user_id);
         addFile(parameters, "png_sticker", png_sticker, MediaTypes.MEDIA_TYPE_PHOTO);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "uploadStickerFile")
-                .build();
-        return handleRequest(request, File.class);
+        return handleRequest("uploadStickerFile", parameters, File.class);
     }
 
     @Override
     public Boolean createNewStickerSet(Long user_id, String name, String title, List<InputSticker> stickers, String sticker_format, String sticker_type, Boolean needs_repainting) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "user_id", user_id);
         safeAdd(parameters, "name", name);
         safeAdd(parameters, "title", title);
-        safeAdd(parameters, "stickers", stickers);
+        safeAdd(parameters, "stickers", stickers, MoshiProvider.LIST_OF_INPUT_STICKER);
         safeAdd(parameters, "sticker_format", sticker_format);
         safeAdd(parameters, "sticker_type", sticker_type);
         safeAdd(parameters, "needs_repainting", needs_repainting);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "createNewStickerSet")
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("createNewStickerSet", parameters, Boolean.class);
     }
 
     @Override
     public Boolean addStickerToSet(Long user_id, String name, InputSticker sticker) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "user_id", user_id);
         safeAdd(parameters, "name", name);
         safeAdd(parameters, "sticker", sticker);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "addStickerToSet")
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("addStickerToSet", parameters, Boolean.class);
     }
 
     @Override
     public Boolean setStickerPositionInSet(String sticker, Integer position) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "sticker", sticker);
         safeAdd(parameters, "position", position);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setStickerPositionInSet")
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setStickerPositionInSet", parameters, Boolean.class);
     }
 
     @Override
     public Boolean deleteStickerFromSet(String sticker) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "sticker", sticker);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "deleteStickerFromSet")
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("deleteStickerFromSet", parameters, Boolean.class);
     }
 
     @Override
     public Boolean setStickerMaskPosition(String name, MaskPosition mask_position) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "name", name);
         safeAdd(parameters, "mask_position", mask_position);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setStickerMaskPosition")
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setStickerMaskPosition", parameters, Boolean.class);
     }
 
     @Override
     public Boolean setStickerSetTitle(String name, String title) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "name", name);
         safeAdd(parameters, "title", title);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setStickerSetTitle")
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setStickerSetTitle", parameters, Boolean.class);
     }
 
     @Override
     public Boolean setStickerSetThumbnail(String name, Long user_id, java.io.File thumbnail) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "name", name);
         safeAdd(parameters, "user_id", user_id);
         addFile(parameters, "thumbnail", thumbnail, MediaTypes.MEDIA_TYPE_PHOTO);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setStickerSetThumbnail")
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setStickerSetThumbnail", parameters, Boolean.class);
     }
 
     @Override
     public Boolean setStickerSetThumbnail(String name, Long user_id, String thumbnail) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "name", name);
         safeAdd(parameters, "user_id", user_id);
         safeAdd(parameters, "thumbnail", thumbnail);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setStickerSetThumbnail")
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setStickerSetThumbnail", parameters, Boolean.class);
     }
 
     @Override
     public Boolean setCustomEmojiStickerSetThumbnail(String name, String custom_emoji_id) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "name", name);
         safeAdd(parameters, "custom_emoji_id", custom_emoji_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setCustomEmojiStickerSetThumbnail")
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setCustomEmojiStickerSetThumbnail", parameters, Boolean.class);
     }
 
     @Override
     public Boolean deleteStickerSet(String name) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "name", name);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "deleteStickerSet")
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("deleteStickerSet", parameters, Boolean.class);
     }
 
     @Override
     public Boolean setStickerEmojiList(String sticker, List<String> emoji_list) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "sticker", sticker);
-        safeAdd(parameters, "emoji_list", emoji_list);
+        safeAdd(parameters, "emoji_list", emoji_list, MoshiProvider.LIST_OF_STRING);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setStickerEmojiList")
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setStickerEmojiList", parameters, Boolean.class);
     }
 
     @Override
     public Boolean setStickerKeywords(String sticker, List<String> keywords) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "sticker", sticker);
-        safeAdd(parameters, "keywords", keywords);
+        safeAdd(parameters, "keywords", keywords, MoshiProvider.LIST_OF_STRING);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setStickerKeywords")
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("setStickerKeywords", parameters, Boolean.class);
     }
 
     @Override
     public Boolean answerInlineQuery(String inlineQueryId, List<InlineQueryResult> results, Integer cache_time, Boolean is_personal, String next_offset,
                                      InlineQueryResultsButton button) throws TelegramException {
 
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
         safeAdd(parameters, "inline_query_id", inlineQueryId);
-        safeAdd(parameters, "results", moshi.adapter(Types.newParameterizedType(List.class, InlineQueryResult.class)).toJson(results));
+        safeAdd(parameters, "results", results, MoshiProvider.LIST_OF_INLINE_QUERY_RESULT);
         safeAdd(parameters, "cache_time", cache_time);
         safeAdd(parameters, "is_personal", is_personal);
         safeAdd(parameters, "next_offset", next_offset);
         safeAdd(parameters, "button", button);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "answerInlineQuery")
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("answerInlineQuery", parameters, Boolean.class);
     }
 
     @Override
     public SentWebAppMessage answerWebAppQuery(String web_app_query_id, InlineQueryResult result) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
         safeAdd(parameters, "web_app_query_id", web_app_query_id);
         safeAdd(parameters, "result", result);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "answerWebAppQuery")
-                .build();
-        return handleRequest(request, SentWebAppMessage.class);
+        return handleRequest("answerWebAppQuery", parameters, SentWebAppMessage.class);
     }
 
     @Override
@@ -1892,7 +2211,7 @@ public class TelegramBot implements BotAPI {
 
         Object safeChatId = getSafeChatId(chat_id);
 
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
         safeAdd(parameters, "title", title);
@@ -1901,7 +2220,7 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "provider_token", provider_token);
         safeAdd(parameters, "start_parameter", start_parameter);
         safeAdd(parameters, "currency", currency);
-        safeAdd(parameters, "prices", moshi.adapter(Types.newParameterizedType(List.class, LabeledPrice.class)).toJson(prices));
+        safeAdd(parameters, "prices", prices, MoshiProvider.LIST_OF_LABELED_PRICE);
         safeAdd(parameters, "provider_data", provider_data);
         safeAdd(parameters, "photo_url", photo_url);
         safeAdd(parameters, "photo_size", photo_size);
@@ -1919,11 +2238,7 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "reply_to_message_id", reply_to_message_id);
         safeAdd(parameters, "reply_markup", reply_markup);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendInvoice")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendInvoice", parameters, Message.class);
     }
 
     @Override
@@ -1932,15 +2247,15 @@ public class TelegramBot implements BotAPI {
                              Boolean need_name, Boolean need_phone_number, Boolean need_email, Boolean need_shipping_address, Boolean send_phone_number_to_provider,
                              Boolean send_email_to_provider, Boolean is_flexible) throws TelegramException {
 
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
         safeAdd(parameters, "title", title);
         safeAdd(parameters, "description", description);
         safeAdd(parameters, "payload", payload);
         safeAdd(parameters, "provider_token", provider_token);
         safeAdd(parameters, "currency", currency);
-        safeAdd(parameters, "prices", moshi.adapter(Types.newParameterizedType(List.class, LabeledPrice.class)).toJson(prices));
+        safeAdd(parameters, "prices", prices, MoshiProvider.LIST_OF_LABELED_PRICE);
         safeAdd(parameters, "max_tip_amount", max_tip_amount);
-        safeAdd(parameters, "suggested_tip_amounts", moshi.adapter(Types.newParameterizedType(List.class, Integer.class)).toJson(suggested_tip_amounts));
+        safeAdd(parameters, "suggested_tip_amounts", suggested_tip_amounts, MoshiProvider.LIST_OF_INTEGER);
         safeAdd(parameters, "provider_data", provider_data);
         safeAdd(parameters, "photo_url", photo_url);
         safeAdd(parameters, "photo_size", photo_size);
@@ -1954,45 +2269,35 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "send_email_to_provider", send_email_to_provider);
         safeAdd(parameters, "is_flexible", is_flexible);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "createInvoiceLink")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, String.class);
+        return handleRequest("createInvoiceLink", parameters, String.class);
     }
 
     @Override
     public Boolean answerShippingQuery(String shipping_query_id, Boolean ok, List<ShippingOption> shipping_options, String error_message) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
         safeAdd(parameters, "shipping_query_id", shipping_query_id);
         safeAdd(parameters, "ok", ok);
-        safeAdd(parameters, "shipping_options", moshi.adapter(Types.newParameterizedType(List.class, ShippingOption.class)).toJson(shipping_options));
+        safeAdd(parameters, "shipping_options", shipping_options, MoshiProvider.LIST_OF_SHIPPING_OPTION);
         safeAdd(parameters, "error_message", error_message);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "answerShippingQuery")
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("answerShippingQuery", parameters, Boolean.class);
     }
 
     @Override
     public Boolean answerPreCheckoutQuery(String pre_checkout_query_id, Boolean ok, String error_message) throws TelegramException {
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "pre_checkout_query_id", pre_checkout_query_id);
         safeAdd(parameters, "ok", ok);
         safeAdd(parameters, "error_message", error_message);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "answerPreCheckoutQuery")
-                .build();
-        return handleRequest(request, Boolean.class);
+        return handleRequest("answerPreCheckoutQuery", parameters, Boolean.class);
     }
 
     @Override
     public Message sendGame(Object chat_id, Integer message_thread_id, String game_short_name, Boolean disable_notification, Boolean protect_content, Integer reply_to_message_id, InlineKeyboardMarkup reply_markup) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_thread_id", message_thread_id);
@@ -2002,17 +2307,13 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "reply_to_message_id", reply_to_message_id);
         safeAdd(parameters, "reply_markup", reply_markup);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "sendGame")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("sendGame", parameters, Message.class);
     }
 
     @Override
     public Message setGameScore(Long user_id, Integer score, Boolean force, Boolean disable_edit_message, Object chat_id, Integer message_id, String inline_message_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "user_id", user_id);
         safeAdd(parameters, "score", score);
@@ -2022,27 +2323,19 @@ public class TelegramBot implements BotAPI {
         safeAdd(parameters, "message_id", message_id);
         safeAdd(parameters, "inline_message_id", inline_message_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "setGameScore")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Message.class);
+        return handleRequest("setGameScore", parameters, Message.class);
     }
 
     @Override
     public List<GameHighScore> getGameHighScores(Long user_id, Object chat_id, Integer message_id, String inline_message_id) throws TelegramException {
         Object safeChatId = getSafeChatId(chat_id);
-        final MultipartBody.Builder parameters = bodyBuilder();
+        final RequestParameters parameters = new RequestParameters();
 
         safeAdd(parameters, "user_id", user_id);
         safeAdd(parameters, "chat_id", safeChatId);
         safeAdd(parameters, "message_id", message_id);
         safeAdd(parameters, "inline_message_id", inline_message_id);
 
-        final Request request = new Request.Builder()
-                .url(apiUrl + "getGameHighScores")
-                .post(parameters.build())
-                .build();
-        return handleRequest(request, Types.newParameterizedType(List.class, Message.class));
+        return handleRequest("getGameHighScores", parameters, MoshiProvider.LIST_OF_MESSAGE);
     }
 }
@@ -0,0 +1,246 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi;
+
+import com.cadiducho.telegrambotapi.handlers.UpdateKeys;
+import com.cadiducho.telegrambotapi.metrics.BotMetricsListener;
+import com.cadiducho.telegrambotapi.metrics.MetricsEventListener;
+import com.cadiducho.telegrambotapi.transport.OkHttpTransport;
+import com.cadiducho.telegrambotapi.transport.TelegramTransport;
+import com.cadiducho.telegrambotapi.util.FileIdCache;
+import com.cadiducho.telegrambotapi.util.RateLimiter;
+import lombok.Builder;
+import lombok.Value;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Settings used to build a {@link TelegramBot}.
+ * Every option is optional, and a null value keeps the OkHttp default (or the value of the given {@link #httpClient}).
+ */
+@Value
+@Builder
+public class TelegramBotConfig {
+
+    /**
+     * Optional. HTTP client that sends the requests, like {@link com.cadiducho.telegrambotapi.transport.JdkHttpTransport}.
+     * When set, the OkHttp options of this configuration are ignored. Default is an {@link OkHttpTransport} built with those options.
+     */
+    TelegramTransport transport;
+
+    /**
+     * Optional. Base client for the bot. Pass the same client to several bots to share its connection pool and dispatcher.
+     * Its connection pool is always kept, so it cannot be combined with {@link #maxIdleConnections} nor {@link #keepAlive}.
+     */
+    OkHttpClient httpClient;
+
+    /**
+     * Optional. Base URL of the Bot API server, like <code>http://localhost:8081</code> for a self-hosted server. Default is <code>https://api.telegram.org</code>.
+     */
+    String baseUrl;
+
+    /**
+     * Optional. Enable when the Bot API server runs with <code>--local</code> in the same machine.
+     * Files and paths are uploaded by sending their <code>file://</code> URI, and files returned by getFile are read from the disk instead of being downloaded.
+     */
+    Boolean localMode;
+
+    /**
+     * Optional. Maximum number of idle connections kept in the pool. OkHttp default is 5. Not allowed with a shared {@link #httpClient}.
+     */
+    Integer maxIdleConnections;
+
+    /**
+     * Optional. Time an idle connection is kept alive in the pool. OkHttp default is 5 minutes. Not allowed with a shared {@link #httpClient}.
+     */
+    Duration keepAlive;
+
+    /**
+     * Optional. Maximum number of asynchronous requests executing concurrently. OkHttp default is 64.
+     */
+    Integer maxRequests;
+
+    /**
+     * Optional. Maximum number of asynchronous requests executing concurrently against the same host.
+     * OkHttp default is 5, and every Bot API call goes to the same host, so raise it when using {@link AsyncBotAPI}.
+     */
+    Integer maxRequestsPerHost;
+
+    /**
+     * Optional. Connect timeout. OkHttp default is 10 seconds.
+     */
+    Duration connectTimeout;
+
+    /**
+     * Optional. Read timeout. OkHttp default is 10 seconds.
+     */
+    Duration readTimeout;
+
+    /**
+     * Optional. Write timeout. OkHttp default is 10 seconds.
+     */
+    Duration writeTimeout;
+
+    /**
+     * Optional. Protocols to negotiate, like {@link Protocol#HTTP_2} and {@link Protocol#HTTP_1_1}.
+     * Must contain {@link Protocol#HTTP_1_1} or be only {@link Protocol#H2_PRIOR_KNOWLEDGE}.
+     */
+    List<Protocol> protocols;
+
+    /**
+     * Optional. Send every request as multipart/form-data, even if it has no files to upload.
+     * By default only uploads use multipart/form-data, and the rest of the requests are sent as JSON.
+     */
+    Boolean multipartRequests;
+
+    /**
+     * Optional. Receive {@link LazyUpdate}s from getUpdates, which keep their raw JSON and are only fully decoded when their content is accessed.
+     * Useful for bots that route or drop most of their updates. Disabled by default.
+     */
+    Boolean lazyUpdates;
+
+    /**
+     * Optional. Time that the updates poller waits in the server for new updates, up to 50 seconds. Default is 50 seconds.
+     * The read timeout of these requests is raised above it automatically. Zero disables long polling.
+     */
+    Duration pollTimeout;
+
+    /**
+     * Optional. Maximum number of updates received by the updates poller in each request, from 1 to 100. Default is 100.
+     */
+    Integer pollLimit;
+
+    /**
+     * Optional. Types of the updates received by the updates poller, like <code>message</code> or <code>callback_query</code>.
+     * An empty list receives every type except chat_member. By default, the list of the previous request is kept.
+     */
+    List<String> allowedUpdates;
+
+    /**
+     * Optional. Number of received updates waiting to be handled that pauses the updates poller, which stops calling getUpdates.
+     * Telegram keeps the updates that are not requested, so none is lost. Default is 1000.
+     */
+    Integer queueHighWatermark;
+
+    /**
+     * Optional. Number of received updates waiting to be handled that resumes a paused updates poller. Default is half of {@link #queueHighWatermark}.
+     */
+    Integer queueLowWatermark;
+
+    /**
+     * Optional. Limiter that paces the methods that send or edit messages, like {@link RateLimiter#RateLimiter()} with the limits of Telegram.
+     * Share the same limiter between the bots of a token. By default, requests are not limited.
+     */
+    RateLimiter rateLimiter;
+
+    /**
+     * Optional. Times a failed request is repeated when Telegram asks to retry it after some seconds (error 429),
+     * or when the group was migrated to a supergroup, in which case it is sent to the new chat id. By default, requests are not retried.
+     */
+    Integer maxRetries;
+
+    /**
+     * Optional. Share one request between concurrent identical calls to read-only methods, like getChat or getChatMember.
+     * Callers receive the same result object, so it must not be modified. Disabled by default.
+     */
+    Boolean coalesceReads;
+
+    /**
+     * Optional. Time to live of the cached results of getChat, getChatAdministrators, getChatMember and getChatMemberCount.
+     * Entries are also invalidated by the received updates that change the chat. By default, these results are not cached.
+     */
+    Duration chatCacheTtl;
+
+    /**
+     * Optional. Maximum number of chats kept in the cache of chat metadata. Default is 1000.
+     */
+    Integer chatCacheSize;
+
+    /**
+     * Optional. Cache of the file_id of uploaded files, so the same content is not uploaded twice.
+     * A file_id is only valid for the bot that uploaded it, so caches must not be shared between bots. By default, files are always uploaded.
+     */
+    FileIdCache fileIdCache;
+
+    /**
+     * Optional. On Java 21 or newer, handle every update received by the updates poller in its own virtual thread,
+     * and execute the calls of {@link AsyncBotAPI} as blocking calls in virtual threads.
+     * Updates of different chats are then handled concurrently, see {@link #updateOrderingKey}. Ignored on older versions, which keep using platform threads. Disabled by default.
+     */
+    Boolean virtualThreads;
+
+    /**
+     * Optional. Number of threads that handle the updates received by the updates poller when virtual threads are not used.
+     * Updates of different chats are handled in parallel and the updates of the same chat one after another, see {@link #updateOrderingKey}.
+     * By default, a single thread handles every update.
+     */
+    Integer handlerThreads;
+
+    /**
+     * Optional. Key of the updates that are handled one after another when they are handled in parallel, like {@link UpdateKeys#chatAndThread(Update)}
+     * to also handle the topics of a forum in parallel. Default is {@link UpdateKeys#chat(Update)}.
+     */
+    Function<Update, ?> updateOrderingKey;
+
+    /**
+     * Optional. Receiver of the latency, errors and in-flight requests of every Bot API method, like {@link com.cadiducho.telegrambotapi.metrics.MetricsRegistry}.
+     * The OkHttp transport also reports the network phases and body sizes, replacing the event listener of the given {@link #httpClient}. Disabled by default.
+     */
+    BotMetricsListener metrics;
+
+    /**
+     * Build the transport described by this configuration
+     * @return the transport to use in a bot
+     */
+    public TelegramTransport buildTransport() {
+        return transport != null ? transport : new OkHttpTransport(buildHttpClient());
+    }
+
+    /**
+     * Build the {@link OkHttpClient} described by this configuration
+     * @return the client to use in a bot
+     * @throws IllegalArgumentException if the connection pool of a shared {@link #httpClient} would be replaced
+     */
+    public OkHttpClient buildHttpClient() {
+        //Replacing the pool of a shared client would stop sharing its connections with the other bots
+        if (httpClient != null && (maxIdleConnections != null || keepAlive != null)) {
+            throw new IllegalArgumentException("maxIdleConnections and keepAlive cannot be set with a shared httpClient, configure its connection pool instead");
+        }
+        final OkHttpClient.Builder builder = httpClient != null ? httpClient.newBuilder() : new OkHttpClient.Builder();
+
+        if (maxIdleConnections != null || keepAlive != null) {
+            builder.connectionPool(new ConnectionPool(
+                    maxIdleConnections != null ? maxIdleConnections : 5,
+                    keepAlive != null ? keepAlive.toMillis() : TimeUnit.MINUTES.toMillis(5),
+                    TimeUnit.MILLISECONDS));
+        }
+
+        //Never modify the dispatcher of a shared client, create a new one instead
+        if (maxRequests != null || maxRequestsPerHost != null) {
+            final Dispatcher dispatcher = new Dispatcher();
+            if (maxRequests != null) dispatcher.setMaxRequests(maxRequests);
+            if (maxRequestsPerHost != null) dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+            builder.dispatcher(dispatcher);
+        }
+
+        if (connectTimeout != null) builder.connectTimeout(connectTimeout);
+        if (readTimeout != null) builder.readTimeout(readTimeout);
+        if (writeTimeout != null) builder.writeTimeout(writeTimeout);
+        if (protocols != null) builder.protocols(protocols);
+        if (metrics != null) builder.eventListenerFactory(MetricsEventListener.factory(metrics));
+
+        return builder.build();
+    }
+}
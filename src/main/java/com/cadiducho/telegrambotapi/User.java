@@ -9,6 +9,7 @@ package com.cadiducho.telegrambotapi;
 
 import com.squareup.moshi.Json;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
@@ -17,6 +18,7 @@ import lombok.ToString;
  */
 @ToString
 @Getter @Setter
+@NoArgsConstructor
 public class User {
     
     /**
@@ -0,0 +1,40 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.exception;
+
+import com.cadiducho.telegrambotapi.ResponseParameters;
+import lombok.Getter;
+
+/**
+ * An error returned by the Bot API, with its error code and the parameters to handle it
+ */
+@Getter
+public class TelegramApiException extends TelegramException {
+
+    /**
+     * Error code of the response, like 400, 403 or 429. It may change in the future
+     */
+    private final Integer errorCode;
+
+    /**
+     * Optional. Seconds to wait before repeating the request, if flood control was exceeded
+     */
+    private final Integer retryAfter;
+
+    /**
+     * Optional. New identifier of the chat, if the group was migrated to a supergroup
+     */
+    private final Long migrateToChatId;
+
+    public TelegramApiException(String description, Integer errorCode, ResponseParameters parameters) {
+        super(description);
+        this.errorCode = errorCode;
+        this.retryAfter = parameters != null ? parameters.getRetryAfter() : null;
+        this.migrateToChatId = parameters != null ? parameters.getMigrateToChatId() : null;
+    }
+}
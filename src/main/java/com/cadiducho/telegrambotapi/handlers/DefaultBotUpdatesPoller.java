@@ -13,12 +13,23 @@ import com.squareup.moshi.JsonDataException;
 import lombok.Setter;
 import lombok.extern.java.Log;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 
 @Log
@@ -29,13 +40,53 @@ public class DefaultBotUpdatesPoller implements BotUpdatesPoller {
     @Setter private LongPollingHandler handler;
     @Setter private UpdatesSupplier updatesSupplier;
     @Setter private ExceptionHandler exceptionHandler;
+
+    /**
+     * Dispatcher of the updates to the executor set in {@link #setHandlerExecutor(Executor)}, or null to handle them in the handler thread
+     */
+    private volatile OrderedDispatcher dispatcher;
+
+    /**
+     * Key of the updates that are handled one after another when they run in an executor, like {@link UpdateKeys#chatAndThread(Update)}.
+     * Updates with different keys are handled in parallel. Null to handle every update concurrently. Default is {@link UpdateKeys#chat(Update)}
+     */
+    @Setter private Function<Update, ?> orderingKey = UpdateKeys::chat;
+
+    /**
+     * Seconds that each getUpdates waits in the server until an update arrives. Zero polls without waiting
+     */
+    private int timeout = 50;
+
+    /**
+     * Maximum number of updates received in each getUpdates, or null to receive up to 100
+     */
+    private Integer limit;
+
+    /**
+     * Types of the updates to receive, or null to keep the ones of the previous request
+     */
+    @Setter private List<String> allowedUpdates;
+
+    /**
+     * Number of received updates not handled yet that pauses getUpdates until they go down to {@link #lowWatermark}.
+     * Telegram keeps the updates that are not requested, so none is lost
+     */
+    private volatile int highWatermark = 1000;
+    private volatile int lowWatermark = 500;
+
+    /**
+     * Received updates that have not been handled yet, waiting in the queue or in the handler executor
+     */
+    private final AtomicInteger queuedUpdates = new AtomicInteger();
+    private final Object backpressure = new Object();
+    private final LongAdder pausedNanos = new LongAdder();
+    private volatile long pausedSince;
+    private volatile boolean paused;
+
     private ReaderThread readerThread;
     private HandlerThread handlerThread;
-    private int lastReceivedUpdate = 0;
     private volatile boolean running = false;
 
-    private final ConcurrentLinkedDeque<Update> receivedUpdates = new ConcurrentLinkedDeque<>();
-    
     @Override
     public synchronized void start() {
         if (running) {
@@ -44,15 +95,15 @@ public class DefaultBotUpdatesPoller implements BotUpdatesPoller {
 
         running = true;
 
-        lastReceivedUpdate = 0;
-
-        readerThread = new ReaderThread(updatesSupplier, this);
-        readerThread.setName("Bot Telegram Connection");
-        readerThread.start();
-
+        //Every session has its own threads, queue and offset, so the threads of a stopped session never mix with the new ones.
+        //The handler thread must exist before the reader unparks it
         handlerThread = new HandlerThread();
         handlerThread.setName("Bot Telegram Updates Consumer");
         handlerThread.start();
+
+        readerThread = new ReaderThread(updatesSupplier, handlerThread);
+        readerThread.setName("Bot Telegram Connection");
+        readerThread.start();
     }
 
     @Override
@@ -64,10 +115,11 @@ public class DefaultBotUpdatesPoller implements BotUpdatesPoller {
         running = false;
 
         if (readerThread != null) {
-            readerThread.interrupt();
+            readerThread.shutdown();
         }
 
         if (handlerThread != null) {
+            handlerThread.stopped = true;
             handlerThread.interrupt();
         }
     }
@@ -78,15 +130,152 @@ public class DefaultBotUpdatesPoller implements BotUpdatesPoller {
         return running;
     }
 
+    /**
+     * Set the executor that runs the handler of the updates, like a fixed thread pool or {@link com.cadiducho.telegrambotapi.util.VirtualThreads#newThreadPerTaskExecutor(String)}.
+     * Updates with the same {@link #setOrderingKey(Function) ordering key} are handled one after another and the rest in parallel.
+     * By default, the handler thread handles every update one after another
+     * @param handlerExecutor The executor, or null to handle the updates in the handler thread
+     */
+    public void setHandlerExecutor(Executor handlerExecutor) {
+        this.dispatcher = handlerExecutor != null ? new OrderedDispatcher(handlerExecutor) : null;
+    }
+
+    /**
+     * Set the size of the buffer of received updates. When the updates not handled yet reach the high watermark,
+     * getUpdates is not called until they go down to the low watermark. Default is 1000 and 500
+     * @param lowWatermark Number of updates that resumes getUpdates
+     * @param highWatermark Number of updates that pauses getUpdates, and the maximum kept in memory when the default updates supplier is used
+     */
+    public void setWatermarks(int lowWatermark, int highWatermark) {
+        if (lowWatermark < 0 || highWatermark <= lowWatermark) {
+            throw new IllegalArgumentException("Watermarks must be 0 <= low < high");
+        }
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+        resumeIfDrained(queuedUpdates.get());
+    }
+
+    /**
+     * Get the number of received updates that have not been handled yet
+     * @return The updates waiting in the queue or being handled
+     */
+    public int getQueuedUpdates() {
+        return queuedUpdates.get();
+    }
+
+    /**
+     * Check if getUpdates is paused because too many updates are waiting to be handled
+     * @return True while the queue is above the low watermark after reaching the high one
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Get the total time that getUpdates has been paused by a full queue
+     * @return The time paused, including the current pause
+     */
+    public Duration getPausedTime() {
+        final long current = paused ? System.nanoTime() - pausedSince : 0;
+        return Duration.ofNanos(pausedNanos.sum() + current);
+    }
+
+    /**
+     * Wait until the queue has room for more updates
+     * @param reader Reader that waits
+     * @throws InterruptedException if the poller is stopped while waiting
+     */
+    private void awaitCapacity(ReaderThread reader) throws InterruptedException {
+        if (queuedUpdates.get() < highWatermark) {
+            return;
+        }
+        synchronized (backpressure) {
+            pausedSince = System.nanoTime();
+            paused = true;
+            try {
+                while (!reader.stopped && queuedUpdates.get() > lowWatermark) {
+                    backpressure.wait();
+                }
+            } finally {
+                paused = false;
+                pausedNanos.add(System.nanoTime() - pausedSince);
+            }
+        }
+    }
+
+    /**
+     * Mark an update as handled
+     */
+    private void handled() {
+        resumeIfDrained(queuedUpdates.decrementAndGet());
+    }
+
+    private void resumeIfDrained(int queued) {
+        if (paused && queued <= lowWatermark) {
+            synchronized (backpressure) {
+                backpressure.notifyAll();
+            }
+        }
+    }
+
+
+    /**
+     * Set the seconds that each getUpdates waits in the server until an update arrives.
+     * The bot raises the read timeout of these requests above it
+     * @param timeout Seconds from 0 to 50. Zero polls without waiting, with a pause between empty responses
+     */
+    public void setTimeout(int timeout) {
+        if (timeout < 0 || timeout > 50) {
+            throw new IllegalArgumentException("Long polling timeout must be between 0 and 50 seconds");
+        }
+        this.timeout = timeout;
+    }
+
+    /**
+     * Set the maximum number of updates received in each getUpdates
+     * @param limit Number from 1 to 100, or null to receive up to 100
+     */
+    public void setLimit(Integer limit) {
+        if (limit != null && (limit < 1 || limit > 100)) {
+            throw new IllegalArgumentException("Updates limit must be between 1 and 100");
+        }
+        this.limit = limit;
+    }
+
     private class ReaderThread extends Thread {
 
         private ExponentialBackOff exponentialBackOff;
         private final UpdatesSupplier updatesSupplier;
-        private final Object lock;
 
-        public ReaderThread(UpdatesSupplier updatesSupplier, Object lock) {
+        /**
+         * Set by {@link DefaultBotUpdatesPoller#stop()}. The poller may be running again with another reader by the time this one ends
+         */
+        private volatile boolean stopped;
+
+        /**
+         * getUpdates request in flight, cancelled when the reader is stopped
+         */
+        private volatile Future<?> poll;
+
+        /**
+         * Last update received in this session, confirmed by the offset of the next request
+         */
+        private int lastReceivedUpdate = 0;
+
+        /**
+         * If empty responses already waited in the server, so the next request can be sent at once
+         */
+        private final boolean longPolling;
+
+        /**
+         * Thread that handles the updates received by this reader
+         */
+        private final HandlerThread consumer;
+
+        public ReaderThread(UpdatesSupplier updatesSupplier, HandlerThread consumer) {
             this.updatesSupplier = Optional.ofNullable(updatesSupplier).orElse(this::getUpdates);
-            this.lock = lock;
+            this.consumer = consumer;
+            this.longPolling = updatesSupplier == null && timeout > 0;
         }
 
         @Override
@@ -97,107 +286,222 @@ public class DefaultBotUpdatesPoller implements BotUpdatesPoller {
             super.start();
         }
 
+        /**
+         * Stop reading. A long poll in flight is cancelled, instead of waiting up to its timeout while it ignores the interrupt
+         */
+        private void shutdown() {
+            stopped = true;
+            final Future<?> request = poll;
+            if (request != null) {
+                request.cancel(true);
+            }
+            interrupt();
+        }
+
         @Override
         public void run() {
             setPriority(Thread.MIN_PRIORITY);
-            while (running) {
-                synchronized (lock) {
-                    if (running) {
-                        try {
-                            List<Update> updates = updatesSupplier.getUpdates();
-                            if (updates.isEmpty()) {
-                                lock.wait(500);
-                            } else {
-                                updates.removeIf(x -> x.getUpdateId() < lastReceivedUpdate);
-                                lastReceivedUpdate = updates.parallelStream()
-                                        .map(Update::getUpdateId)
-                                        .max(Integer::compareTo)
-                                        .orElse(0);
-                                receivedUpdates.addAll(updates);
-
-                                synchronized (receivedUpdates) {
-                                    receivedUpdates.notifyAll();
-                                }
-                            }
-                        } catch (InterruptedException e) {
-                            if (!running) {
-                                receivedUpdates.clear();
-                            }
-                            //log.severe(e.getMessage());
-                            interrupt();
-                        } catch (JsonDataException jsonDataException) {
-                            log.severe("Json Data Exception: ");
-                            log.severe(jsonDataException.getMessage());
-                            interrupt();
-                        } catch (Exception global) {
-                            //log.severe(global.getMessage());
-                            try {
-                                synchronized (lock) {
-                                    lock.wait(exponentialBackOff.nextBackOffMillis());
-                                }
-                            } catch (InterruptedException e) {
-                                if (!running) {
-                                    receivedUpdates.clear();
-                                }
-                                //log.severe(e.getMessage());
-                                interrupt();
-                            }
+            //The lock of the poller is not held while polling, so stop() does not wait for a long poll to finish
+            while (!stopped && !isInterrupted()) {
+                try {
+                    awaitCapacity(this);
+                    List<Update> updates = updatesSupplier.getUpdates();
+                    if (stopped) {
+                        //Not confirmed yet, so they are received again in the next session
+                        break;
+                    }
+                    if (updates.isEmpty()) {
+                        if (!longPolling) {
+                            Thread.sleep(500);
                         }
+                        continue;
+                    }
+                    if (enqueue(updates)) {
+                        LockSupport.unpark(consumer);
+                    }
+                } catch (InterruptedException e) {
+                    //log.severe(e.getMessage());
+                    interrupt();
+                } catch (JsonDataException jsonDataException) {
+                    log.severe("Json Data Exception: ");
+                    log.severe(jsonDataException.getMessage());
+                    interrupt();
+                } catch (Exception global) {
+                    //log.severe(global.getMessage());
+                    try {
+                        Thread.sleep(exponentialBackOff.nextBackOffMillis());
+                    } catch (InterruptedException e) {
+                        //log.severe(e.getMessage());
+                        interrupt();
                     }
                 }
             }
+            if (stopped) {
+                //Nothing is enqueued after this, so every update left can be dropped. They are not confirmed, so they are received again
+                consumer.discardReceived();
+            }
             log.info("Reader thread has being closed");
         }
 
-        private List<Update> getUpdates() {
+        /**
+         * Pass the new updates to the handler thread, skipping the ones older than the last received
+         * @return True if any update was passed
+         */
+        private boolean enqueue(List<Update> updates) {
+            final int previous = lastReceivedUpdate;
+            int last = previous;
+            boolean enqueued = false;
+            for (Update update : updates) {
+                if (update.getUpdateId() < previous) {
+                    continue;
+                }
+                last = Math.max(last, update.getUpdateId());
+                //Counted before the handler can see it, so the count never goes below zero
+                queuedUpdates.incrementAndGet();
+                consumer.receivedUpdates.offer(update);
+                enqueued = true;
+            }
+            lastReceivedUpdate = last;
+            return enqueued;
+        }
+
+        private List<Update> getUpdates() throws TelegramException {
             try {
-                List<Update> updates = bot.getUpdates(lastReceivedUpdate + 1, 0, 3, null);
+                //Never receive more updates than the room left below the high watermark
+                final int room = highWatermark - queuedUpdates.get();
+                final Integer requestLimit = room < (limit != null ? limit : 100) ? Integer.valueOf(Math.max(room, 1)) : limit;
+                List<Update> updates = poll(lastReceivedUpdate + 1, requestLimit);
                 exponentialBackOff.reset();
                 return updates;
             } catch (TelegramException ex) {
-                Optional.ofNullable(exceptionHandler).ifPresent(exHandler -> exHandler.handle(ex));
-                return new ArrayList<>();
+                if (!stopped) {
+                    Optional.ofNullable(exceptionHandler).ifPresent(exHandler -> exHandler.handle(ex));
+                }
+                //Back off before the next request instead of polling again at once
+                throw ex;
             }
         }
-    }
 
-    private List<Update> getUpdateList() {
-        List<Update> updates = new ArrayList<>();
-        for (Iterator<Update> it = receivedUpdates.iterator(); it.hasNext();) {
-            updates.add(it.next());
-            it.remove();
+        /**
+         * Request the updates asynchronously, so that {@link #shutdown()} can cancel the request
+         */
+        private List<Update> poll(int offset, Integer requestLimit) throws TelegramException, InterruptedException {
+            final CompletableFuture<List<Update>> request;
+            try {
+                request = bot.getAsyncInstance().getUpdates(offset, requestLimit, timeout, allowedUpdates);
+            } catch (UnsupportedOperationException ex) {
+                return bot.getUpdates(offset, requestLimit, timeout, allowedUpdates);
+            }
+            poll = request;
+            if (stopped) {
+                request.cancel(true);
+            }
+            try {
+                return request.get();
+            } catch (CancellationException ex) {
+                return Collections.emptyList();
+            } catch (InterruptedException ex) {
+                request.cancel(true);
+                throw ex;
+            } catch (ExecutionException ex) {
+                final Throwable cause = ex.getCause();
+                if (cause instanceof TelegramException) {
+                    throw (TelegramException) cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new TelegramException(cause);
+            } finally {
+                poll = null;
+            }
         }
-        return updates;
     }
 
     private class HandlerThread extends Thread {
 
+        /**
+         * Updates passed from the reader thread of the session, which unparks this thread after every batch
+         */
+        private final Queue<Update> receivedUpdates = new ConcurrentLinkedQueue<>();
+
+        private volatile boolean stopped;
+
+        /**
+         * Drop the updates that were not handled when the poller is stopped
+         */
+        private void discardReceived() {
+            while (receivedUpdates.poll() != null) {
+                queuedUpdates.decrementAndGet();
+            }
+        }
+
         @Override
         public void run() {
             setPriority(Thread.MIN_PRIORITY);
-            while (running) {
+            final List<Update> updates = new ArrayList<>();
+            while (!stopped) {
                 try {
-                    List<Update> updates = getUpdateList();
+                    Update received;
+                    while ((received = receivedUpdates.poll()) != null) {
+                        updates.add(received);
+                    }
                     if (updates.isEmpty()) {
-                        synchronized (receivedUpdates) {
-                            receivedUpdates.wait();
-                            updates = getUpdateList();
-                            if (updates.isEmpty()) {
-                                continue;
-                            }
-                        }
+                        //Woken up by the reader after every batch, or by stop()
+                        LockSupport.park(this);
+                        continue;
+                    }
+                    final OrderedDispatcher dispatcher = DefaultBotUpdatesPoller.this.dispatcher;
+                    if (dispatcher != null) {
+                        updates.forEach(update -> dispatch(dispatcher, update));
+                    } else {
+                        updates.forEach(this::handle);
                     }
-                    updates.forEach(handler::handleUpdate);
-                } catch (InterruptedException e) {
-                    log.severe("Procesamiendo de una update interrumpida: ");
-                    log.severe(Arrays.toString(e.getStackTrace()));
-                    interrupt();
                 } catch (Exception e) {
                     log.severe("Error procesando una update: ");
                     log.severe(Arrays.toString(e.getStackTrace()));
+                } finally {
+                    updates.clear();
                 }
             }
             log.info("Handler thread has being closed");
         }
+
+        private void handle(Update update) {
+            try {
+                handler.handleUpdate(update);
+            } catch (Exception e) {
+                //Keep handling the rest of the batch, so every update is counted as handled
+                log.severe("Error procesando una update: ");
+                log.severe(Arrays.toString(e.getStackTrace()));
+            } finally {
+                handled();
+            }
+        }
+
+        private void dispatch(OrderedDispatcher dispatcher, Update update) {
+            Object key = null;
+            try {
+                key = orderingKey != null ? orderingKey.apply(update) : null;
+            } catch (RuntimeException e) {
+                //Handle it without any order instead of losing it
+                log.warning("Error obteniendo la clave de una update: " + e);
+            }
+            try {
+                dispatcher.dispatch(key, () -> {
+                    try {
+                        handler.handleUpdate(update);
+                    } catch (Exception e) {
+                        log.severe("Error procesando una update: ");
+                        log.severe(Arrays.toString(e.getStackTrace()));
+                    } finally {
+                        handled();
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.severe("Error procesando una update: ");
+                log.severe(Arrays.toString(e.getStackTrace()));
+                handled();
+            }
+        }
     }
-}
\ No newline at end of file
+}
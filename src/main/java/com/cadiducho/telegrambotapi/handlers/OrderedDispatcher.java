@@ -0,0 +1,125 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.handlers;
+
+import lombok.extern.java.Log;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Level;
+
+/**
+ * Runs tasks in an executor, one after another for the tasks with the same key and in parallel for different keys.
+ * Each key only takes one thread of the executor at a time, and gives it back after every task so busy keys do not starve the rest.
+ */
+@Log
+class OrderedDispatcher {
+
+    private final Executor executor;
+
+    /**
+     * Keys with pending tasks. A lane is in this map while it is queued or running in the executor
+     */
+    private final Map<Object, Lane> lanes = new HashMap<>();
+
+    OrderedDispatcher(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Run a task after the previous tasks of its key
+     * @param key Key of the task, or null to run it without any order
+     * @param task Task to run
+     */
+    void dispatch(Object key, Runnable task) {
+        if (key == null) {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                //The executor was shut down, run it here instead of losing it
+                task.run();
+            }
+            return;
+        }
+
+        final Lane lane;
+        synchronized (lanes) {
+            final Lane running = lanes.get(key);
+            if (running != null) {
+                running.tasks.add(task);
+                return;
+            }
+            lane = new Lane(key);
+            lane.tasks.add(task);
+            lanes.put(key, lane);
+        }
+        lane.schedule();
+    }
+
+    /**
+     * Number of keys with tasks queued or running
+     */
+    int activeKeys() {
+        synchronized (lanes) {
+            return lanes.size();
+        }
+    }
+
+    private class Lane implements Runnable {
+        private final Object key;
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+        private Lane(Object key) {
+            this.key = key;
+        }
+
+        private void schedule() {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                //The executor was shut down, run the rest of the tasks here instead of losing them
+                while (runNext()) {
+                    //Keep running
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            if (runNext()) {
+                schedule();
+            }
+        }
+
+        /**
+         * Run the next task of this lane
+         * @return True if the lane has more tasks, false if it was removed
+         */
+        private boolean runNext() {
+            final Runnable task;
+            synchronized (lanes) {
+                task = tasks.poll();
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.log(Level.SEVERE, "Error running a task of " + key, e);
+            }
+            synchronized (lanes) {
+                if (tasks.isEmpty()) {
+                    lanes.remove(key);
+                    return false;
+                }
+                return true;
+            }
+        }
+    }
+}
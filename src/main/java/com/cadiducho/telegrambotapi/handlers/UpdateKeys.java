@@ -0,0 +1,91 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.handlers;
+
+import com.cadiducho.telegrambotapi.ChatJoinRequest;
+import com.cadiducho.telegrambotapi.ChatMemberUpdated;
+import com.cadiducho.telegrambotapi.LazyUpdate;
+import com.cadiducho.telegrambotapi.Message;
+import com.cadiducho.telegrambotapi.Update;
+import com.cadiducho.telegrambotapi.User;
+
+/**
+ * Keys that group the updates handled in order by {@link DefaultBotUpdatesPoller#setOrderingKey(java.util.function.Function)}
+ */
+public final class UpdateKeys {
+
+    private UpdateKeys() {
+    }
+
+    /**
+     * Get the chat where the update was originated, or the user that sent it if it has no chat, like inline queries.
+     * The id of a private chat is the id of its user, so both kinds of updates of a user are kept in order.
+     * {@link LazyUpdate}s are not decoded.
+     * @param update The update
+     * @return The chat or user id, or null if the update has neither, like polls
+     */
+    public static Long chat(Update update) {
+        if (update instanceof LazyUpdate) {
+            final LazyUpdate lazy = (LazyUpdate) update;
+            return lazy.getChatId() != null ? lazy.getChatId() : lazy.getSenderId();
+        }
+
+        final Message message = message(update);
+        if (message != null && message.getChat() != null) {
+            return message.getChat().getId();
+        }
+        if (update.getCallbackQuery() != null) {
+            final Message origin = update.getCallbackQuery().getMessage();
+            return origin != null && origin.getChat() != null ? origin.getChat().getId() : id(update.getCallbackQuery().getFrom());
+        }
+        final Long chatMember = chat(update.getMyChatMember() != null ? update.getMyChatMember() : update.getChatMember());
+        if (chatMember != null) {
+            return chatMember;
+        }
+        final ChatJoinRequest joinRequest = update.getChatJoinRequest();
+        if (joinRequest != null && joinRequest.getChat() != null) {
+            return joinRequest.getChat().getId();
+        }
+
+        if (update.getInlineQuery() != null) return id(update.getInlineQuery().getFrom());
+        if (update.getChosenInlineResult() != null) return id(update.getChosenInlineResult().getFrom());
+        if (update.getShippingQuery() != null) return id(update.getShippingQuery().getFrom());
+        if (update.getPreCheckoutQuery() != null) return id(update.getPreCheckoutQuery().getFrom());
+        if (update.getPollAnswer() != null) return id(update.getPollAnswer().getUser());
+        return null;
+    }
+
+    /**
+     * Get the chat of the update and, for messages in a forum topic, the topic, so different topics of a group are handled in parallel
+     * @param update The update
+     * @return The chat id followed by the message_thread_id, the chat id alone for the rest of updates, or null if the update has no chat nor user
+     */
+    public static Object chatAndThread(Update update) {
+        final Long chat = chat(update);
+        final Message message = chat != null ? message(update) : null;
+        if (message != null && message.getMessageThreadId() != null && Boolean.TRUE.equals(message.getIsTopicMessage())) {
+            return chat + ":" + message.getMessageThreadId();
+        }
+        return chat;
+    }
+
+    private static Message message(Update update) {
+        if (update.getMessage() != null) return update.getMessage();
+        if (update.getEditedMessage() != null) return update.getEditedMessage();
+        if (update.getChannelPost() != null) return update.getChannelPost();
+        return update.getEditedChannelPost();
+    }
+
+    private static Long chat(ChatMemberUpdated chatMemberUpdated) {
+        return chatMemberUpdated != null && chatMemberUpdated.getChat() != null ? chatMemberUpdated.getChat().getId() : null;
+    }
+
+    private static Long id(User user) {
+        return user != null ? user.getId() : null;
+    }
+}
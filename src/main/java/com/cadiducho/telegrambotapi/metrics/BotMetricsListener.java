@@ -0,0 +1,60 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.metrics;
+
+import com.cadiducho.telegrambotapi.exception.TelegramException;
+
+/**
+ * Receives the metrics of the requests of a bot, like {@link MetricsRegistry}.
+ * Every attempt of a request is reported, while results served by caches or shared with identical requests are not.
+ * Methods are called by the threads executing the requests, so they must be fast and thread-safe.
+ */
+public interface BotMetricsListener {
+
+    /**
+     * A request is about to be sent, once the rate limiter lets it through
+     * @param method Name of the Bot API method
+     */
+    default void onRequestStart(String method) {
+    }
+
+    /**
+     * A request has been answered successfully
+     * @param method Name of the Bot API method
+     * @param nanos Time since the request was started, including the decoding of the response
+     */
+    default void onRequestSuccess(String method, long nanos) {
+    }
+
+    /**
+     * A request has failed, either with an error of Telegram or without getting a response
+     * @param method Name of the Bot API method
+     * @param nanos Time since the request was started
+     * @param failure The error, a {@link com.cadiducho.telegrambotapi.exception.TelegramApiException} if Telegram answered it
+     */
+    default void onRequestFailure(String method, long nanos, TelegramException failure) {
+    }
+
+    /**
+     * A phase of an HTTP call has finished. Only reported by the OkHttp transport
+     * @param method Name of the Bot API method, or downloadFile
+     * @param phase The phase
+     * @param nanos Duration of the phase
+     */
+    default void onNetworkPhase(String method, NetworkPhase phase, long nanos) {
+    }
+
+    /**
+     * An HTTP call has finished. Only reported by the OkHttp transport
+     * @param method Name of the Bot API method, or downloadFile
+     * @param requestBytes Size of the body of the request
+     * @param responseBytes Size of the body of the response that was read
+     */
+    default void onBytes(String method, long requestBytes, long responseBytes) {
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.metrics;
+
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the requests of a Bot API method, collected by {@link MetricsRegistry}
+ */
+public class MethodMetrics {
+
+    /**
+     * Error code under which the failures without a response from Telegram, like timeouts, are counted
+     */
+    public static final int NO_RESPONSE = 0;
+
+    @Getter private final String method;
+
+    /**
+     * Latency of every request, successful or not
+     */
+    @Getter private final LatencyHistogram latency = new LatencyHistogram();
+
+    private final LongAdder successes = new LongAdder();
+    private final Map<Integer, LongAdder> failures = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final Map<NetworkPhase, LatencyHistogram> phases = new EnumMap<>(NetworkPhase.class);
+
+    MethodMetrics(String method) {
+        this.method = method;
+        for (NetworkPhase phase : NetworkPhase.values()) {
+            phases.put(phase, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Get the number of successful requests
+     * @return The count
+     */
+    public long getSuccesses() {
+        return successes.sum();
+    }
+
+    /**
+     * Get the number of failed requests by the error_code of Telegram, with those without a response counted under {@link #NO_RESPONSE}
+     * @return The counts, sorted by error code
+     */
+    public Map<Integer, Long> getFailures() {
+        final Map<Integer, Long> counts = new TreeMap<>();
+        failures.forEach((code, count) -> counts.put(code, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Get the number of requests waiting for their response
+     * @return The gauge
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Get the total size of the bodies of the requests
+     * @return Bytes sent
+     */
+    public long getRequestBytes() {
+        return requestBytes.sum();
+    }
+
+    /**
+     * Get the total size of the bodies of the responses
+     * @return Bytes received
+     */
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+    /**
+     * Get the durations of a phase of the HTTP calls
+     * @param phase The phase
+     * @return The histogram
+     */
+    public LatencyHistogram getPhase(NetworkPhase phase) {
+        return phases.get(phase);
+    }
+
+    void start() {
+        inFlight.incrementAndGet();
+    }
+
+    void success(long nanos) {
+        inFlight.decrementAndGet();
+        latency.record(nanos);
+        successes.increment();
+    }
+
+    void failure(long nanos, Integer errorCode) {
+        inFlight.decrementAndGet();
+        latency.record(nanos);
+        failures.computeIfAbsent(errorCode != null ? errorCode : NO_RESPONSE, code -> new LongAdder()).increment();
+    }
+
+    void bytes(long request, long response) {
+        requestBytes.add(request);
+        responseBytes.add(response);
+    }
+
+    @Override
+    public String toString() {
+        return method + ": " + latency + " successes=" + getSuccesses() + " failures=" + getFailures() + " inFlight=" + getInFlight()
+                + " sent=" + getRequestBytes() + "B received=" + getResponseBytes() + "B";
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.metrics;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.HttpUrl;
+import okhttp3.Protocol;
+import okhttp3.Request;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+/**
+ * OkHttp listener that reports the network phases and the body sizes of every call to a {@link BotMetricsListener}.
+ * Installed by {@link com.cadiducho.telegrambotapi.TelegramBotConfig#buildHttpClient()} when metrics are enabled.
+ */
+public class MetricsEventListener extends EventListener {
+
+    private final BotMetricsListener listener;
+    private final String method;
+
+    private long dnsStart;
+    private long connectStart;
+    private long secureConnectStart;
+    private long requestSent;
+    private long requestBytes;
+    private long responseBytes;
+
+    private MetricsEventListener(BotMetricsListener listener, String method) {
+        this.listener = listener;
+        this.method = method;
+    }
+
+    /**
+     * Create a factory of listeners that report to a {@link BotMetricsListener}
+     * @param listener Receiver of the metrics
+     * @return The factory, to be set in {@link okhttp3.OkHttpClient.Builder#eventListenerFactory(EventListener.Factory)}
+     */
+    public static EventListener.Factory factory(BotMetricsListener listener) {
+        return call -> new MetricsEventListener(listener, method(call.request().url()));
+    }
+
+    /**
+     * Get the name of the method of a Bot API URL, like <code>/bot&lt;token&gt;/sendMessage</code>, or downloadFile for <code>/file/bot&lt;token&gt;/&lt;path&gt;</code>
+     */
+    static String method(HttpUrl url) {
+        final List<String> segments = url.pathSegments();
+        for (int i = 0; i < segments.size() - 1; i++) {
+            if (segments.get(i).startsWith("bot")) {
+                return i > 0 && segments.get(i - 1).equals("file") ? "downloadFile" : segments.get(i + 1);
+            }
+        }
+        return url.encodedPath();
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        listener.onNetworkPhase(method, NetworkPhase.DNS, System.nanoTime() - dnsStart);
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        secureConnectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        listener.onNetworkPhase(method, NetworkPhase.TLS, System.nanoTime() - secureConnectStart);
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        listener.onNetworkPhase(method, NetworkPhase.CONNECT, System.nanoTime() - connectStart);
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, Request request) {
+        requestSent = System.nanoTime();
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        requestSent = System.nanoTime();
+        requestBytes += byteCount;
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        listener.onNetworkPhase(method, NetworkPhase.TIME_TO_FIRST_BYTE, System.nanoTime() - requestSent);
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        responseBytes += byteCount;
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        listener.onBytes(method, requestBytes, responseBytes);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        listener.onBytes(method, requestBytes, responseBytes);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.metrics;
+
+import com.cadiducho.telegrambotapi.exception.TelegramApiException;
+import com.cadiducho.telegrambotapi.exception.TelegramException;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Listener that keeps the metrics of every Bot API method in memory, to be read or exported by the bot.
+ * It can be shared by several bots to aggregate their metrics.
+ */
+public class MetricsRegistry implements BotMetricsListener {
+
+    private final Map<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    /**
+     * Get the metrics of a method
+     * @param method Name of the Bot API method
+     * @return The metrics, or null if the method has not been called
+     */
+    public MethodMetrics get(String method) {
+        return methods.get(method);
+    }
+
+    /**
+     * Get the metrics of every called method
+     * @return Unmodifiable view of the metrics by method name
+     */
+    public Map<String, MethodMetrics> getMethods() {
+        return Collections.unmodifiableMap(methods);
+    }
+
+    @Override
+    public void onRequestStart(String method) {
+        metrics(method).start();
+    }
+
+    @Override
+    public void onRequestSuccess(String method, long nanos) {
+        metrics(method).success(nanos);
+    }
+
+    @Override
+    public void onRequestFailure(String method, long nanos, TelegramException failure) {
+        final Integer errorCode = failure instanceof TelegramApiException ? ((TelegramApiException) failure).getErrorCode() : null;
+        metrics(method).failure(nanos, errorCode);
+    }
+
+    @Override
+    public void onNetworkPhase(String method, NetworkPhase phase, long nanos) {
+        metrics(method).getPhase(phase).record(nanos);
+    }
+
+    @Override
+    public void onBytes(String method, long requestBytes, long responseBytes) {
+        metrics(method).bytes(requestBytes, responseBytes);
+    }
+
+    private MethodMetrics metrics(String method) {
+        final MethodMetrics metrics = methods.get(method);
+        return metrics != null ? metrics : methods.computeIfAbsent(method, MethodMetrics::new);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        methods.values().forEach(metrics -> builder.append(metrics).append('\n'));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.metrics;
+
+/**
+ * Phases of an HTTP call timed by {@link MetricsEventListener}
+ */
+public enum NetworkPhase {
+
+    /**
+     * Resolution of the host name
+     */
+    DNS,
+
+    /**
+     * Opening of a new connection, including its TLS handshake
+     */
+    CONNECT,
+
+    /**
+     * TLS handshake of a new connection
+     */
+    TLS,
+
+    /**
+     * Time from the request being sent until the first byte of the response, mostly spent by the Bot API server
+     */
+    TIME_TO_FIRST_BYTE
+}
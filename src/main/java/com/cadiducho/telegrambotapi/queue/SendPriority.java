@@ -0,0 +1,29 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.queue;
+
+/**
+ * Priorities of the requests of a {@link SendQueue}, from the most to the least urgent
+ */
+public enum SendPriority {
+
+    /**
+     * Replies to users that are waiting for them
+     */
+    INTERACTIVE,
+
+    /**
+     * Notifications that are not a reply to a user
+     */
+    NOTIFICATION,
+
+    /**
+     * Mass sends, like broadcasts, that can be delayed
+     */
+    BULK
+}
@@ -0,0 +1,300 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.queue;
+
+import com.cadiducho.telegrambotapi.AsyncBotAPI;
+import com.cadiducho.telegrambotapi.BotAPI;
+import com.cadiducho.telegrambotapi.exception.TelegramException;
+import lombok.extern.java.Log;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded queue of outbound requests, sent by a fixed number of workers.
+ * Requests are taken by {@link SendPriority}, and chats with the same priority take turns, so a chat with thousands of queued messages does not delay the rest.
+ * Requests to the same chat and priority are sent one at a time and in order.
+ * When the queue is full, {@link #submit(Object, SendPriority, AsyncBotAPI.BotMethod)} blocks until there is room, and {@link #trySubmit(Object, SendPriority, AsyncBotAPI.BotMethod)} fails.
+ */
+@Log
+public class SendQueue implements AutoCloseable {
+
+    private static final SendPriority[] PRIORITIES = SendPriority.values();
+
+    private final BotAPI bot;
+    private final int capacity;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * Queues of every chat with pending or in flight requests, by priority
+     */
+    private final List<Map<String, ChatQueue>> chats = new ArrayList<>();
+
+    /**
+     * Chats with pending requests and nothing in flight, in the order they take turns, by priority
+     */
+    private final List<ArrayDeque<ChatQueue>> ready = new ArrayList<>();
+
+    private int size;
+    private boolean closed;
+
+    /**
+     * Create a queue of 10000 requests sent by 5 workers, the connections OkHttp opens to the same host by default
+     * @param bot Bot that sends the requests
+     */
+    public SendQueue(BotAPI bot) {
+        this(bot, 10_000, 5);
+    }
+
+    /**
+     * Create a queue
+     * @param bot Bot that sends the requests
+     * @param capacity Maximum number of requests waiting to be sent
+     * @param workers Number of requests sent concurrently
+     */
+    public SendQueue(BotAPI bot, int capacity, int workers) {
+        this(bot, capacity, workers, daemonThreads());
+    }
+
+    /**
+     * Create a queue whose workers are created by a factory, like {@link com.cadiducho.telegrambotapi.util.VirtualThreads#factory(String)}.
+     * Workers blocked on a request do not hold a platform thread when they are virtual, so thousands of them can be used
+     * @param bot Bot that sends the requests
+     * @param capacity Maximum number of requests waiting to be sent
+     * @param workers Number of requests sent concurrently
+     * @param threadFactory Factory of the workers
+     */
+    public SendQueue(BotAPI bot, int capacity, int workers, ThreadFactory threadFactory) {
+        if (capacity <= 0 || workers <= 0) {
+            throw new IllegalArgumentException("The capacity and the workers must be positive");
+        }
+        this.bot = bot;
+        this.capacity = capacity;
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            chats.add(new HashMap<>());
+            ready.add(new ArrayDeque<>());
+        }
+        for (int i = 0; i < workers; i++) {
+            final Thread worker = threadFactory.newThread(this::work);
+            this.workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * Queue a request, waiting until there is room for it
+     * @param chatId Chat that receives the request, used to take turns between chats
+     * @param priority Priority of the request
+     * @param method Bot API method to call, like <code>bot -&gt; bot.sendMessage(chatId, text)</code>
+     * @param <T> Type of the result
+     * @return A future completed with the result of the method
+     * @throws InterruptedException If interrupted while waiting for room
+     * @throws IllegalStateException If the queue is closed
+     */
+    public <T> CompletableFuture<T> submit(Object chatId, SendPriority priority, AsyncBotAPI.BotMethod<T> method) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size >= capacity && !closed) {
+                notFull.await();
+            }
+            return enqueue(chatId, priority, method);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queue a request if there is room for it
+     * @param chatId Chat that receives the request, used to take turns between chats
+     * @param priority Priority of the request
+     * @param method Bot API method to call, like <code>bot -&gt; bot.sendMessage(chatId, text)</code>
+     * @param <T> Type of the result
+     * @return A future completed with the result of the method, or null if the queue is full
+     * @throws IllegalStateException If the queue is closed
+     */
+    public <T> CompletableFuture<T> trySubmit(Object chatId, SendPriority priority, AsyncBotAPI.BotMethod<T> method) {
+        lock.lock();
+        try {
+            if (size >= capacity && !closed) {
+                return null;
+            }
+            return enqueue(chatId, priority, method);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of requests waiting to be sent
+     * @return Queued requests, without those in flight
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stop accepting requests. Queued requests are still sent, and then the workers finish
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, "SendQueue-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private <T> CompletableFuture<T> enqueue(Object chatId, SendPriority priority, AsyncBotAPI.BotMethod<T> method) {
+        if (closed) {
+            throw new IllegalStateException("The queue is closed");
+        }
+        final String key = String.valueOf(chatId);
+        final ChatQueue chat = chats.get(priority.ordinal()).computeIfAbsent(key, k -> new ChatQueue(k, priority));
+        final Task<T> task = new Task<>(method);
+        chat.tasks.add(task);
+        if (!chat.scheduled) {
+            chat.scheduled = true;
+            ready.get(priority.ordinal()).addLast(chat);
+        }
+        size++;
+        notEmpty.signal();
+        return task.future;
+    }
+
+    /**
+     * Take the next chat that has to send a request
+     * @return The chat, or null if the queue is closed and empty
+     */
+    private ChatQueue take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                for (ArrayDeque<ChatQueue> turns : ready) {
+                    final ChatQueue chat = turns.pollFirst();
+                    if (chat != null) {
+                        chat.current = chat.tasks.poll();
+                        size--;
+                        notFull.signal();
+                        return chat;
+                    }
+                }
+                if (closed && size == 0) {
+                    return null;
+                }
+                notEmpty.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Give back the turn of a chat once its request has been sent
+     */
+    private void release(ChatQueue chat) {
+        lock.lock();
+        try {
+            chat.current = null;
+            if (chat.tasks.isEmpty()) {
+                chat.scheduled = false;
+                chats.get(chat.priority.ordinal()).remove(chat.key);
+            } else {
+                ready.get(chat.priority.ordinal()).addLast(chat);
+                notEmpty.signal();
+            }
+            if (closed && size == 0) {
+                notEmpty.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void work() {
+        try {
+            ChatQueue chat;
+            while ((chat = take()) != null) {
+                try {
+                    chat.current.run(bot);
+                } finally {
+                    release(chat);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            log.severe("Send queue worker stopped: " + ex.getMessage());
+        }
+    }
+
+    private static class ChatQueue {
+        private final String key;
+        private final SendPriority priority;
+        private final ArrayDeque<Task<?>> tasks = new ArrayDeque<>();
+
+        /**
+         * True while the chat is waiting for its turn or sending a request
+         */
+        private boolean scheduled;
+        private Task<?> current;
+
+        private ChatQueue(String key, SendPriority priority) {
+            this.key = key;
+            this.priority = priority;
+        }
+    }
+
+    private static class Task<T> {
+        private final AsyncBotAPI.BotMethod<T> method;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Task(AsyncBotAPI.BotMethod<T> method) {
+            this.method = method;
+        }
+
+        private void run(BotAPI bot) {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(method.call(bot));
+            } catch (TelegramException | RuntimeException ex) {
+                future.completeExceptionally(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.transport;
+
+import com.cadiducho.telegrambotapi.util.RequestParameters;
+import lombok.Getter;
+import lombok.extern.java.Log;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Transport based on the {@link HttpClient} of the JDK, which multiplexes every request to the same host over a single HTTP/2 connection.
+ * Request bodies with files are streamed through a pipe, written by a background thread.
+ */
+@Log
+public class JdkHttpTransport implements TelegramTransport {
+
+    private static final int PIPE_SIZE = 64 * 1024;
+
+    @Getter private final HttpClient client;
+    private final Duration timeout;
+    private final ExecutorService writers = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "JdkHttpTransport body writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Create a transport preferring HTTP/2, with a 10 seconds connect timeout and a 1 minute request timeout
+     */
+    public JdkHttpTransport() {
+        this(HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build(), Duration.ofMinutes(1));
+    }
+
+    /**
+     * Create a transport
+     * @param client Client that executes the requests
+     * @param timeout Timeout of every request, or null for no timeout. It is raised for the requests that need longer, like long polling
+     */
+    public JdkHttpTransport(HttpClient client, Duration timeout) {
+        this.client = client;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        try {
+            return new JdkResponse(client.send(toRequest(request), HttpResponse.BodyHandlers.ofInputStream()));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a response");
+        }
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> executeAsync(TransportRequest request) {
+        final HttpRequest httpRequest;
+        try {
+            httpRequest = toRequest(request);
+        } catch (IOException | RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        final CompletableFuture<HttpResponse<InputStream>> exchange = client.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofInputStream());
+        final CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+        exchange.whenComplete((response, ex) -> {
+            if (ex != null) {
+                future.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                return;
+            }
+            final JdkResponse transportResponse = new JdkResponse(response);
+            if (!future.complete(transportResponse)) {
+                //Nobody will read the response of a cancelled request
+                transportResponse.close();
+            }
+        });
+        future.whenComplete((response, ex) -> {
+            if (future.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    private HttpRequest toRequest(TransportRequest request) throws IOException {
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(request.getUrl()));
+        if (timeout != null) {
+            final Duration readTimeout = request.getReadTimeout();
+            builder.timeout(readTimeout != null && readTimeout.compareTo(timeout) > 0 ? readTimeout : timeout);
+        }
+        request.getHeaders().forEach(builder::header);
+
+        final RequestBody body = request.toRequestBody();
+        if (body == null) {
+            return builder.GET().build();
+        }
+        final MediaType contentType = body.contentType();
+        if (contentType != null) {
+            builder.header("Content-Type", contentType.toString());
+        }
+        final RequestParameters parameters = request.getParameters();
+        return builder.POST(toPublisher(body, parameters.hasFiles(), parameters.isRepeatable())).build();
+    }
+
+    private HttpRequest.BodyPublisher toPublisher(RequestBody body, boolean stream, boolean repeatable) throws IOException {
+        if (!stream) {
+            final Buffer buffer = new Buffer();
+            body.writeTo(buffer);
+            return HttpRequest.BodyPublishers.ofByteArray(buffer.readByteArray());
+        }
+
+        //The client subscribes again to send the body after a redirect or a retry, which a body read from a stream cannot do
+        final AtomicBoolean subscribed = new AtomicBoolean();
+        final HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.ofInputStream(() -> {
+            if (subscribed.getAndSet(true) && !repeatable) {
+                throw new UncheckedIOException(new IOException("The body of the request is read from a stream and cannot be sent again"));
+            }
+            return pipe(body);
+        });
+        final long length = body.contentLength();
+        return length > 0 ? HttpRequest.BodyPublishers.fromPublisher(publisher, length) : HttpRequest.BodyPublishers.fromPublisher(publisher);
+    }
+
+    private InputStream pipe(RequestBody body) {
+        try {
+            final PipedInputStream input = new PipedInputStream(PIPE_SIZE);
+            final PipedOutputStream output = new PipedOutputStream(input);
+            writers.execute(() -> {
+                try (BufferedSink sink = Okio.buffer(Okio.sink(output))) {
+                    body.writeTo(sink);
+                } catch (IOException ex) {
+                    //Closing the pipe makes the request fail
+                    log.warning("Could not write the body of a request: " + ex.getMessage());
+                }
+            });
+            return input;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static class JdkResponse implements TransportResponse {
+        private final HttpResponse<InputStream> response;
+        private BufferedSource body;
+
+        private JdkResponse(HttpResponse<InputStream> response) {
+            this.response = response;
+        }
+
+        @Override
+        public int code() {
+            return response.statusCode();
+        }
+
+        @Override
+        public long contentLength() {
+            return response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        }
+
+        @Override
+        public BufferedSource body() {
+            if (body == null) {
+                body = Okio.buffer(Okio.source(response.body()));
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            try {
+                response.body().close();
+            } catch (IOException ignored) {
+                //Nothing left to release
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.transport;
+
+import lombok.Getter;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.BufferedSource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Transport based on OkHttp, used by default
+ */
+public class OkHttpTransport implements TelegramTransport {
+
+    @Getter private final OkHttpClient client;
+
+    /**
+     * Clients derived from {@link #client} with a longer read timeout, sharing its connection pool and dispatcher
+     */
+    private final Map<Duration, OkHttpClient> slowClients = new ConcurrentHashMap<>();
+
+    public OkHttpTransport(OkHttpClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        return new OkHttpResponse(clientFor(request).newCall(toRequest(request)).execute());
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> executeAsync(TransportRequest request) {
+        final CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+        final Call call;
+        try {
+            call = clientFor(request).newCall(toRequest(request));
+        } catch (RuntimeException ex) {
+            future.completeExceptionally(ex);
+            return future;
+        }
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException ex) {
+                future.completeExceptionally(ex);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                if (!future.complete(new OkHttpResponse(response))) {
+                    response.close();
+                }
+            }
+        });
+        future.whenComplete((response, ex) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
+    private OkHttpClient clientFor(TransportRequest request) {
+        final Duration readTimeout = request.getReadTimeout();
+        //A read timeout of 0 never expires
+        if (readTimeout == null || client.readTimeoutMillis() == 0 || readTimeout.toMillis() <= client.readTimeoutMillis()) {
+            return client;
+        }
+        return slowClients.computeIfAbsent(readTimeout, timeout -> client.newBuilder().readTimeout(timeout).build());
+    }
+
+    private static Request toRequest(TransportRequest request) {
+        final Request.Builder builder = new Request.Builder().url(request.getUrl());
+        request.getHeaders().forEach(builder::header);
+        final RequestBody body = request.toRequestBody();
+        if (body != null) {
+            builder.post(body);
+        }
+        return builder.build();
+    }
+
+    private static class OkHttpResponse implements TransportResponse {
+        private final Response response;
+
+        private OkHttpResponse(Response response) {
+            this.response = response;
+        }
+
+        @Override
+        public int code() {
+            return response.code();
+        }
+
+        @Override
+        public long contentLength() {
+            return Objects.requireNonNull(response.body()).contentLength();
+        }
+
+        @Override
+        public BufferedSource body() {
+            return Objects.requireNonNull(response.body()).source();
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+}
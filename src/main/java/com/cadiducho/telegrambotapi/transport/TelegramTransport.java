@@ -0,0 +1,33 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.transport;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * HTTP client used by a bot to call the Bot API and download files.
+ * {@link OkHttpTransport} is used by default, and {@link JdkHttpTransport} uses the HTTP client of the JDK.
+ */
+public interface TelegramTransport {
+
+    /**
+     * Execute a request, blocking until its response is received
+     * @param request The request
+     * @return The response, which must be closed
+     * @throws IOException If the request fails
+     */
+    TransportResponse execute(TransportRequest request) throws IOException;
+
+    /**
+     * Execute a request without blocking. Cancelling the future cancels the request
+     * @param request The request
+     * @return A future with the response, which must be closed
+     */
+    CompletableFuture<TransportResponse> executeAsync(TransportRequest request);
+}
@@ -0,0 +1,59 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.transport;
+
+import com.cadiducho.telegrambotapi.util.RequestParameters;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import okhttp3.RequestBody;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * A request to the Bot API or to download a file
+ */
+@Value
+@Builder
+public class TransportRequest {
+
+    /**
+     * Full URL of the request
+     */
+    String url;
+
+    /**
+     * Optional. Parameters of the method, sent as the body of a POST. Null to send a GET
+     */
+    RequestParameters parameters;
+
+    /**
+     * Send the parameters as multipart/form-data even if there are no files
+     */
+    boolean forceMultipart;
+
+    /**
+     * Extra headers of the request, like Range
+     */
+    @Singular Map<String, String> headers;
+
+    /**
+     * Optional. Minimum time to wait for the response, like in long polling requests that the server holds until an update arrives.
+     * Null to use the timeouts of the transport
+     */
+    Duration readTimeout;
+
+    /**
+     * Encode the parameters
+     * @return The body, or null if the request has no parameters
+     */
+    public RequestBody toRequestBody() {
+        return parameters != null ? parameters.toRequestBody(forceMultipart) : null;
+    }
+}
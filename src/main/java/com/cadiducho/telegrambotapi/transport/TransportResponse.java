@@ -0,0 +1,47 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.transport;
+
+import okio.BufferedSource;
+
+import java.io.Closeable;
+
+/**
+ * A response whose body is streamed. It must be closed to release its connection
+ */
+public interface TransportResponse extends Closeable {
+
+    /**
+     * Get the HTTP status code
+     * @return The status code
+     */
+    int code();
+
+    /**
+     * Check if the status code is 2xx
+     * @return True if the request was successful
+     */
+    default boolean isSuccessful() {
+        return code() >= 200 && code() < 300;
+    }
+
+    /**
+     * Get the length of the body
+     * @return The length, or -1 if unknown
+     */
+    long contentLength();
+
+    /**
+     * Get the body of the response. It can only be read once
+     * @return The body
+     */
+    BufferedSource body();
+
+    @Override
+    void close();
+}
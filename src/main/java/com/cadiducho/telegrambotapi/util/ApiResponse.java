@@ -4,6 +4,8 @@ import com.cadiducho.telegrambotapi.MenuButton;
 import com.cadiducho.telegrambotapi.MenuButtonCommands;
 import com.cadiducho.telegrambotapi.MenuButtonDefault;
 import com.cadiducho.telegrambotapi.MenuButtonWebApp;
+import com.cadiducho.telegrambotapi.ResponseParameters;
+import com.squareup.moshi.Json;
 import com.squareup.moshi.JsonAdapter;
 import com.squareup.moshi.Moshi;
 import com.squareup.moshi.Types;
@@ -39,6 +41,16 @@ public class ApiResponse<T> {
      */
     T result;
 
+    /**
+     * Optional. Error code of an unsuccessful response.
+     */
+    @Json(name = "error_code") Integer errorCode;
+
+    /**
+     * Optional. Information to automatically handle an unsuccessful response.
+     */
+    ResponseParameters parameters;
+
     private static final Moshi moshi = MoshiProvider.getMoshi();
 
     /**
@@ -60,7 +72,7 @@ public class ApiResponse<T> {
      * @throws IOException If Moshi fails
      */
     public static <T> ApiResponse<T> from(String source, Type resultType) throws IOException {
-        JsonAdapter<ApiResponse<T>> resAdapter = moshi.adapter(Types.newParameterizedType(ApiResponse.class, resultType));
+        JsonAdapter<ApiResponse<T>> resAdapter = MoshiProvider.responseAdapter(resultType);
         return resAdapter.fromJson(source);
     }
 
@@ -73,7 +85,7 @@ public class ApiResponse<T> {
      * @throws IOException If Moshi fails
      */
     public static <T> ApiResponse<T> from(BufferedSource source, Type resultType) throws IOException {
-        JsonAdapter<ApiResponse<T>> resAdapter = moshi.adapter(Types.newParameterizedType(ApiResponse.class, resultType));
+        JsonAdapter<ApiResponse<T>> resAdapter = MoshiProvider.responseAdapter(resultType);
         return resAdapter.fromJson(source);
     }
 }
\ No newline at end of file
@@ -0,0 +1,258 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.util;
+
+import com.cadiducho.telegrambotapi.ChatMemberUpdated;
+import com.cadiducho.telegrambotapi.LazyUpdate;
+import com.cadiducho.telegrambotapi.Message;
+import com.cadiducho.telegrambotapi.Update;
+import okio.ByteString;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache of the results of getChat, getChatAdministrators, getChatMember and getChatMemberCount.
+ * Entries expire after a time to live, and the cache holds a maximum number of chats, removing the least recently used.
+ * Every entry of a chat is invalidated when an update changes its members, title, photo or migrates it, and after a successful request that changes the chat.
+ * Changes of other members are only received as chat_member updates if they are included in the allowed_updates of getUpdates or of the webhook.
+ * Chats are identified by the chat_id of the request, so entries requested by channel username are only invalidated when they expire.
+ * Cached results are shared between callers, so they must not be modified.
+ */
+public class ChatCache {
+
+    private static final Set<String> CACHED_METHODS = Set.of("getChat", "getChatAdministrators", "getChatMember", "getChatMemberCount");
+
+    /**
+     * Entries kept for each chat, as getChatMember caches one entry per user
+     */
+    private static final int MAX_ENTRIES_PER_CHAT = 256;
+
+    /**
+     * Methods that change the chat, its members or its pinned messages
+     */
+    private static final Set<String> CHANGING_METHODS = Set.of("setChatTitle", "setChatDescription", "setChatPhoto", "deleteChatPhoto",
+            "setChatPermissions", "setChatStickerSet", "deleteChatStickerSet", "promoteChatMember", "setChatAdministratorCustomTitle",
+            "banChatMember", "unbanChatMember", "restrictChatMember", "approveChatJoinRequest", "declineChatJoinRequest",
+            "pinChatMessage", "unpinChatMessage", "unpinAllChatMessages", "leaveChat");
+
+    private static final Set<String> MEMBER_UPDATES = Set.of("my_chat_member", "chat_member", "chat_join_request");
+    private static final ByteString[] SERVICE_FIELDS = {
+            ByteString.encodeUtf8("\"new_chat_members\""), ByteString.encodeUtf8("\"left_chat_member\""),
+            ByteString.encodeUtf8("\"new_chat_title\""), ByteString.encodeUtf8("\"new_chat_photo\""),
+            ByteString.encodeUtf8("\"delete_chat_photo\""), ByteString.encodeUtf8("\"migrate_to_chat_id\""),
+            ByteString.encodeUtf8("\"migrate_from_chat_id\"")
+    };
+
+    private final long ttl;
+    private final Map<String, Map<String, Entry>> chats;
+
+    /**
+     * Generation of the last invalidation of the most recently invalidated chats.
+     * Chats removed from it take the highest removed generation, so a result requested before their invalidation is never cached
+     */
+    private final Map<String, Long> generations;
+    private long lastGeneration;
+    private long removedGeneration;
+
+    /**
+     * Create a cache
+     * @param ttl Time to live of every entry
+     * @param maxChats Maximum number of chats with cached entries
+     */
+    public ChatCache(Duration ttl, int maxChats) {
+        if (ttl.isNegative() || ttl.isZero() || maxChats <= 0) {
+            throw new IllegalArgumentException("The time to live and the size of the cache must be positive");
+        }
+        this.ttl = ttl.toNanos();
+        this.chats = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, Entry>> eldest) {
+                return size() > maxChats;
+            }
+        };
+        this.generations = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                if (size() > maxChats) {
+                    removedGeneration = Math.max(removedGeneration, eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Check if a method is cached
+     * @param method Name of the Bot API method
+     * @return True if its results are cached
+     */
+    public boolean isCached(String method) {
+        return CACHED_METHODS.contains(method);
+    }
+
+    /**
+     * Get a cached result
+     * @param method Name of the Bot API method
+     * @param parameters Parameters of the method
+     * @return The result, or null if it is not cached or expired
+     */
+    public synchronized Object get(String method, RequestParameters parameters) {
+        final Map<String, Entry> entries = chats.get(chatKey(parameters));
+        if (entries == null) {
+            return null;
+        }
+        final String key = entryKey(method, parameters);
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAt >= 0) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Get the current generation of the chat of a request, which changes every time the chat is invalidated.
+     * It must be taken before sending the request whose result will be cached
+     * @param parameters Parameters of the method
+     * @return The generation to pass to {@link #put(String, RequestParameters, Object, long)}
+     */
+    public synchronized long generation(RequestParameters parameters) {
+        return generation(chatKey(parameters));
+    }
+
+    /**
+     * Cache a result, unless the chat was invalidated while it was requested
+     * @param method Name of the Bot API method
+     * @param parameters Parameters of the method
+     * @param value Result of the method
+     * @param generation Generation of the chat taken before sending the request
+     */
+    public synchronized void put(String method, RequestParameters parameters, Object value, long generation) {
+        if (value == null || generation(chatKey(parameters)) != generation) {
+            return;
+        }
+        chats.computeIfAbsent(chatKey(parameters), k -> new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > MAX_ENTRIES_PER_CHAT;
+            }
+        }).put(entryKey(method, parameters), new Entry(value, System.nanoTime() + ttl));
+    }
+
+    /**
+     * Remove every entry of a chat
+     * @param chatId Identifier of the chat
+     */
+    public synchronized void invalidate(Object chatId) {
+        if (chatId != null) {
+            final String key = chatId.toString();
+            chats.remove(key);
+            generations.put(key, ++lastGeneration);
+        }
+    }
+
+    /**
+     * Remove the entries changed by a successful request: the chat of the methods that change it, and the chats changed by the updates received by getUpdates
+     * @param method Name of the Bot API method
+     * @param parameters Parameters of the method
+     * @param result Result of the method
+     */
+    public void invalidate(String method, RequestParameters parameters, Object result) {
+        if (CHANGING_METHODS.contains(method) && parameters != null) {
+            invalidate(parameters.get("chat_id"));
+        } else if ("getUpdates".equals(method) && result instanceof List) {
+            for (Object update : (List<?>) result) {
+                invalidate((Update) update);
+            }
+        }
+    }
+
+    /**
+     * Remove the entries of the chat of an update, if the update changes the chat.
+     * Updates received by {@link com.cadiducho.telegrambotapi.BotAPI#getUpdates(Integer, Integer, Integer, java.util.List)} are checked automatically,
+     * while updates received by a webhook must be passed to this method
+     * @param update Received update
+     */
+    public void invalidate(Update update) {
+        if (update instanceof LazyUpdate) {
+            //Do not decode lazy updates, the raw update tells if it has any of the service fields
+            final LazyUpdate lazy = (LazyUpdate) update;
+            if (MEMBER_UPDATES.contains(lazy.getKind()) || hasServiceField(lazy.getRaw())) {
+                invalidate(lazy.getChatId());
+            }
+            return;
+        }
+
+        invalidate(update.getMyChatMember());
+        invalidate(update.getChatMember());
+        if (update.getChatJoinRequest() != null) {
+            invalidate(update.getChatJoinRequest().getChat().getId());
+        }
+        invalidate(update.getMessage());
+        invalidate(update.getChannelPost());
+    }
+
+    private void invalidate(ChatMemberUpdated chatMemberUpdated) {
+        if (chatMemberUpdated != null && chatMemberUpdated.getChat() != null) {
+            invalidate(chatMemberUpdated.getChat().getId());
+        }
+    }
+
+    private void invalidate(Message message) {
+        if (message == null || message.getChat() == null) {
+            return;
+        }
+        if (message.getNewChatMembers() != null || message.getLeftChatMember() != null
+                || message.getNewChatTitle() != null || message.getNewChatPhoto() != null
+                || Boolean.TRUE.equals(message.getDeleteChatPhoto())
+                || message.getMigrateToChatId() != null || message.getMigrateFromChatId() != null) {
+            invalidate(message.getChat().getId());
+        }
+    }
+
+    private static boolean hasServiceField(ByteString raw) {
+        for (ByteString field : SERVICE_FIELDS) {
+            if (raw.indexOf(field) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long generation(String chatKey) {
+        final Long generation = generations.get(chatKey);
+        return generation != null ? generation : removedGeneration;
+    }
+
+    private static String chatKey(RequestParameters parameters) {
+        return String.valueOf(parameters.get("chat_id"));
+    }
+
+    private static String entryKey(String method, RequestParameters parameters) {
+        final Object userId = parameters.get("user_id");
+        return userId == null ? method : method + "/" + userId;
+    }
+
+    private static class Entry {
+        private final Object value;
+        private final long expiresAt;
+
+        private Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.util;
+
+import com.cadiducho.telegrambotapi.File;
+import com.cadiducho.telegrambotapi.InputFile;
+import com.cadiducho.telegrambotapi.Message;
+import com.cadiducho.telegrambotapi.PhotoSize;
+import com.cadiducho.telegrambotapi.exception.TelegramApiException;
+import com.cadiducho.telegrambotapi.exception.TelegramException;
+import lombok.extern.java.Log;
+import okio.BufferedSink;
+import okio.HashingSink;
+import okio.Okio;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the file_id of uploaded files, identified by the SHA-256 of their content.
+ * When the same content is uploaded again with the same method, its file_id is sent instead of the file.
+ * Concurrent uploads of the same content wait for the first one to finish and reuse its file_id.
+ * Files read from streams are not cached, as they cannot be read twice.
+ * A file_id can only be used by the bot that uploaded it, so every bot needs its own cache.
+ */
+@Log
+public class FileIdCache {
+
+    private static final Set<String> CACHED_FILES = Set.of("photo", "audio", "document", "video", "animation", "voice", "video_note", "sticker");
+
+    /**
+     * Descriptions of the errors returned when a file_id is not valid for the bot, in lower case and with spaces instead of underscores
+     */
+    private static final List<String> REJECTED_FILE_ID = List.of("wrong file identifier", "wrong remote file identifier", "file reference expired", "wrong file id");
+
+    private final Map<String, String> fileIds = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<String>> uploading = new ConcurrentHashMap<>();
+    private final Path storage;
+
+    /**
+     * Create a cache kept in memory
+     */
+    public FileIdCache() {
+        this.storage = null;
+    }
+
+    /**
+     * Create a cache persisted to a file, loading the file_ids already stored in it.
+     * The file is compacted when it has removed or replaced entries
+     * @param storage File where the file_ids are stored
+     * @throws IOException If the file cannot be read or compacted
+     */
+    public FileIdCache(Path storage) throws IOException {
+        this.storage = storage;
+        if (Files.exists(storage)) {
+            final List<String> lines = Files.readAllLines(storage, StandardCharsets.UTF_8);
+            for (String line : lines) {
+                final int separator = line.indexOf('\t');
+                if (separator <= 0) {
+                    continue;
+                }
+                final String fileId = line.substring(separator + 1);
+                if (fileId.isEmpty()) {
+                    //A removed file_id
+                    fileIds.remove(line.substring(0, separator));
+                } else {
+                    fileIds.put(line.substring(0, separator), fileId);
+                }
+            }
+            if (lines.size() > fileIds.size()) {
+                compact();
+            }
+        }
+    }
+
+    /**
+     * Get the number of cached file_ids
+     * @return Number of cached file_ids
+     */
+    public int size() {
+        return fileIds.size();
+    }
+
+    /**
+     * Execute a request that uploads files, replacing the files with their cached file_id and caching the file_id of the new uploads
+     * @param method Name of the Bot API method
+     * @param parameters Parameters of the method
+     * @param execution The request
+     * @param <T> Type of the result
+     * @return The result of the request
+     * @throws TelegramException If the request fails
+     */
+    public <T> T upload(String method, RequestParameters parameters, RequestCoalescer.Execution<T> execution) throws TelegramException {
+        final Map<String, Upload> uploads = prepare(method, parameters, true);
+        try {
+            T result;
+            try {
+                result = execution.execute();
+            } catch (TelegramApiException ex) {
+                if (!evictReplaced(method, parameters, ex)) {
+                    throw ex;
+                }
+                result = execution.execute();
+            }
+            complete(uploads, result);
+            return result;
+        } finally {
+            complete(uploads, null);
+        }
+    }
+
+    /**
+     * Execute an asynchronous request that uploads files, replacing the files with their cached file_id and caching the file_id of the new uploads.
+     * It does not wait for concurrent uploads of the same content
+     * @param method Name of the Bot API method
+     * @param parameters Parameters of the method
+     * @param execution The request
+     * @param <T> Type of the result
+     * @return A future with the result of the request
+     */
+    public <T> CompletableFuture<T> uploadAsync(String method, RequestParameters parameters, Supplier<CompletableFuture<T>> execution) {
+        final Map<String, Upload> uploads;
+        try {
+            uploads = prepare(method, parameters, false);
+        } catch (TelegramException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        final CompletableFuture<T> request;
+        try {
+            request = execution.get();
+        } catch (RuntimeException ex) {
+            complete(uploads, null);
+            return CompletableFuture.failedFuture(ex);
+        }
+        return request
+                .handle((result, ex) -> {
+                    final Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+                    if (cause instanceof TelegramApiException && evictReplaced(method, parameters, (TelegramApiException) cause)) {
+                        return execution.get();
+                    }
+                    return ex == null ? CompletableFuture.completedFuture(result) : CompletableFuture.<T>failedFuture(cause);
+                })
+                .thenCompose(future -> future)
+                .whenComplete((result, ex) -> {
+                    complete(uploads, result);
+                    complete(uploads, null);
+                });
+    }
+
+    /**
+     * Replace the cached files with their file_id, and register the rest as being uploaded by this request
+     * @return Files uploaded by this request, by parameter name
+     */
+    private Map<String, Upload> prepare(String method, RequestParameters parameters, boolean wait) throws TelegramException {
+        final Map<String, Upload> uploads = new HashMap<>();
+        for (String name : parameters.getFileNames()) {
+            final InputFile file = parameters.getFile(name);
+            if (!CACHED_FILES.contains(name) || !file.isRepeatable()) {
+                continue;
+            }
+
+            final String key;
+            try {
+                key = method + "/" + name + "/" + hash(file);
+            } catch (IOException | UncheckedIOException ex) {
+                log.warning("Could not hash " + file.getFileName() + ": " + ex.getMessage());
+                continue;
+            }
+
+            while (true) {
+                final String fileId = fileIds.get(key);
+                if (fileId != null) {
+                    parameters.replaceFile(name, fileId);
+                    break;
+                }
+                final CompletableFuture<String> upload = new CompletableFuture<>();
+                final CompletableFuture<String> other = uploading.putIfAbsent(key, upload);
+                if (other == null) {
+                    uploads.put(name, new Upload(key, upload));
+                    break;
+                }
+                if (!wait) {
+                    break;
+                }
+                //If the other upload fails, try to become the uploader
+                await(other);
+            }
+        }
+        return uploads;
+    }
+
+    /**
+     * Remove the file_ids rejected by Telegram, like those of a different bot, and upload their files again
+     * @return True if any file_id was removed and the request must be repeated
+     */
+    private boolean evictReplaced(String method, RequestParameters parameters, TelegramApiException ex) {
+        if (ex.getErrorCode() == null || ex.getErrorCode() != 400 || !isRejectedFileId(ex.getMessage())) {
+            return false;
+        }
+        boolean evicted = false;
+        for (String name : CACHED_FILES) {
+            final Object value = parameters.get(name);
+            if (!(value instanceof String)) {
+                continue;
+            }
+            for (Map.Entry<String, String> entry : fileIds.entrySet()) {
+                if (entry.getValue().equals(value) && fileIds.remove(entry.getKey(), entry.getValue())) {
+                    store(entry.getKey(), "");
+                    evicted = true;
+                }
+            }
+        }
+        if (evicted) {
+            log.fine(() -> "Cached file_id rejected by " + method + ", uploading the files again");
+            parameters.restoreFiles();
+        }
+        return evicted;
+    }
+
+    /**
+     * Check if an error means that a file_id is not valid for the bot, and not that the request is wrong for any other reason
+     */
+    private static boolean isRejectedFileId(String description) {
+        if (description == null) {
+            return false;
+        }
+        final String normalized = description.toLowerCase(Locale.ROOT).replace('_', ' ');
+        return REJECTED_FILE_ID.stream().anyMatch(normalized::contains);
+    }
+
+    private void complete(Map<String, Upload> uploads, Object result) {
+        uploads.forEach((name, upload) -> {
+            final String fileId = result != null ? fileId(name, result) : null;
+            if (fileId != null && !fileId.equals(fileIds.put(upload.key, fileId))) {
+                store(upload.key, fileId);
+            }
+            uploading.remove(upload.key, upload.future);
+            upload.future.complete(fileId);
+        });
+    }
+
+    private synchronized void store(String key, String fileId) {
+        if (storage == null) {
+            return;
+        }
+        try {
+            Files.write(storage, (key + "\t" + fileId + "\n").getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ex) {
+            log.warning("Could not store the file_id of " + key + ": " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Rewrite the storage with only the current file_ids
+     */
+    private synchronized void compact() throws IOException {
+        final StringBuilder content = new StringBuilder();
+        fileIds.forEach((key, fileId) -> content.append(key).append('\t').append(fileId).append('\n'));
+        final Path compacted = storage.resolveSibling(storage.getFileName() + ".tmp");
+        Files.write(compacted, content.toString().getBytes(StandardCharsets.UTF_8));
+        Files.move(compacted, storage, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void await(CompletableFuture<String> upload) throws TelegramException {
+        try {
+            upload.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TelegramException("Interrupted while waiting for an upload", ex);
+        } catch (ExecutionException ignored) {
+            //Uploads are never completed exceptionally
+        }
+    }
+
+    private static String hash(InputFile file) throws IOException {
+        final HashingSink hashingSink = HashingSink.sha256(Okio.blackhole());
+        try (BufferedSink sink = Okio.buffer(hashingSink)) {
+            file.toRequestBody(null).writeTo(sink);
+        }
+        return hashingSink.hash().hex();
+    }
+
+    /**
+     * Get the file_id of an uploaded file from the result of its method
+     */
+    private static String fileId(String name, Object result) {
+        if (result instanceof File) {
+            //uploadStickerFile
+            return ((File) result).getFileId();
+        }
+        if (!(result instanceof Message)) {
+            return null;
+        }
+        final Message message = (Message) result;
+        switch (name) {
+            case "photo":
+                final List<PhotoSize> photo = message.getPhoto();
+                return photo != null && !photo.isEmpty() ? photo.get(photo.size() - 1).getFileId() : null;
+            case "audio": return message.getAudio() != null ? message.getAudio().getFileId() : null;
+            case "document": return message.getDocument() != null ? message.getDocument().getFileId() : null;
+            case "video": return message.getVideo() != null ? message.getVideo().getFileId() : null;
+            case "animation": return message.getAnimation() != null ? message.getAnimation().getFileId() : null;
+            case "voice": return message.getVoice() != null ? message.getVoice().getFileId() : null;
+            case "video_note": return message.getVideoNote() != null ? message.getVideoNote().getFileId() : null;
+            case "sticker": return message.getSticker() != null ? message.getSticker().getFileId() : null;
+            default: return null;
+        }
+    }
+
+    private static class Upload {
+        private final String key;
+        private final CompletableFuture<String> future;
+
+        private Upload(String key, CompletableFuture<String> future) {
+            this.key = key;
+            this.future = future;
+        }
+    }
+}
@@ -7,4 +7,5 @@ public class MediaTypes {
     public static MediaType MEDIA_TYPE_VIDEO = MediaType.parse("video/*");
     public static MediaType MEDIA_TYPE_AUDIO = MediaType.parse("audio/*");
     public static MediaType MEDIA_TYPE_APPLICATION = MediaType.parse("application/*");
+    public static MediaType MEDIA_TYPE_JSON = MediaType.parse("application/json");
 }
@@ -8,12 +8,42 @@
 package com.cadiducho.telegrambotapi.util;
 
 import com.cadiducho.telegrambotapi.*;
+import com.cadiducho.telegrambotapi.inline.InlineQueryResult;
+import com.cadiducho.telegrambotapi.payment.LabeledPrice;
+import com.cadiducho.telegrambotapi.payment.ShippingOption;
+import com.cadiducho.telegrambotapi.sticker.InputSticker;
+import com.cadiducho.telegrambotapi.sticker.Sticker;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
 import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
 import com.squareup.moshi.adapters.PolymorphicJsonAdapterFactory;
 import lombok.Getter;
 
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class MoshiProvider {
 
+    public static final Type LIST_OF_STRING = Types.newParameterizedType(List.class, String.class);
+    public static final Type LIST_OF_INTEGER = Types.newParameterizedType(List.class, Integer.class);
+    public static final Type LIST_OF_UPDATE = Types.newParameterizedType(List.class, Update.class);
+    public static final Type LIST_OF_LAZY_UPDATE = Types.newParameterizedType(List.class, LazyUpdate.class);
+    public static final Type LIST_OF_MESSAGE = Types.newParameterizedType(List.class, Message.class);
+    public static final Type LIST_OF_CHAT_MEMBER = Types.newParameterizedType(List.class, ChatMember.class);
+    public static final Type LIST_OF_STICKER = Types.newParameterizedType(List.class, Sticker.class);
+    public static final Type LIST_OF_BOT_COMMAND = Types.newParameterizedType(List.class, BotCommand.class);
+    public static final Type LIST_OF_INPUT_MEDIA = Types.newParameterizedType(List.class, InputMedia.class);
+    public static final Type LIST_OF_INPUT_STICKER = Types.newParameterizedType(List.class, InputSticker.class);
+    public static final Type LIST_OF_INLINE_QUERY_RESULT = Types.newParameterizedType(List.class, InlineQueryResult.class);
+    public static final Type LIST_OF_LABELED_PRICE = Types.newParameterizedType(List.class, LabeledPrice.class);
+    public static final Type LIST_OF_SHIPPING_OPTION = Types.newParameterizedType(List.class, ShippingOption.class);
+
     @Getter
     static final Moshi moshi = new Moshi.Builder()
             .add(PolymorphicJsonAdapterFactory
@@ -38,5 +68,61 @@ public class MoshiProvider {
                     .withSubtype(ChatMemberLeft.class, "left")
                     .withSubtype(ChatMemberBanned.class, "kicked")
             )
+            .add(new UpdateJsonAdapterFactory())
+            //InlineQueryResult already holds its type, so only the concrete class is needed to serialize it
+            .add((type, annotations, instance) -> type == InlineQueryResult.class ? new RuntimeClassJsonAdapter(instance).nullSafe() : null)
             .build();
+
+    private static final Map<Type, JsonAdapter<?>> adapters = new ConcurrentHashMap<>();
+    private static final Map<Type, JsonAdapter<?>> responseAdapters = new ConcurrentHashMap<>();
+
+    /**
+     * Get the adapter of a type. Adapters are created once and then reused without going through Moshi's cache
+     * @param type Type to serialize or deserialize
+     * @param <T> Type of the adapter
+     * @return The adapter
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> JsonAdapter<T> adapter(Type type) {
+        JsonAdapter<?> adapter = adapters.get(type);
+        if (adapter == null) {
+            adapter = adapters.computeIfAbsent(type, moshi::adapter);
+        }
+        return (JsonAdapter<T>) adapter;
+    }
+
+    /**
+     * Get the adapter of an {@link ApiResponse} holding a result of the given type
+     * @param resultType Type of the result
+     * @param <T> Type of the result
+     * @return The adapter
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> JsonAdapter<ApiResponse<T>> responseAdapter(Type resultType) {
+        JsonAdapter<?> adapter = responseAdapters.get(resultType);
+        if (adapter == null) {
+            adapter = responseAdapters.computeIfAbsent(resultType, type -> moshi.adapter(Types.newParameterizedType(ApiResponse.class, type)));
+        }
+        return (JsonAdapter<ApiResponse<T>>) adapter;
+    }
+
+    private static class RuntimeClassJsonAdapter extends JsonAdapter<InlineQueryResult> {
+
+        private final Moshi moshi;
+        private final Map<Class<?>, JsonAdapter<Object>> delegates = new ConcurrentHashMap<>();
+
+        private RuntimeClassJsonAdapter(Moshi moshi) {
+            this.moshi = moshi;
+        }
+
+        @Override
+        public InlineQueryResult fromJson(JsonReader reader) {
+            throw new JsonDataException("InlineQueryResult can only be serialized");
+        }
+
+        @Override
+        public void toJson(JsonWriter writer, InlineQueryResult value) throws IOException {
+            delegates.computeIfAbsent(value.getClass(), type -> moshi.adapter((Type) type)).toJson(writer, value);
+        }
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.util;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Client side limiter of the methods that send or edit messages.
+ * Every send is scheduled against a global bucket and against the bucket of its chat, so sends are paced to the limits of Telegram instead of being rejected with 429 errors.
+ * By default, it allows 30 messages per second, 1 message per second in the same private chat and 20 messages per minute in the same group or channel.
+ * Buckets are lock-free and per-chat buckets live in a {@link ConcurrentHashMap}, so it can be shared by many sending threads.
+ */
+public class RateLimiter {
+
+    private static final Set<String> LIMITED_METHODS = Set.of(
+            "sendMessage", "forwardMessage", "copyMessage", "sendPhoto", "sendAudio", "sendDocument", "sendVideo",
+            "sendAnimation", "sendVoice", "sendVideoNote", "sendMediaGroup", "sendLocation", "sendVenue", "sendContact",
+            "sendPoll", "sendDice", "sendSticker", "sendInvoice", "sendGame", "editMessageText", "editMessageCaption",
+            "editMessageMedia", "editMessageLiveLocation", "stopMessageLiveLocation", "editMessageReplyMarkup", "stopPoll");
+
+    /**
+     * Idle chat buckets are removed after this number of reservations
+     */
+    private static final int CLEANUP_INTERVAL = 1024;
+
+    private final Bucket global;
+    private final long privateChatInterval;
+    private final long groupInterval;
+    private final Map<String, Bucket> chats = new ConcurrentHashMap<>();
+    private final AtomicInteger reservations = new AtomicInteger();
+
+    /**
+     * Create a limiter with the limits of Telegram
+     */
+    public RateLimiter() {
+        this(30, 1, 20);
+    }
+
+    /**
+     * Create a limiter with custom limits
+     * @param globalPerSecond Messages per second to all chats
+     * @param privateChatPerSecond Messages per second to the same private chat
+     * @param groupPerMinute Messages per minute to the same group or channel
+     */
+    public RateLimiter(double globalPerSecond, double privateChatPerSecond, double groupPerMinute) {
+        if (globalPerSecond <= 0 || privateChatPerSecond <= 0 || groupPerMinute <= 0) {
+            throw new IllegalArgumentException("Rate limits must be positive");
+        }
+        final long globalInterval = (long) (TimeUnit.SECONDS.toNanos(1) / globalPerSecond);
+        //Allow a burst of one second worth of messages globally, but never burst into the same chat
+        this.global = new Bucket(globalInterval, Math.max(0, (long) Math.ceil(globalPerSecond) - 1) * globalInterval, System.nanoTime());
+        this.privateChatInterval = (long) (TimeUnit.SECONDS.toNanos(1) / privateChatPerSecond);
+        this.groupInterval = (long) (TimeUnit.MINUTES.toNanos(1) / groupPerMinute);
+    }
+
+    /**
+     * Check if a method is limited
+     * @param method Name of the Bot API method
+     * @return True if the method sends or edits messages
+     */
+    public boolean isLimited(String method) {
+        return LIMITED_METHODS.contains(method);
+    }
+
+    /**
+     * Reserve a slot in the bucket of a chat.
+     * Once waited, a slot in the global bucket must be reserved with {@link #reserveGlobal(String)}, so messages delayed by their chat do not hold global slots.
+     * @param method Name of the Bot API method
+     * @param chatId Target chat of the method, or null if it has no chat, like inline messages
+     * @return Nanoseconds to wait before reserving the global slot. Zero if it can be reserved now
+     */
+    public long reserveChat(String method, Object chatId) {
+        if (chatId == null || !isLimited(method)) {
+            return 0;
+        }
+
+        final long now = System.nanoTime();
+        final String key = chatId.toString();
+        final long interval = isGroup(key) ? groupInterval : privateChatInterval;
+        final long delay = chats.computeIfAbsent(key, k -> new Bucket(interval, 0, now)).reserve(now) - now;
+
+        if (reservations.incrementAndGet() % CLEANUP_INTERVAL == 0) {
+            //A bucket removed while it is being reserved only forgets that reservation
+            chats.values().removeIf(bucket -> bucket.isIdle(now));
+        }
+        return delay;
+    }
+
+    /**
+     * Reserve a slot in the global bucket
+     * @param method Name of the Bot API method
+     * @return Nanoseconds to wait before calling the method. Zero if it can be called now
+     */
+    public long reserveGlobal(String method) {
+        if (!isLimited(method)) {
+            return 0;
+        }
+        final long now = System.nanoTime();
+        return global.reserve(now) - now;
+    }
+
+    private static boolean isGroup(String chatId) {
+        //Groups, supergroups and channels have negative ids, and only channels can be addressed by username
+        return chatId.startsWith("-") || chatId.startsWith("@");
+    }
+
+    /**
+     * Token bucket implemented as a generic cell rate algorithm: it only stores the theoretical arrival time of the next message
+     */
+    private static final class Bucket {
+        private final long interval;
+        private final long tolerance;
+        private final AtomicLong arrival;
+
+        private Bucket(long interval, long tolerance, long now) {
+            this.interval = interval;
+            this.tolerance = tolerance;
+            this.arrival = new AtomicLong(now);
+        }
+
+        private long reserve(long now) {
+            while (true) {
+                final long current = arrival.get();
+                final long start = Math.max(now, current - tolerance);
+                if (arrival.compareAndSet(current, Math.max(current, now) + interval)) {
+                    return start;
+                }
+            }
+        }
+
+        private boolean isIdle(long now) {
+            return arrival.get() - now <= 0;
+        }
+    }
+}
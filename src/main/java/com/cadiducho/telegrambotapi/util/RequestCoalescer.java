@@ -0,0 +1,144 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.util;
+
+import com.cadiducho.telegrambotapi.exception.TelegramException;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical read-only requests: while a request is in flight, the same method with the same parameters is not sent again,
+ * and every caller receives the result of the first one.
+ * Results are shared between callers, so they must not be modified.
+ */
+public class RequestCoalescer {
+
+    private static final Set<String> READ_METHODS = Set.of(
+            "getMe", "getChat", "getChatAdministrators", "getChatMember", "getChatMemberCount", "getUserProfilePhotos",
+            "getFile", "getStickerSet", "getCustomEmojiStickers", "getForumTopicIconStickers", "getMyCommands",
+            "getMyName", "getMyDescription", "getMyShortDescription", "getChatMenuButton",
+            "getMyDefaultAdministratorRights", "getWebhookInfo", "getGameHighScores");
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Check if a method can be coalesced
+     * @param method Name of the Bot API method
+     * @return True if the method only reads data
+     */
+    public boolean isCoalesced(String method) {
+        return READ_METHODS.contains(method);
+    }
+
+    /**
+     * Get the key that identifies a request
+     * @param method Name of the Bot API method
+     * @param parameters Parameters of the method, or null
+     * @return The key
+     */
+    public static String key(String method, RequestParameters parameters) {
+        return parameters == null ? method : method + parameters.toJson();
+    }
+
+    /**
+     * Execute a request, or wait for the identical request that is already in flight
+     * @param key Key of the request
+     * @param execution Request to execute if there is none in flight
+     * @param <T> Type of the result
+     * @return The result of the request
+     * @throws TelegramException If the request fails
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Execution<T> execution) throws TelegramException {
+        final CompletableFuture<Object> flight = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return (T) await(existing);
+        }
+
+        try {
+            final T result = execution.execute();
+            flight.complete(result);
+            return result;
+        } catch (Throwable ex) {
+            //Errors too, or the callers waiting for this flight would never wake up
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Execute an asynchronous request, or share the identical request that is already in flight.
+     * Cancelling the returned future does not cancel the shared request
+     * @param key Key of the request
+     * @param execution Request to execute if there is none in flight
+     * @param <T> Type of the result
+     * @return A future with the result of the request
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(String key, Supplier<CompletableFuture<T>> execution) {
+        final CompletableFuture<Object> flight = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return existing.thenApply(result -> (T) result);
+        }
+
+        final CompletableFuture<T> response;
+        try {
+            response = execution.get();
+        } catch (RuntimeException ex) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(ex);
+            return CompletableFuture.failedFuture(ex);
+        }
+        response.whenComplete((result, ex) -> {
+            inFlight.remove(key, flight);
+            if (ex != null) {
+                flight.completeExceptionally(ex);
+            } else {
+                flight.complete(result);
+            }
+        });
+        return flight.thenApply(result -> (T) result);
+    }
+
+    private static Object await(CompletableFuture<Object> flight) throws TelegramException {
+        try {
+            return flight.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TelegramException("Interrupted while waiting for a response", ex);
+        } catch (ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof TelegramException) {
+                throw (TelegramException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new TelegramException(cause);
+        }
+    }
+
+    /**
+     * A request executed on the calling thread
+     * @param <T> Type of the result
+     */
+    @FunctionalInterface
+    public interface Execution<T> {
+        T execute() throws TelegramException;
+    }
+}
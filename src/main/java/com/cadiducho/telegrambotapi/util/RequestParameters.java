@@ -0,0 +1,269 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.util;
+
+import com.cadiducho.telegrambotapi.InputFile;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonWriter;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parameters of a Bot API method.
+ * Requests without files are encoded as a single application/json body, while multipart/form-data is only used to upload files.
+ */
+public class RequestParameters {
+
+    private final Map<String, Object> values = new LinkedHashMap<>();
+    private final Map<String, Type> types = new HashMap<>();
+    private final Map<String, FilePart> files = new LinkedHashMap<>();
+    private final Map<String, FilePart> replacedFiles = new LinkedHashMap<>();
+
+    /**
+     * Add a parameter. Null values are ignored.
+     * Strings, numbers and booleans are sent as they are, any other object is serialized to JSON by its runtime class.
+     * @param name Name of the parameter
+     * @param value Value of the parameter
+     */
+    public void add(String name, Object value) {
+        if (value != null) {
+            values.put(name, value);
+        }
+    }
+
+    /**
+     * Add a parameter that must be serialized to JSON with a declared type, like lists or polymorphic objects.
+     * Null values are ignored.
+     * @param name Name of the parameter
+     * @param value Value of the parameter
+     * @param type Type used to serialize the value
+     */
+    public void add(String name, Object value, Type type) {
+        if (value != null) {
+            values.put(name, value);
+            types.put(name, type);
+        }
+    }
+
+    /**
+     * Add a file to upload
+     * @param name Name of the parameter
+     * @param file File to upload
+     * @param mediaType Media type of the file
+     */
+    public void addFile(String name, java.io.File file, MediaType mediaType) {
+        addFile(name, InputFile.of(file), mediaType);
+    }
+
+    /**
+     * Add a file to upload
+     * @param name Name of the parameter
+     * @param file File to upload
+     * @param mediaType Media type of the file
+     */
+    public void addFile(String name, InputFile file, MediaType mediaType) {
+        files.put(name, new FilePart(file, mediaType));
+    }
+
+    /**
+     * Get the value of a parameter
+     * @param name Name of the parameter
+     * @return The value, or null if it was not added
+     */
+    public Object get(String name) {
+        return values.get(name);
+    }
+
+    /**
+     * Copy these parameters, sharing their values and files
+     * @return A copy that can be changed without changing these parameters
+     */
+    public RequestParameters copy() {
+        final RequestParameters copy = new RequestParameters();
+        copy.values.putAll(values);
+        copy.types.putAll(types);
+        copy.files.putAll(files);
+        copy.replacedFiles.putAll(replacedFiles);
+        return copy;
+    }
+
+    /**
+     * Get the names of the files to upload
+     * @return A copy of the names of the file parameters
+     */
+    public Set<String> getFileNames() {
+        return new LinkedHashSet<>(files.keySet());
+    }
+
+    /**
+     * Get a file to upload
+     * @param name Name of the parameter
+     * @return The file, or null if it was not added
+     */
+    public InputFile getFile(String name) {
+        final FilePart part = files.get(name);
+        return part != null ? part.file : null;
+    }
+
+    /**
+     * Send an identifier of a file already uploaded to Telegram instead of uploading the file again
+     * @param name Name of the parameter
+     * @param fileId Identifier of the file
+     */
+    public void replaceFile(String name, String fileId) {
+        final FilePart part = files.remove(name);
+        if (part != null) {
+            replacedFiles.put(name, part);
+            values.put(name, fileId);
+        }
+    }
+
+    /**
+     * Upload again the files replaced by {@link #replaceFile(String, String)}
+     */
+    public void restoreFiles() {
+        replacedFiles.forEach((name, part) -> {
+            values.remove(name);
+            files.put(name, part);
+        });
+        replacedFiles.clear();
+    }
+
+    /**
+     * Check if this request uploads files
+     * @return True if there is any file to upload
+     */
+    public boolean hasFiles() {
+        return !files.isEmpty();
+    }
+
+    /**
+     * Check if the body of this request can be sent more than once
+     * @return False if any file is read from a stream
+     */
+    public boolean isRepeatable() {
+        return files.values().stream().allMatch(part -> part.file.isRepeatable());
+    }
+
+    /**
+     * Build the body of the request.
+     * @param forceMultipart True to use multipart/form-data even if there are no files
+     * @return The body
+     */
+    public RequestBody toRequestBody(boolean forceMultipart) {
+        if (forceMultipart || hasFiles()) {
+            return toMultipartBody();
+        }
+        return toJsonBody();
+    }
+
+    /**
+     * Encode the parameters, without the files, as a JSON object
+     * @return The JSON object
+     */
+    public String toJson() {
+        return writeJson().readUtf8();
+    }
+
+    private RequestBody toJsonBody() {
+        return new JsonBody(writeJson());
+    }
+
+    private Buffer writeJson() {
+        final Buffer buffer = new Buffer();
+        try (JsonWriter writer = JsonWriter.of(buffer)) {
+            writer.beginObject();
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                writer.name(entry.getKey());
+                final Object value = entry.getValue();
+                if (value instanceof String) {
+                    writer.value((String) value);
+                } else if (value instanceof Boolean) {
+                    writer.value((Boolean) value);
+                } else if (value instanceof Number) {
+                    writer.value((Number) value);
+                } else {
+                    adapter(entry.getKey(), value).toJson(writer, value);
+                }
+            }
+            writer.endObject();
+        } catch (IOException ex) {
+            //Buffers never fail to write
+            throw new UncheckedIOException(ex);
+        }
+        return buffer;
+    }
+
+    private RequestBody toMultipartBody() {
+        final MultipartBody.Builder builder = new MultipartBody.Builder().setType(MultipartBody.FORM);
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            final Object value = entry.getValue();
+            if (value instanceof String || value instanceof Boolean || value instanceof Number) {
+                builder.addFormDataPart(entry.getKey(), value.toString());
+            } else {
+                builder.addFormDataPart(entry.getKey(), adapter(entry.getKey(), value).toJson(value));
+            }
+        }
+        files.forEach((name, part) -> builder.addFormDataPart(name, part.file.getFileName(), part.file.toRequestBody(part.mediaType)));
+        return builder.build();
+    }
+
+    private JsonAdapter<Object> adapter(String name, Object value) {
+        return MoshiProvider.adapter(types.getOrDefault(name, value.getClass()));
+    }
+
+    /**
+     * JSON body encoded once, before sending it. The Bot API needs a Content-Length, so it is not streamed with chunked encoding,
+     * but its bytes are written from the encoding buffer without copying them to a ByteString
+     */
+    private static class JsonBody extends RequestBody {
+        private final Buffer json;
+
+        private JsonBody(Buffer json) {
+            this.json = json;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return MediaTypes.MEDIA_TYPE_JSON;
+        }
+
+        @Override
+        public long contentLength() {
+            return json.size();
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            //The copy shares the segments of the buffer, so the body can be written again
+            sink.write(json.copy(), json.size());
+        }
+    }
+
+    private static class FilePart {
+        private final InputFile file;
+        private final MediaType mediaType;
+
+        private FilePart(InputFile file, MediaType mediaType) {
+            this.file = file;
+            this.mediaType = mediaType;
+        }
+    }
+}
@@ -0,0 +1,677 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.util;
+
+import com.cadiducho.telegrambotapi.*;
+import com.cadiducho.telegrambotapi.forum.ForumTopicClosed;
+import com.cadiducho.telegrambotapi.forum.ForumTopicCreated;
+import com.cadiducho.telegrambotapi.forum.ForumTopicEdited;
+import com.cadiducho.telegrambotapi.forum.ForumTopicReopened;
+import com.cadiducho.telegrambotapi.forum.GeneralForumTopicHidden;
+import com.cadiducho.telegrambotapi.forum.GeneralForumTopicUnhidden;
+import com.cadiducho.telegrambotapi.game.Game;
+import com.cadiducho.telegrambotapi.inline.ChosenInlineResult;
+import com.cadiducho.telegrambotapi.inline.InlineKeyboardMarkup;
+import com.cadiducho.telegrambotapi.inline.InlineQuery;
+import com.cadiducho.telegrambotapi.payment.Invoice;
+import com.cadiducho.telegrambotapi.payment.PreCheckoutQuery;
+import com.cadiducho.telegrambotapi.payment.ShippingQuery;
+import com.cadiducho.telegrambotapi.payment.SuccessfulPayment;
+import com.cadiducho.telegrambotapi.sticker.Sticker;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.ByteString;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Streaming decoders for the {@link Update} graph: {@link Update}, {@link Message}, {@link Chat}, {@link User},
+ * {@link MessageEntity}, {@link PhotoSize} and {@link CallbackQuery}.
+ * Names are matched with {@link JsonReader.Options} tables and values are assigned through the setters, so decoding
+ * the updates does not bind fields by reflection. Other nested objects use the regular Moshi adapters.
+ * Serialization is delegated to the reflective adapters, as it is not used in the hot path.
+ * When adding a field to any of these classes, it must be added to its decoder too.
+ * {@link LazyUpdate} only keeps the raw bytes of each update and reads the fields needed to route it.
+ */
+public class UpdateJsonAdapterFactory implements JsonAdapter.Factory {
+
+    @Override
+    public JsonAdapter<?> create(Type type, Set<? extends Annotation> annotations, Moshi moshi) {
+        if (!annotations.isEmpty()) {
+            return null;
+        }
+
+        if (type == LazyUpdate.class) return new LazyUpdateAdapter().nullSafe();
+        if (type == Update.class) return new UpdateAdapter(moshi, moshi.nextAdapter(this, type, annotations)).nullSafe();
+        if (type == Message.class) return new MessageAdapter(moshi, moshi.nextAdapter(this, type, annotations)).nullSafe();
+        if (type == Chat.class) return new ChatAdapter(moshi, moshi.nextAdapter(this, type, annotations)).nullSafe();
+        if (type == User.class) return new UserAdapter(moshi, moshi.nextAdapter(this, type, annotations)).nullSafe();
+        if (type == MessageEntity.class) return new MessageEntityAdapter(moshi, moshi.nextAdapter(this, type, annotations)).nullSafe();
+        if (type == PhotoSize.class) return new PhotoSizeAdapter(moshi, moshi.nextAdapter(this, type, annotations)).nullSafe();
+        if (type == CallbackQuery.class) return new CallbackQueryAdapter(moshi, moshi.nextAdapter(this, type, annotations)).nullSafe();
+        return null;
+    }
+
+    private static String nextString(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonReader.Token.NULL) {
+            return reader.nextNull();
+        }
+        return reader.nextString();
+    }
+
+    private static Integer nextInteger(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonReader.Token.NULL) {
+            return reader.nextNull();
+        }
+        return reader.nextInt();
+    }
+
+    private static Long nextLong(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonReader.Token.NULL) {
+            return reader.nextNull();
+        }
+        return reader.nextLong();
+    }
+
+    private static Boolean nextBoolean(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonReader.Token.NULL) {
+            return reader.nextNull();
+        }
+        return reader.nextBoolean();
+    }
+
+    private static Float nextFloat(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonReader.Token.NULL) {
+            return reader.nextNull();
+        }
+        return (float) reader.nextDouble();
+    }
+
+    private static final class LazyUpdateAdapter extends JsonAdapter<LazyUpdate> {
+
+        private static final JsonReader.Options UPDATE_NAMES = JsonReader.Options.of("update_id");
+        private static final JsonReader.Options CONTENT_NAMES = JsonReader.Options.of("chat", "from", "user", "message");
+        private static final JsonReader.Options ID_NAMES = JsonReader.Options.of("id");
+        private static final JsonReader.Options MESSAGE_NAMES = JsonReader.Options.of("chat");
+
+        @Override
+        public LazyUpdate fromJson(JsonReader reader) throws IOException {
+            final ByteString raw;
+            try (BufferedSource source = reader.nextSource()) {
+                raw = source.readByteString();
+            }
+
+            Integer updateId = null;
+            String kind = null;
+            Long chatId = null;
+            Long senderId = null;
+
+            final JsonReader update = JsonReader.of(new Buffer().write(raw));
+            update.beginObject();
+            while (update.hasNext()) {
+                if (update.selectName(UPDATE_NAMES) == 0) {
+                    updateId = nextInteger(update);
+                    continue;
+                }
+                final String name = update.nextName();
+                if (kind != null || update.peek() != JsonReader.Token.BEGIN_OBJECT) {
+                    update.skipValue();
+                    continue;
+                }
+                kind = name;
+                //Only the identifiers of the content are read, the rest is skipped
+                update.beginObject();
+                while (update.hasNext()) {
+                    switch (update.selectName(CONTENT_NAMES)) {
+                        case 0: chatId = readId(update); break;
+                        case 1:
+                        case 2: senderId = readId(update); break;
+                        case 3:
+                            //Callback queries only have the chat inside their message
+                            final Long messageChatId = readMessageChatId(update);
+                            if (chatId == null) chatId = messageChatId;
+                            break;
+                        default:
+                            update.skipName();
+                            update.skipValue();
+                    }
+                }
+                update.endObject();
+            }
+            update.endObject();
+            return new LazyUpdate(raw, updateId, kind, chatId, senderId);
+        }
+
+        private static Long readId(JsonReader reader) throws IOException {
+            if (reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+                reader.skipValue();
+                return null;
+            }
+            Long id = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.selectName(ID_NAMES) == 0) {
+                    id = nextLong(reader);
+                } else {
+                    reader.skipName();
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return id;
+        }
+
+        private static Long readMessageChatId(JsonReader reader) throws IOException {
+            if (reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+                reader.skipValue();
+                return null;
+            }
+            Long id = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.selectName(MESSAGE_NAMES) == 0) {
+                    id = readId(reader);
+                } else {
+                    reader.skipName();
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return id;
+        }
+
+        @Override
+        public void toJson(JsonWriter writer, LazyUpdate value) throws IOException {
+            try (BufferedSink sink = writer.valueSink()) {
+                sink.write(value.getRaw());
+            }
+        }
+    }
+
+    private static final class UpdateAdapter extends JsonAdapter<Update> {
+
+        private static final JsonReader.Options NAMES = JsonReader.Options.of("update_id", "message", "edited_message", "channel_post", "edited_channel_post", "inline_query", "chosen_inline_result", "callback_query", "shipping_query", "pre_checkout_query", "poll", "poll_answer", "my_chat_member", "chat_member", "chat_join_request");
+
+        private final JsonAdapter<Update> serializer;
+        private final JsonAdapter<Message> messageAdapter;
+        private final JsonAdapter<InlineQuery> inlineQueryAdapter;
+        private final JsonAdapter<ChosenInlineResult> chosenInlineResultAdapter;
+        private final JsonAdapter<CallbackQuery> callbackQueryAdapter;
+        private final JsonAdapter<ShippingQuery> shippingQueryAdapter;
+        private final JsonAdapter<PreCheckoutQuery> preCheckoutQueryAdapter;
+        private final JsonAdapter<Poll> pollAdapter;
+        private final JsonAdapter<PollAnswer> pollAnswerAdapter;
+        private final JsonAdapter<ChatMemberUpdated> chatMemberUpdatedAdapter;
+        private final JsonAdapter<ChatJoinRequest> chatJoinRequestAdapter;
+
+        private UpdateAdapter(Moshi moshi, JsonAdapter<Update> serializer) {
+            this.serializer = serializer;
+            this.messageAdapter = moshi.adapter(Message.class);
+            this.inlineQueryAdapter = moshi.adapter(InlineQuery.class);
+            this.chosenInlineResultAdapter = moshi.adapter(ChosenInlineResult.class);
+            this.callbackQueryAdapter = moshi.adapter(CallbackQuery.class);
+            this.shippingQueryAdapter = moshi.adapter(ShippingQuery.class);
+            this.preCheckoutQueryAdapter = moshi.adapter(PreCheckoutQuery.class);
+            this.pollAdapter = moshi.adapter(Poll.class);
+            this.pollAnswerAdapter = moshi.adapter(PollAnswer.class);
+            this.chatMemberUpdatedAdapter = moshi.adapter(ChatMemberUpdated.class);
+            this.chatJoinRequestAdapter = moshi.adapter(ChatJoinRequest.class);
+        }
+
+        @Override
+        public Update fromJson(JsonReader reader) throws IOException {
+            final Update update = new Update();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.selectName(NAMES)) {
+                    case 0: update.setUpdateId(nextInteger(reader)); break;
+                    case 1: update.setMessage(messageAdapter.fromJson(reader)); break;
+                    case 2: update.setEditedMessage(messageAdapter.fromJson(reader)); break;
+                    case 3: update.setChannelPost(messageAdapter.fromJson(reader)); break;
+                    case 4: update.setEditedChannelPost(messageAdapter.fromJson(reader)); break;
+                    case 5: update.setInlineQuery(inlineQueryAdapter.fromJson(reader)); break;
+                    case 6: update.setChosenInlineResult(chosenInlineResultAdapter.fromJson(reader)); break;
+                    case 7: update.setCallbackQuery(callbackQueryAdapter.fromJson(reader)); break;
+                    case 8: update.setShippingQuery(shippingQueryAdapter.fromJson(reader)); break;
+                    case 9: update.setPreCheckoutQuery(preCheckoutQueryAdapter.fromJson(reader)); break;
+                    case 10: update.setPoll(pollAdapter.fromJson(reader)); break;
+                    case 11: update.setPollAnswer(pollAnswerAdapter.fromJson(reader)); break;
+                    case 12: update.setMyChatMember(chatMemberUpdatedAdapter.fromJson(reader)); break;
+                    case 13: update.setChatMember(chatMemberUpdatedAdapter.fromJson(reader)); break;
+                    case 14: update.setChatJoinRequest(chatJoinRequestAdapter.fromJson(reader)); break;
+                    default:
+                        reader.skipName();
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return update;
+        }
+
+        @Override
+        public void toJson(JsonWriter writer, Update value) throws IOException {
+            serializer.toJson(writer, value);
+        }
+    }
+
+    private static final class MessageAdapter extends JsonAdapter<Message> {
+
+        private static final JsonReader.Options NAMES = JsonReader.Options.of("message_id", "message_thread_id", "from", "sender_chat", "date", "chat", "forward_from", "forward_from_chat", "forward_from_message_id", "forward_signature", "forward_sender_name", "forward_date", "is_topic_message", "is_automatic_forward", "reply_to_message", "via_bot", "edit_date", "has_protected_content", "author_signature", "text", "entities", "caption_entities", "audio", "document", "animation", "game", "photo", "sticker", "story", "video", "voice", "video_note", "caption", "has_media_spoiler", "contact", "location", "venue", "poll", "dice", "new_chat_members", "left_chat_member", "new_chat_title", "new_chat_photo", "delete_chat_photo", "group_chat_created", "supergroup_chat_created", "channel_chat_created", "message_auto_delete_timer_changed", "migrate_to_chat_id", "migrate_from_chat_id", "pinned_message", "invoice", "successful_payment", "user_shared", "chat_shared", "connected_website", "write_access_allowed", "proximity_alert_triggered", "forum_topic_created", "forum_topic_edited", "forum_topic_closed", "forum_topic_reopened", "general_forum_topic_hidden", "general_forum_topic_unhidden", "video_chat_scheduled", "video_chat_started", "video_chat_ended", "video_chat_participants_invited", "web_app_data", "reply_markup");
+
+        private final JsonAdapter<Message> serializer;
+        private final JsonAdapter<User> userAdapter;
+        private final JsonAdapter<Chat> chatAdapter;
+        private final JsonAdapter<Message> messageAdapter;
+        private final JsonAdapter<List<MessageEntity>> listOfMessageEntityAdapter;
+        private final JsonAdapter<Audio> audioAdapter;
+        private final JsonAdapter<Document> documentAdapter;
+        private final JsonAdapter<Animation> animationAdapter;
+        private final JsonAdapter<Game> gameAdapter;
+        private final JsonAdapter<List<PhotoSize>> listOfPhotoSizeAdapter;
+        private final JsonAdapter<Sticker> stickerAdapter;
+        private final JsonAdapter<Story> storyAdapter;
+        private final JsonAdapter<Video> videoAdapter;
+        private final JsonAdapter<Voice> voiceAdapter;
+        private final JsonAdapter<VideoNote> videoNoteAdapter;
+        private final JsonAdapter<Contact> contactAdapter;
+        private final JsonAdapter<Location> locationAdapter;
+        private final JsonAdapter<Venue> venueAdapter;
+        private final JsonAdapter<Poll> pollAdapter;
+        private final JsonAdapter<Dice> diceAdapter;
+        private final JsonAdapter<List<User>> listOfUserAdapter;
+        private final JsonAdapter<MessageAutoDeleteTimerChanged> messageAutoDeleteTimerChangedAdapter;
+        private final JsonAdapter<Invoice> invoiceAdapter;
+        private final JsonAdapter<SuccessfulPayment> successfulPaymentAdapter;
+        private final JsonAdapter<UserShared> userSharedAdapter;
+        private final JsonAdapter<ChatShared> chatSharedAdapter;
+        private final JsonAdapter<ProximityAlertTriggered> proximityAlertTriggeredAdapter;
+        private final JsonAdapter<ForumTopicCreated> forumTopicCreatedAdapter;
+        private final JsonAdapter<ForumTopicEdited> forumTopicEditedAdapter;
+        private final JsonAdapter<ForumTopicClosed> forumTopicClosedAdapter;
+        private final JsonAdapter<ForumTopicReopened> forumTopicReopenedAdapter;
+        private final JsonAdapter<GeneralForumTopicHidden> generalForumTopicHiddenAdapter;
+        private final JsonAdapter<GeneralForumTopicUnhidden> generalForumTopicUnhiddenAdapter;
+        private final JsonAdapter<VideoChatScheduled> videoChatScheduledAdapter;
+        private final JsonAdapter<VideoChatStarted> videoChatStartedAdapter;
+        private final JsonAdapter<VideoChatEnded> videoChatEndedAdapter;
+        private final JsonAdapter<VoiceChatParticipantsInvited> voiceChatParticipantsInvitedAdapter;
+        private final JsonAdapter<WebAppData> webAppDataAdapter;
+        private final JsonAdapter<InlineKeyboardMarkup> inlineKeyboardMarkupAdapter;
+
+        private MessageAdapter(Moshi moshi, JsonAdapter<Message> serializer) {
+            this.serializer = serializer;
+            this.userAdapter = moshi.adapter(User.class);
+            this.chatAdapter = moshi.adapter(Chat.class);
+            this.messageAdapter = moshi.adapter(Message.class);
+            this.listOfMessageEntityAdapter = moshi.adapter(Types.newParameterizedType(List.class, MessageEntity.class));
+            this.audioAdapter = moshi.adapter(Audio.class);
+            this.documentAdapter = moshi.adapter(Document.class);
+            this.animationAdapter = moshi.adapter(Animation.class);
+            this.gameAdapter = moshi.adapter(Game.class);
+            this.listOfPhotoSizeAdapter = moshi.adapter(Types.newParameterizedType(List.class, PhotoSize.class));
+            this.stickerAdapter = moshi.adapter(Sticker.class);
+            this.storyAdapter = moshi.adapter(Story.class);
+            this.videoAdapter = moshi.adapter(Video.class);
+            this.voiceAdapter = moshi.adapter(Voice.class);
+            this.videoNoteAdapter = moshi.adapter(VideoNote.class);
+            this.contactAdapter = moshi.adapter(Contact.class);
+            this.locationAdapter = moshi.adapter(Location.class);
+            this.venueAdapter = moshi.adapter(Venue.class);
+            this.pollAdapter = moshi.adapter(Poll.class);
+            this.diceAdapter = moshi.adapter(Dice.class);
+            this.listOfUserAdapter = moshi.adapter(Types.newParameterizedType(List.class, User.class));
+            this.messageAutoDeleteTimerChangedAdapter = moshi.adapter(MessageAutoDeleteTimerChanged.class);
+            this.invoiceAdapter = moshi.adapter(Invoice.class);
+            this.successfulPaymentAdapter = moshi.adapter(SuccessfulPayment.class);
+            this.userSharedAdapter = moshi.adapter(UserShared.class);
+            this.chatSharedAdapter = moshi.adapter(ChatShared.class);
+            this.proximityAlertTriggeredAdapter = moshi.adapter(ProximityAlertTriggered.class);
+            this.forumTopicCreatedAdapter = moshi.adapter(ForumTopicCreated.class);
+            this.forumTopicEditedAdapter = moshi.adapter(ForumTopicEdited.class);
+            this.forumTopicClosedAdapter = moshi.adapter(ForumTopicClosed.class);
+            this.forumTopicReopenedAdapter = moshi.adapter(ForumTopicReopened.class);
+            this.generalForumTopicHiddenAdapter = moshi.adapter(GeneralForumTopicHidden.class);
+            this.generalForumTopicUnhiddenAdapter = moshi.adapter(GeneralForumTopicUnhidden.class);
+            this.videoChatScheduledAdapter = moshi.adapter(VideoChatScheduled.class);
+            this.videoChatStartedAdapter = moshi.adapter(VideoChatStarted.class);
+            this.videoChatEndedAdapter = moshi.adapter(VideoChatEnded.class);
+            this.voiceChatParticipantsInvitedAdapter = moshi.adapter(VoiceChatParticipantsInvited.class);
+            this.webAppDataAdapter = moshi.adapter(WebAppData.class);
+            this.inlineKeyboardMarkupAdapter = moshi.adapter(InlineKeyboardMarkup.class);
+        }
+
+        @Override
+        public Message fromJson(JsonReader reader) throws IOException {
+            final Message message = new Message();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.selectName(NAMES)) {
+                    case 0: message.setMessageId(nextInteger(reader)); break;
+                    case 1: message.setMessageThreadId(nextInteger(reader)); break;
+                    case 2: message.setFrom(userAdapter.fromJson(reader)); break;
+                    case 3: message.setSenderChat(chatAdapter.fromJson(reader)); break;
+                    case 4: message.setDate(nextInteger(reader)); break;
+                    case 5: message.setChat(chatAdapter.fromJson(reader)); break;
+                    case 6: message.setForwardFrom(userAdapter.fromJson(reader)); break;
+                    case 7: message.setForwardFromChat(chatAdapter.fromJson(reader)); break;
+                    case 8: message.setForwardFromMessageId(nextInteger(reader)); break;
+                    case 9: message.setForwardSignature(nextString(reader)); break;
+                    case 10: message.setForwardSenderName(nextString(reader)); break;
+                    case 11: message.setForwardDate(nextInteger(reader)); break;
+                    case 12: message.setIsTopicMessage(nextBoolean(reader)); break;
+                    case 13: message.setIsAutomaticForward(nextBoolean(reader)); break;
+                    case 14: message.setReplyToMessage(messageAdapter.fromJson(reader)); break;
+                    case 15: message.setViaBot(userAdapter.fromJson(reader)); break;
+                    case 16: message.setEditDate(nextInteger(reader)); break;
+                    case 17: message.setHasProtectedContent(nextBoolean(reader)); break;
+                    case 18: message.setAuthorSignature(nextString(reader)); break;
+                    case 19: message.setText(nextString(reader)); break;
+                    case 20: message.setEntities(listOfMessageEntityAdapter.fromJson(reader)); break;
+                    case 21: message.setCaptionEntities(listOfMessageEntityAdapter.fromJson(reader)); break;
+                    case 22: message.setAudio(audioAdapter.fromJson(reader)); break;
+                    case 23: message.setDocument(documentAdapter.fromJson(reader)); break;
+                    case 24: message.setAnimation(animationAdapter.fromJson(reader)); break;
+                    case 25: message.setGame(gameAdapter.fromJson(reader)); break;
+                    case 26: message.setPhoto(listOfPhotoSizeAdapter.fromJson(reader)); break;
+                    case 27: message.setSticker(stickerAdapter.fromJson(reader)); break;
+                    case 28: message.setStory(storyAdapter.fromJson(reader)); break;
+                    case 29: message.setVideo(videoAdapter.fromJson(reader)); break;
+                    case 30: message.setVoice(voiceAdapter.fromJson(reader)); break;
+                    case 31: message.setVideoNote(videoNoteAdapter.fromJson(reader)); break;
+                    case 32: message.setCaption(nextString(reader)); break;
+                    case 33: message.setHas_media_spoiler(nextBoolean(reader)); break;
+                    case 34: message.setContact(contactAdapter.fromJson(reader)); break;
+                    case 35: message.setLocation(locationAdapter.fromJson(reader)); break;
+                    case 36: message.setVenue(venueAdapter.fromJson(reader)); break;
+                    case 37: message.setPoll(pollAdapter.fromJson(reader)); break;
+                    case 38: message.setDice(diceAdapter.fromJson(reader)); break;
+                    case 39: message.setNewChatMembers(listOfUserAdapter.fromJson(reader)); break;
+                    case 40: message.setLeftChatMember(userAdapter.fromJson(reader)); break;
+                    case 41: message.setNewChatTitle(nextString(reader)); break;
+                    case 42: message.setNewChatPhoto(listOfPhotoSizeAdapter.fromJson(reader)); break;
+                    case 43: message.setDeleteChatPhoto(nextBoolean(reader)); break;
+                    case 44: message.setGroupChatCreated(nextBoolean(reader)); break;
+                    case 45: message.setSupergroupChatCreated(nextBoolean(reader)); break;
+                    case 46: message.setChannelChatCreated(nextBoolean(reader)); break;
+                    case 47: message.setMessageAutoDeleteTimerChanged(messageAutoDeleteTimerChangedAdapter.fromJson(reader)); break;
+                    case 48: message.setMigrateToChatId(nextLong(reader)); break;
+                    case 49: message.setMigrateFromChatId(nextLong(reader)); break;
+                    case 50: message.setPinnedMessage(messageAdapter.fromJson(reader)); break;
+                    case 51: message.setInvoice(invoiceAdapter.fromJson(reader)); break;
+                    case 52: message.setSuccessfulPayment(successfulPaymentAdapter.fromJson(reader)); break;
+                    case 53: message.setUserShared(userSharedAdapter.fromJson(reader)); break;
+                    case 54: message.setChatShared(chatSharedAdapter.fromJson(reader)); break;
+                    case 55: message.setConnectedWebsite(nextString(reader)); break;
+                    case 56: message.setWriteAccessAllowed(nextString(reader)); break;
+                    case 57: message.setProximityAlertTriggered(proximityAlertTriggeredAdapter.fromJson(reader)); break;
+                    case 58: message.setForumTopicCreated(forumTopicCreatedAdapter.fromJson(reader)); break;
+                    case 59: message.setForumTopicEdited(forumTopicEditedAdapter.fromJson(reader)); break;
+                    case 60: message.setForumTopicClosed(forumTopicClosedAdapter.fromJson(reader)); break;
+                    case 61: message.setForumTopicReopened(forumTopicReopenedAdapter.fromJson(reader)); break;
+                    case 62: message.setGeneralForumTopicHidden(generalForumTopicHiddenAdapter.fromJson(reader)); break;
+                    case 63: message.setGeneralForumTopicUnhidden(generalForumTopicUnhiddenAdapter.fromJson(reader)); break;
+                    case 64: message.setVideoChatScheduled(videoChatScheduledAdapter.fromJson(reader)); break;
+                    case 65: message.setVideoChatStarted(videoChatStartedAdapter.fromJson(reader)); break;
+                    case 66: message.setVideoChatEnded(videoChatEndedAdapter.fromJson(reader)); break;
+                    case 67: message.setVideoChatParticipantsInvited(voiceChatParticipantsInvitedAdapter.fromJson(reader)); break;
+                    case 68: message.setWebAppData(webAppDataAdapter.fromJson(reader)); break;
+                    case 69: message.setReplyMarkup(inlineKeyboardMarkupAdapter.fromJson(reader)); break;
+                    default:
+                        reader.skipName();
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return message;
+        }
+
+        @Override
+        public void toJson(JsonWriter writer, Message value) throws IOException {
+            serializer.toJson(writer, value);
+        }
+    }
+
+    private static final class ChatAdapter extends JsonAdapter<Chat> {
+
+        private static final JsonReader.Options NAMES = JsonReader.Options.of("id", "type", "title", "username", "first_name", "last_name", "is_forum", "photo", "active_usernames", "emoji_status_custom_emoji_id", "emoji_status_expiration_date", "bio", "has_private_forwards", "has_restricted_voice_and_video_messages", "join_to_send_messages", "join_by_request", "description", "invite_link", "pinned_message", "permissions", "slow_mode_delay", "message_auto_delete_time", "has_aggressive_anti_spam_enabled", "has_hidden_members", "has_protected_content", "sticker_set_name", "can_set_sticker_set", "linked_chat_id", "location");
+
+        private final JsonAdapter<Chat> serializer;
+        private final JsonAdapter<ChatPhoto> chatPhotoAdapter;
+        private final JsonAdapter<List<String>> listOfStringAdapter;
+        private final JsonAdapter<Message> messageAdapter;
+        private final JsonAdapter<ChatPermissions> chatPermissionsAdapter;
+        private final JsonAdapter<ChatLocation> chatLocationAdapter;
+
+        private ChatAdapter(Moshi moshi, JsonAdapter<Chat> serializer) {
+            this.serializer = serializer;
+            this.chatPhotoAdapter = moshi.adapter(ChatPhoto.class);
+            this.listOfStringAdapter = moshi.adapter(Types.newParameterizedType(List.class, String.class));
+            this.messageAdapter = moshi.adapter(Message.class);
+            this.chatPermissionsAdapter = moshi.adapter(ChatPermissions.class);
+            this.chatLocationAdapter = moshi.adapter(ChatLocation.class);
+        }
+
+        @Override
+        public Chat fromJson(JsonReader reader) throws IOException {
+            final Chat chat = new Chat();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.selectName(NAMES)) {
+                    case 0: chat.setId(nextLong(reader)); break;
+                    case 1: chat.setType(nextString(reader)); break;
+                    case 2: chat.setTitle(nextString(reader)); break;
+                    case 3: chat.setUsername(nextString(reader)); break;
+                    case 4: chat.setFirstName(nextString(reader)); break;
+                    case 5: chat.setLastName(nextString(reader)); break;
+                    case 6: chat.setIsForum(nextBoolean(reader)); break;
+                    case 7: chat.setPhoto(chatPhotoAdapter.fromJson(reader)); break;
+                    case 8: chat.setActiveUsernames(listOfStringAdapter.fromJson(reader)); break;
+                    case 9: chat.setEmojiStatusCustomEmojiId(nextString(reader)); break;
+                    case 10: chat.setEmojiStatusExpirationDate(nextInteger(reader)); break;
+                    case 11: chat.setBio(nextString(reader)); break;
+                    case 12: chat.setHasPrivateForwards(nextBoolean(reader)); break;
+                    case 13: chat.setHasRestrictedVoiceAndVideoMessages(nextBoolean(reader)); break;
+                    case 14: chat.setJoinToSendMessages(nextBoolean(reader)); break;
+                    case 15: chat.setJoinByRequest(nextBoolean(reader)); break;
+                    case 16: chat.setDescription(nextString(reader)); break;
+                    case 17: chat.setInviteLink(nextString(reader)); break;
+                    case 18: chat.setPinnedMessage(messageAdapter.fromJson(reader)); break;
+                    case 19: chat.setPermissions(chatPermissionsAdapter.fromJson(reader)); break;
+                    case 20: chat.setSlowModeDelay(nextInteger(reader)); break;
+                    case 21: chat.setMessageAutoDeleteTime(nextInteger(reader)); break;
+                    case 22: chat.setHasAggressiveAntiSpamEnabled(nextBoolean(reader)); break;
+                    case 23: chat.setHasHiddenMembers(nextBoolean(reader)); break;
+                    case 24: chat.setHasProtectedContent(nextBoolean(reader)); break;
+                    case 25: chat.setStickerSetName(nextString(reader)); break;
+                    case 26: chat.setCanSetStickerSet(nextBoolean(reader)); break;
+                    case 27: chat.setLinkedChatId(nextLong(reader)); break;
+                    case 28: chat.setLocation(chatLocationAdapter.fromJson(reader)); break;
+                    default:
+                        reader.skipName();
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return chat;
+        }
+
+        @Override
+        public void toJson(JsonWriter writer, Chat value) throws IOException {
+            serializer.toJson(writer, value);
+        }
+    }
+
+    private static final class UserAdapter extends JsonAdapter<User> {
+
+        private static final JsonReader.Options NAMES = JsonReader.Options.of("id", "is_bot", "first_name", "last_name", "username", "language_code", "is_premium", "added_to_attachment_menu", "can_join_groups", "can_read_all_group_messages", "supports_inline_queries");
+
+        private final JsonAdapter<User> serializer;
+
+        private UserAdapter(Moshi moshi, JsonAdapter<User> serializer) {
+            this.serializer = serializer;
+        }
+
+        @Override
+        public User fromJson(JsonReader reader) throws IOException {
+            final User user = new User();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.selectName(NAMES)) {
+                    case 0: user.setId(nextLong(reader)); break;
+                    case 1: user.setBot(reader.nextBoolean()); break;
+                    case 2: user.setFirstName(nextString(reader)); break;
+                    case 3: user.setLastName(nextString(reader)); break;
+                    case 4: user.setUsername(nextString(reader)); break;
+                    case 5: user.setLanguageCode(nextString(reader)); break;
+                    case 6: user.setIsPremium(nextBoolean(reader)); break;
+                    case 7: user.setAddedToAttachmentMenu(nextBoolean(reader)); break;
+                    case 8: user.setCanJoinGroups(nextBoolean(reader)); break;
+                    case 9: user.setCanReadAllGroupMessages(nextBoolean(reader)); break;
+                    case 10: user.setSupportsInlineQueries(nextBoolean(reader)); break;
+                    default:
+                        reader.skipName();
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return user;
+        }
+
+        @Override
+        public void toJson(JsonWriter writer, User value) throws IOException {
+            serializer.toJson(writer, value);
+        }
+    }
+
+    private static final class MessageEntityAdapter extends JsonAdapter<MessageEntity> {
+
+        private static final JsonReader.Options NAMES = JsonReader.Options.of("type", "offset", "length", "url", "user", "language", "custom_emoji_id");
+
+        private final JsonAdapter<MessageEntity> serializer;
+        private final JsonAdapter<User> userAdapter;
+
+        private MessageEntityAdapter(Moshi moshi, JsonAdapter<MessageEntity> serializer) {
+            this.serializer = serializer;
+            this.userAdapter = moshi.adapter(User.class);
+        }
+
+        @Override
+        public MessageEntity fromJson(JsonReader reader) throws IOException {
+            final MessageEntity messageEntity = new MessageEntity();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.selectName(NAMES)) {
+                    case 0: messageEntity.setType(nextString(reader)); break;
+                    case 1: messageEntity.setOffset(nextInteger(reader)); break;
+                    case 2: messageEntity.setLength(nextInteger(reader)); break;
+                    case 3: messageEntity.setUrl(nextString(reader)); break;
+                    case 4: messageEntity.setUser(userAdapter.fromJson(reader)); break;
+                    case 5: messageEntity.setLanguage(nextString(reader)); break;
+                    case 6: messageEntity.setCustomEmojiId(nextString(reader)); break;
+                    default:
+                        reader.skipName();
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return messageEntity;
+        }
+
+        @Override
+        public void toJson(JsonWriter writer, MessageEntity value) throws IOException {
+            serializer.toJson(writer, value);
+        }
+    }
+
+    private static final class PhotoSizeAdapter extends JsonAdapter<PhotoSize> {
+
+        private static final JsonReader.Options NAMES = JsonReader.Options.of("file_id", "file_unique_id", "width", "height", "file_size");
+
+        private final JsonAdapter<PhotoSize> serializer;
+
+        private PhotoSizeAdapter(Moshi moshi, JsonAdapter<PhotoSize> serializer) {
+            this.serializer = serializer;
+        }
+
+        @Override
+        public PhotoSize fromJson(JsonReader reader) throws IOException {
+            final PhotoSize photoSize = new PhotoSize();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.selectName(NAMES)) {
+                    case 0: photoSize.setFileId(nextString(reader)); break;
+                    case 1: photoSize.setFileUniqueId(nextString(reader)); break;
+                    case 2: photoSize.setWidth(nextInteger(reader)); break;
+                    case 3: photoSize.setHeight(nextInteger(reader)); break;
+                    case 4: photoSize.setFileSize(nextLong(reader)); break;
+                    default:
+                        reader.skipName();
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return photoSize;
+        }
+
+        @Override
+        public void toJson(JsonWriter writer, PhotoSize value) throws IOException {
+            serializer.toJson(writer, value);
+        }
+    }
+
+    private static final class CallbackQueryAdapter extends JsonAdapter<CallbackQuery> {
+
+        private static final JsonReader.Options NAMES = JsonReader.Options.of("id", "from", "message", "inline_message_id", "data");
+
+        private final JsonAdapter<CallbackQuery> serializer;
+        private final JsonAdapter<User> userAdapter;
+        private final JsonAdapter<Message> messageAdapter;
+
+        private CallbackQueryAdapter(Moshi moshi, JsonAdapter<CallbackQuery> serializer) {
+            this.serializer = serializer;
+            this.userAdapter = moshi.adapter(User.class);
+            this.messageAdapter = moshi.adapter(Message.class);
+        }
+
+        @Override
+        public CallbackQuery fromJson(JsonReader reader) throws IOException {
+            final CallbackQuery callbackQuery = new CallbackQuery();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.selectName(NAMES)) {
+                    case 0: callbackQuery.setId(nextString(reader)); break;
+                    case 1: callbackQuery.setFrom(userAdapter.fromJson(reader)); break;
+                    case 2: callbackQuery.setMessage(messageAdapter.fromJson(reader)); break;
+                    case 3: callbackQuery.setInlineMessageId(nextString(reader)); break;
+                    case 4: callbackQuery.setData(nextString(reader)); break;
+                    default:
+                        reader.skipName();
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return callbackQuery;
+        }
+
+        @Override
+        public void toJson(JsonWriter writer, CallbackQuery value) throws IOException {
+            serializer.toJson(writer, value);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to the virtual threads of Java 21 from code compiled for Java 11.
+ * The methods are looked up by reflection, so older runtimes report them as not supported and keep using platform threads.
+ */
+public final class VirtualThreads {
+
+    private static final Method OF_VIRTUAL;
+    private static final Method NAME;
+    private static final Method FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+    private static final boolean SUPPORTED;
+
+    static {
+        Method ofVirtual = null, name = null, factory = null, newThreadPerTaskExecutor = null;
+        boolean supported = false;
+        try {
+            final Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name = builder.getMethod("name", String.class, long.class);
+            factory = builder.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            //Java 19 and 20 have the methods, but they fail unless preview features are enabled
+            factory.invoke(ofVirtual.invoke(null));
+            supported = true;
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            //Not supported by this runtime
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+        SUPPORTED = supported;
+    }
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Check if the runtime supports virtual threads
+     * @return True on Java 21 or newer
+     */
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    /**
+     * Create a factory of virtual threads
+     * @param name Prefix of the name of the threads, followed by a counter
+     * @return The factory
+     * @throws UnsupportedOperationException If the runtime does not support virtual threads
+     */
+    public static ThreadFactory factory(String name) {
+        checkSupported();
+        try {
+            return (ThreadFactory) FACTORY.invoke(NAME.invoke(OF_VIRTUAL.invoke(null), name, 0L));
+        } catch (IllegalAccessException | InvocationTargetException ex) {
+            throw new UnsupportedOperationException("Could not create virtual threads", ex);
+        }
+    }
+
+    /**
+     * Create an executor that runs every task in a new virtual thread
+     * @param name Prefix of the name of the threads, followed by a counter
+     * @return The executor
+     * @throws UnsupportedOperationException If the runtime does not support virtual threads
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String name) {
+        final ThreadFactory factory = factory(name);
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+        } catch (IllegalAccessException | InvocationTargetException ex) {
+            throw new UnsupportedOperationException("Could not create virtual threads", ex);
+        }
+    }
+
+    private static void checkSupported() {
+        if (!SUPPORTED) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer, running on " + System.getProperty("java.version"));
+        }
+    }
+}
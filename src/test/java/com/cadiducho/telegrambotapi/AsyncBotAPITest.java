@@ -0,0 +1,93 @@
+package com.cadiducho.telegrambotapi;
+
+import com.cadiducho.telegrambotapi.exception.TelegramApiException;
+import com.cadiducho.telegrambotapi.testing.ApiCall;
+import com.cadiducho.telegrambotapi.testing.Fault;
+import com.cadiducho.telegrambotapi.testing.FakeBotApiServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncBotAPITest {
+
+    private FakeBotApiServer server;
+    private TelegramBot bot;
+    private AsyncBotAPI async;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = new FakeBotApiServer();
+        server.start();
+        bot = new TelegramBot("123456789:TOKEN", TelegramBotConfig.builder()
+                .baseUrl(server.getBaseUrl())
+                .maxRetries(1)
+                .build());
+        async = bot.getAsyncInstance();
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+        server.close();
+    }
+
+    @Test
+    void completesWithTheResult() throws Exception {
+        Message message = async.sendMessage(10L, "Hello").get(5, TimeUnit.SECONDS);
+        assertEquals("Hello", message.getText());
+        assertEquals(10L, message.getChat().getId());
+
+        Message executed = async.execute(api -> api.sendMessage(-20L, "Executed")).get(5, TimeUnit.SECONDS);
+        assertEquals("Executed", executed.getText());
+
+        ApiCall call = server.getCalls("sendMessage").get(1);
+        assertEquals("-20", call.get("chat_id"));
+        assertEquals("Executed", call.get("text"));
+    }
+
+    @Test
+    void failsWithTelegramApiException() {
+        server.failNext("sendMessage", Fault.serverError(502));
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> async.sendMessage(10L, "Hello").get(5, TimeUnit.SECONDS));
+        TelegramApiException cause = assertInstanceOf(TelegramApiException.class, error.getCause());
+        assertEquals(502, cause.getErrorCode());
+        assertEquals(1, server.getCalls("sendMessage").size());
+    }
+
+    @Test
+    void retriesAfterFloodControl() throws Exception {
+        server.failNext("sendMessage", Fault.tooManyRequests(0));
+
+        assertEquals("Hello", async.sendMessage(10L, "Hello").get(5, TimeUnit.SECONDS).getText());
+        assertEquals(2, server.getCalls("sendMessage").size());
+
+        server.failNext("sendMessage", Fault.tooManyRequests(0));
+        server.failNext("sendMessage", Fault.tooManyRequests(0));
+        ExecutionException error = assertThrows(ExecutionException.class, () -> async.sendMessage(10L, "Hello").get(5, TimeUnit.SECONDS));
+        assertEquals(0, assertInstanceOf(TelegramApiException.class, error.getCause()).getRetryAfter());
+        assertEquals(4, server.getCalls("sendMessage").size());
+    }
+
+    @Test
+    void capturesExactlyOneMethod() throws Exception {
+        CompletableFuture<Object> none = async.execute(api -> null);
+        assertInstanceOf(IllegalStateException.class, assertThrows(ExecutionException.class, none::get).getCause());
+
+        CompletableFuture<Message> twice = async.execute(api -> {
+            api.getMe();
+            return api.sendMessage(10L, "Hello");
+        });
+        assertInstanceOf(IllegalStateException.class, assertThrows(ExecutionException.class, twice::get).getCause());
+        assertTrue(server.getCalls().isEmpty());
+
+        //The capture is cleared, so blocking calls of the same thread are sent again
+        assertEquals("Hello", bot.sendMessage(10L, "Hello").getText());
+        assertEquals(1, server.getCalls("sendMessage").size());
+    }
+}
@@ -0,0 +1,123 @@
+package com.cadiducho.telegrambotapi;
+
+import com.cadiducho.telegrambotapi.exception.TelegramException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.BufferedSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileDownloadTest {
+
+    private MockWebServer server;
+    private TelegramBot bot;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        bot = new TelegramBot("TOKEN", TelegramBotConfig.builder().baseUrl(server.url("/").toString()).build());
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+        server.shutdown();
+    }
+
+    private static File file(String path, long size) {
+        File file = new File();
+        file.setFileId("ID");
+        file.setFilePath(path);
+        file.setFileSize(size);
+        return file;
+    }
+
+    @Test
+    void downloadsFromTheBaseUrl() throws Exception {
+        server.enqueue(new MockResponse().setBody("content"));
+        try (BufferedSource source = bot.downloadFile(file("documents/file.txt", 7))) {
+            assertEquals("content", source.readUtf8());
+        }
+        assertEquals("/file/botTOKEN/documents/file.txt", server.takeRequest().getPath());
+    }
+
+    @Test
+    void resumesDownloadsToAPath(@TempDir Path directory) throws Exception {
+        Path target = directory.resolve("file.txt");
+        Files.write(target, "cont".getBytes(StandardCharsets.UTF_8));
+        server.enqueue(new MockResponse().setResponseCode(206).setBody("ent"));
+
+        assertEquals(7, bot.resumeDownload(file("documents/file.txt", 7), target, 100));
+        assertEquals("content", new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+        RecordedRequest request = server.takeRequest();
+        assertEquals("bytes=4-", request.getHeader("Range"));
+    }
+
+    @Test
+    void restartsResumedDownloadsIfTheServerSendsTheWholeFile(@TempDir Path directory) throws Exception {
+        Path target = directory.resolve("file.txt");
+        Files.write(target, "cont".getBytes(StandardCharsets.UTF_8));
+        server.enqueue(new MockResponse().setBody("content"));
+
+        assertEquals(7, bot.resumeDownload(file("documents/file.txt", 7), target, 100));
+        assertEquals("content", new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void replacesExistingFilesByDefault(@TempDir Path directory) throws Exception {
+        Path target = directory.resolve("file.txt");
+        Files.write(target, "old".getBytes(StandardCharsets.UTF_8));
+        server.enqueue(new MockResponse().setBody("content"));
+
+        assertEquals(7, bot.downloadFile(file("documents/file.txt", 7), target, 100));
+        assertEquals("content", new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+        assertNull(server.takeRequest().getHeader("Range"));
+    }
+
+    @Test
+    void rejectsFilesBiggerThanTheLimit() {
+        assertThrows(Exception.class, () -> bot.downloadFile(file("documents/file.txt", 7), 0, 5));
+        assertEquals(0, server.getRequestCount());
+    }
+
+    @Test
+    void readsLocalFiles(@TempDir Path directory) throws Exception {
+        Path local = directory.resolve("local.txt");
+        Files.write(local, "local content".getBytes(StandardCharsets.UTF_8));
+        TelegramBot localBot = new TelegramBot("TOKEN", TelegramBotConfig.builder()
+                .baseUrl(server.url("/").toString())
+                .localMode(true)
+                .build());
+
+        try (BufferedSource source = localBot.downloadFile(file(local.toString(), 13), 6, 100)) {
+            assertEquals("content", source.readUtf8());
+        }
+        Path copy = directory.resolve("copy.txt");
+        assertEquals(13, localBot.downloadFile(file(local.toString(), 13), copy, 100));
+        assertEquals("local content", new String(Files.readAllBytes(copy), StandardCharsets.UTF_8));
+        assertEquals(0, server.getRequestCount());
+    }
+
+    @Test
+    void failsForLocalFilesInAnotherDisk(@TempDir Path directory) {
+        TelegramBot localBot = new TelegramBot("TOKEN", TelegramBotConfig.builder()
+                .baseUrl(server.url("/").toString())
+                .localMode(true)
+                .build());
+        String missing = directory.resolve("missing.txt").toString();
+
+        TelegramException error = assertThrows(TelegramException.class, () -> localBot.downloadFile(file(missing, 13), 0, 100));
+        assertTrue(error.getMessage().contains(missing));
+        assertThrows(TelegramException.class, () -> localBot.downloadFile(file(missing, 13), directory.resolve("copy.txt"), 100));
+        assertEquals(0, server.getRequestCount());
+    }
+}
@@ -0,0 +1,319 @@
+package com.cadiducho.telegrambotapi;
+
+import com.cadiducho.telegrambotapi.exception.TelegramApiException;
+import com.cadiducho.telegrambotapi.exception.TelegramException;
+import com.cadiducho.telegrambotapi.handlers.DefaultBotUpdatesPoller;
+import com.cadiducho.telegrambotapi.testing.ApiCall;
+import com.cadiducho.telegrambotapi.testing.Fault;
+import com.cadiducho.telegrambotapi.testing.FakeBotApiServer;
+import okio.BufferedSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OfflineBotTest {
+
+    private FakeBotApiServer server;
+    private TelegramBot bot;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = new FakeBotApiServer();
+        server.start();
+        bot = new TelegramBot("123456789:TOKEN", TelegramBotConfig.builder()
+                .baseUrl(server.getBaseUrl())
+                .maxRetries(1)
+                .build());
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+        if (bot.getUpdatesPoller().running()) {
+            bot.stopUpdatesPoller();
+        }
+        server.close();
+    }
+
+    @Test
+    void pollerDeliversScriptedUpdates() throws Exception {
+        List<String> texts = new CopyOnWriteArrayList<>();
+        CountDownLatch received = new CountDownLatch(3);
+        bot.getUpdatesPoller().setHandler(update -> {
+            texts.add(update.getMessage().getText());
+            received.countDown();
+        });
+        bot.startUpdatesPoller();
+
+        server.pushMessage(10, 10, "/start");
+        server.pushMessage(10, 10, "first");
+        server.pushMessage(-20, 11, "second");
+
+        assertTrue(received.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of("/start", "first", "second"), texts);
+    }
+
+    @Test
+    void longPollsLongerThanTheReadTimeout() throws Exception {
+        TelegramBot pollingBot = new TelegramBot("123456789:TOKEN", TelegramBotConfig.builder()
+                .baseUrl(server.getBaseUrl())
+                .readTimeout(Duration.ofSeconds(1))
+                .pollTimeout(Duration.ofSeconds(3))
+                .pollLimit(10)
+                .allowedUpdates(List.of("message"))
+                .build());
+        List<Update> updates = new CopyOnWriteArrayList<>();
+        List<TelegramException> errors = new CopyOnWriteArrayList<>();
+        CountDownLatch received = new CountDownLatch(1);
+        pollingBot.getUpdatesPoller().setExceptionHandler(errors::add);
+        pollingBot.getUpdatesPoller().setHandler(update -> {
+            updates.add(update);
+            received.countDown();
+        });
+        pollingBot.startUpdatesPoller();
+        try {
+            assertTrue(server.awaitCalls("getUpdates", 1, Duration.ofSeconds(5)));
+            Thread.sleep(1500);
+            server.pushCallbackQuery(10, 10, 1, "ignored");
+            server.pushMessage(10, 10, "after the read timeout");
+
+            assertTrue(received.await(5, TimeUnit.SECONDS));
+            assertEquals("after the read timeout", updates.get(0).getMessage().getText());
+            assertTrue(errors.isEmpty());
+
+            ApiCall call = server.getCalls("getUpdates").get(0);
+            assertEquals("3", call.get("timeout"));
+            assertEquals("10", call.get("limit"));
+            assertEquals("[\"message\"]", call.get("allowed_updates"));
+        } finally {
+            pollingBot.stopUpdatesPoller();
+        }
+    }
+
+    @Test
+    void cancelsTheLongPollWhenStopped() throws Exception {
+        List<String> texts = new CopyOnWriteArrayList<>();
+        CountDownLatch received = new CountDownLatch(2);
+        bot.getUpdatesPoller().setHandler(update -> {
+            texts.add(update.getMessage().getText());
+            received.countDown();
+        });
+        server.pushMessage(10, 10, "first session");
+        bot.startUpdatesPoller();
+        assertTrue(server.awaitCalls("getUpdates", 2, Duration.ofSeconds(5)));
+
+        //The second request is waiting in a 50 seconds long poll
+        bot.stopUpdatesPoller();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (readerThreads() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, readerThreads());
+
+        bot.startUpdatesPoller();
+        server.pushMessage(10, 10, "second session");
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("first session", "second session"), texts);
+        assertEquals(1, readerThreads());
+    }
+
+    private static long readerThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.isAlive() && thread.getName().equals("Bot Telegram Connection"))
+                .count();
+    }
+
+    @Test
+    void pausesPollingWhileHandlersFallBehind() throws Exception {
+        TelegramBot pollingBot = new TelegramBot("123456789:TOKEN", TelegramBotConfig.builder()
+                .baseUrl(server.getBaseUrl())
+                .queueLowWatermark(2)
+                .queueHighWatermark(5)
+                .build());
+        DefaultBotUpdatesPoller poller = (DefaultBotUpdatesPoller) pollingBot.getUpdatesPoller();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch handled = new CountDownLatch(20);
+        poller.setHandler(update -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handled.countDown();
+        });
+        for (int i = 0; i < 20; i++) {
+            server.pushMessage(10, 10, "message " + i);
+        }
+
+        pollingBot.startUpdatesPoller();
+        try {
+            assertTrue(server.awaitCalls("getUpdates", 1, Duration.ofSeconds(5)));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!poller.isPaused() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(poller.isPaused());
+            assertEquals(5, poller.getQueuedUpdates());
+            assertEquals("5", server.getCalls("getUpdates").get(0).get("limit"));
+            assertEquals(1, server.getCalls("getUpdates").size());
+            assertEquals(20, server.getPendingUpdates());
+
+            release.countDown();
+            assertTrue(handled.await(10, TimeUnit.SECONDS));
+            assertFalse(poller.getPausedTime().isZero());
+        } finally {
+            pollingBot.stopUpdatesPoller();
+        }
+    }
+
+    @Test
+    void handlesUpdatesWhoseOrderingKeyFails() throws Exception {
+        TelegramBot pollingBot = new TelegramBot("123456789:TOKEN", TelegramBotConfig.builder()
+                .baseUrl(server.getBaseUrl())
+                .handlerThreads(2)
+                .updateOrderingKey(update -> {
+                    if (update.getMessage().getText().startsWith("bad")) {
+                        throw new IllegalStateException("no key");
+                    }
+                    return update.getMessage().getChat().getId();
+                })
+                .build());
+        DefaultBotUpdatesPoller poller = (DefaultBotUpdatesPoller) pollingBot.getUpdatesPoller();
+        List<String> texts = new CopyOnWriteArrayList<>();
+        CountDownLatch handled = new CountDownLatch(3);
+        poller.setHandler(update -> {
+            texts.add(update.getMessage().getText());
+            handled.countDown();
+        });
+        server.pushMessage(10, 10, "bad first");
+        server.pushMessage(10, 10, "second");
+        server.pushMessage(10, 10, "bad third");
+
+        pollingBot.startUpdatesPoller();
+        try {
+            assertTrue(handled.await(5, TimeUnit.SECONDS));
+            assertEquals(3, texts.size());
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (poller.getQueuedUpdates() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, poller.getQueuedUpdates());
+        } finally {
+            pollingBot.stopUpdatesPoller();
+        }
+    }
+
+    @Test
+    void retriesAfterFloodControl() throws Exception {
+        server.failNext("sendMessage", Fault.tooManyRequests(0));
+
+        Message message = bot.sendMessage(10L, "Hello");
+        assertEquals("Hello", message.getText());
+        assertEquals(10L, message.getChat().getId());
+        assertEquals(2, server.getCalls("sendMessage").size());
+    }
+
+    @Test
+    void retriesInTheMigratedSupergroup() throws Exception {
+        TelegramBot cachingBot = new TelegramBot("123456789:TOKEN", TelegramBotConfig.builder()
+                .baseUrl(server.getBaseUrl())
+                .chatCacheTtl(Duration.ofMinutes(1))
+                .maxRetries(1)
+                .build());
+        server.setResult("getChat", "{\"id\":-1001,\"type\":\"supergroup\",\"title\":\"Group\"}");
+        server.failNext("getChat", Fault.migratedTo(-1001));
+
+        assertEquals(-1001L, cachingBot.getChat(-20L).getId());
+        List<ApiCall> calls = server.getCalls("getChat");
+        assertEquals("-20", calls.get(0).get("chat_id"));
+        assertEquals("-1001", calls.get(1).get("chat_id"));
+
+        //Cached under the supergroup only
+        cachingBot.getChat(-1001L);
+        assertEquals(2, server.getCalls("getChat").size());
+        cachingBot.getChat(-20L);
+        assertEquals(3, server.getCalls("getChat").size());
+
+        server.failNext("sendMessage", Fault.migratedTo(-1001));
+        Message message = cachingBot.getAsyncInstance().sendMessage(-20L, "Hello").get(5, TimeUnit.SECONDS);
+        assertEquals(-1001L, message.getChat().getId());
+        assertEquals("-1001", server.getCalls("sendMessage").get(1).get("chat_id"));
+    }
+
+    @Test
+    void reportsServerErrorsAndResets() {
+        server.failNext("sendMessage", Fault.serverError(502));
+        TelegramApiException error = assertThrows(TelegramApiException.class, () -> bot.sendMessage(10L, "Hello"));
+        assertEquals(502, error.getErrorCode());
+
+        server.failRandomly("sendMessage", Fault.connectionReset(), 1);
+        TelegramException reset = assertThrows(TelegramException.class, () -> bot.sendMessage(10L, "Hello"));
+        assertFalse(reset instanceof TelegramApiException);
+    }
+
+    @Test
+    void uploadsChatPhotosAndStickersFromMemory() throws Exception {
+        server.setResult("setChatPhoto", "true");
+        server.setResult("uploadStickerFile", "{\"file_id\":\"sticker\",\"file_unique_id\":\"unique-sticker\",\"file_size\":7}");
+        byte[] photo = "chat photo".getBytes(StandardCharsets.UTF_8);
+        byte[] sticker = "sticker".getBytes(StandardCharsets.UTF_8);
+
+        assertTrue(bot.setChatPhoto(-20L, photo));
+        assertEquals("sticker", bot.uploadStickerFile(10L, sticker).getFileId());
+        assertTrue(bot.getAsyncInstance().setChatPhoto(-20L, InputFile.of(photo, "photo.jpg")).get(5, TimeUnit.SECONDS));
+
+        List<ApiCall> photos = server.getCalls("setChatPhoto");
+        assertArrayEquals(photo, photos.get(0).getFiles().get("photo"));
+        assertArrayEquals(photo, photos.get(1).getFiles().get("photo"));
+        assertArrayEquals(sticker, server.getCalls("uploadStickerFile").get(0).getFiles().get("png_sticker"));
+    }
+
+    @Test
+    void invalidatesCachedChatsAfterChangingThem() throws Exception {
+        TelegramBot cachingBot = new TelegramBot("123456789:TOKEN", TelegramBotConfig.builder()
+                .baseUrl(server.getBaseUrl())
+                .chatCacheTtl(Duration.ofMinutes(1))
+                .build());
+        server.setResult("getChat", "{\"id\":-20,\"type\":\"group\",\"title\":\"Group\"}");
+        server.setResult("setChatTitle", "true");
+
+        cachingBot.getChat(-20L);
+        cachingBot.getChat(-20L);
+        assertEquals(1, server.getCalls("getChat").size());
+
+        assertTrue(cachingBot.setChatTitle(-20L, "New title"));
+        cachingBot.getChat(-20L);
+        assertEquals(2, server.getCalls("getChat").size());
+
+        assertTrue(cachingBot.getAsyncInstance().setChatTitle(-20L, "Async title").get(5, TimeUnit.SECONDS));
+        cachingBot.getChat(-20L);
+        assertEquals(3, server.getCalls("getChat").size());
+
+        server.pushUpdate("message", "{\"message_id\":5,\"date\":1666000000,\"chat\":{\"id\":-20,\"type\":\"group\"},\"new_chat_title\":\"Renamed\"}");
+        assertEquals(1, cachingBot.getAsyncInstance().getUpdates(0, null, 0, null).get(5, TimeUnit.SECONDS).size());
+        cachingBot.getChat(-20L);
+        assertEquals(4, server.getCalls("getChat").size());
+    }
+
+    @Test
+    void uploadsAndDownloadsFiles() throws Exception {
+        byte[] content = "photo content".getBytes(StandardCharsets.UTF_8);
+        Message message = bot.sendPhoto(10L, InputFile.of(content, "photo.jpg"), "A photo", null, null, null, null, null);
+        String fileId = message.getPhoto().get(0).getFileId();
+        assertArrayEquals(content, server.getFile(fileId));
+
+        ApiCall call = server.getCalls("sendPhoto").get(0);
+        assertEquals("A photo", call.get("caption"));
+        try (BufferedSource source = bot.downloadFile(fileId)) {
+            assertEquals("photo content", source.readUtf8());
+        }
+    }
+}
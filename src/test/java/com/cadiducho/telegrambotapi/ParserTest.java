@@ -1,9 +1,11 @@
 package com.cadiducho.telegrambotapi;
 
 import com.cadiducho.telegrambotapi.util.ApiResponse;
+import com.cadiducho.telegrambotapi.util.MoshiProvider;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,4 +22,52 @@ public class ParserTest {
         assertTrue(user.isBot());
         assertEquals("bot", user.getUsername());
     }
+
+    @Test
+    void decodeUpdates() throws IOException {
+        String updates = "{\"ok\":true,\"result\":[{\"update_id\":10,\"message\":{\"message_id\":5,\"date\":1666000000," +
+                "\"from\":{\"id\":80,\"is_bot\":false,\"first_name\":\"Name\",\"unknown_field\":{\"a\":[1,2]}}," +
+                "\"chat\":{\"id\":-100,\"type\":\"supergroup\",\"title\":\"Group\"}," +
+                "\"text\":\"/start now\",\"entities\":[{\"type\":\"bot_command\",\"offset\":0,\"length\":6}]}}]}";
+        ApiResponse<List<Update>> apiResponse = ApiResponse.from(updates, MoshiProvider.LIST_OF_UPDATE);
+        assertTrue(apiResponse.getOk());
+        Update update = apiResponse.getResult().get(0);
+        assertEquals(10, update.getUpdateId());
+        Message message = update.getMessage();
+        assertEquals(5, message.getMessageId());
+        assertEquals("/start now", message.getText());
+        assertEquals(80L, message.getFrom().getId());
+        assertFalse(message.getFrom().isBot());
+        assertEquals(-100L, message.getChat().getId());
+        assertEquals("Group", message.getChat().getTitle());
+        assertEquals(6, message.getEntities().get(0).getLength());
+    }
+
+    @Test
+    void decodeLazyUpdates() throws IOException {
+        String updates = "{\"ok\":true,\"result\":[{\"update_id\":11,\"callback_query\":{\"id\":\"q\",\"data\":\"yes\"," +
+                "\"from\":{\"id\":80,\"is_bot\":false,\"first_name\":\"Name\"}," +
+                "\"message\":{\"message_id\":5,\"date\":1666000000,\"chat\":{\"id\":-100,\"type\":\"group\"}}}}]}";
+        ApiResponse<List<LazyUpdate>> apiResponse = ApiResponse.from(updates, MoshiProvider.LIST_OF_LAZY_UPDATE);
+        LazyUpdate update = apiResponse.getResult().get(0);
+        assertEquals(11, update.getUpdateId());
+        assertEquals("callback_query", update.getKind());
+        assertEquals(-100L, update.getChatId());
+        assertEquals(80L, update.getSenderId());
+        assertFalse(update.isDecoded());
+
+        assertEquals("yes", update.getCallbackQuery().getData());
+        assertTrue(update.isDecoded());
+        assertNull(update.getMessage());
+    }
+
+    @Test
+    void decodeErrorParameters() throws IOException {
+        String error = "{\"ok\":false,\"error_code\":429,\"description\":\"Too Many Requests: retry after 5\",\"parameters\":{\"retry_after\":5}}";
+        ApiResponse<Message> apiResponse = ApiResponse.from(error, Message.class);
+        assertFalse(apiResponse.getOk());
+        assertEquals(429, apiResponse.getErrorCode());
+        assertEquals(5, apiResponse.getParameters().getRetryAfter());
+        assertNull(apiResponse.getParameters().getMigrateToChatId());
+    }
 }
@@ -0,0 +1,79 @@
+package com.cadiducho.telegrambotapi;
+
+import com.cadiducho.telegrambotapi.transport.JdkHttpTransport;
+import com.cadiducho.telegrambotapi.transport.OkHttpTransport;
+import com.cadiducho.telegrambotapi.transport.TelegramTransport;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TelegramBotConfigTest {
+
+    @Test
+    void buildsTheConfiguredClient() {
+        OkHttpClient client = TelegramBotConfig.builder()
+                .maxIdleConnections(2)
+                .keepAlive(Duration.ofSeconds(30))
+                .maxRequests(32)
+                .maxRequestsPerHost(16)
+                .connectTimeout(Duration.ofSeconds(3))
+                .readTimeout(Duration.ofSeconds(4))
+                .writeTimeout(Duration.ofSeconds(5))
+                .protocols(List.of(Protocol.HTTP_1_1))
+                .build()
+                .buildHttpClient();
+
+        assertEquals(32, client.dispatcher().getMaxRequests());
+        assertEquals(16, client.dispatcher().getMaxRequestsPerHost());
+        assertEquals(3000, client.connectTimeoutMillis());
+        assertEquals(4000, client.readTimeoutMillis());
+        assertEquals(5000, client.writeTimeoutMillis());
+        assertEquals(List.of(Protocol.HTTP_1_1), client.protocols());
+    }
+
+    @Test
+    void keepsThePoolAndDispatcherOfASharedClient() {
+        OkHttpClient shared = new OkHttpClient.Builder().connectionPool(new ConnectionPool(1, 1, TimeUnit.MINUTES)).build();
+
+        OkHttpClient client = TelegramBotConfig.builder()
+                .httpClient(shared)
+                .readTimeout(Duration.ofSeconds(4))
+                .build()
+                .buildHttpClient();
+        assertSame(shared.connectionPool(), client.connectionPool());
+        assertSame(shared.dispatcher(), client.dispatcher());
+        assertEquals(4000, client.readTimeoutMillis());
+        assertEquals(10_000, shared.readTimeoutMillis());
+
+        //A new dispatcher is created instead of changing the shared one
+        OkHttpClient limited = TelegramBotConfig.builder().httpClient(shared).maxRequests(8).build().buildHttpClient();
+        assertSame(shared.connectionPool(), limited.connectionPool());
+        assertNotSame(shared.dispatcher(), limited.dispatcher());
+        assertEquals(8, limited.dispatcher().getMaxRequests());
+        assertEquals(64, shared.dispatcher().getMaxRequests());
+    }
+
+    @Test
+    void rejectsPoolSettingsWithASharedClient() {
+        OkHttpClient shared = new OkHttpClient();
+        assertThrows(IllegalArgumentException.class, () -> TelegramBotConfig.builder().httpClient(shared).keepAlive(Duration.ofSeconds(30)).build().buildHttpClient());
+        assertThrows(IllegalArgumentException.class, () -> TelegramBotConfig.builder().httpClient(shared).maxIdleConnections(2).build().buildHttpClient());
+    }
+
+    @Test
+    void usesTheGivenTransport() {
+        TelegramTransport transport = new JdkHttpTransport();
+        assertSame(transport, TelegramBotConfig.builder().transport(transport).keepAlive(Duration.ofSeconds(30)).build().buildTransport());
+
+        OkHttpClient shared = new OkHttpClient();
+        TelegramTransport okHttp = TelegramBotConfig.builder().httpClient(shared).build().buildTransport();
+        assertSame(shared.connectionPool(), assertInstanceOf(OkHttpTransport.class, okHttp).getClient().connectionPool());
+    }
+}
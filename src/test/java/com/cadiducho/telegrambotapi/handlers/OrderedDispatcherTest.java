@@ -0,0 +1,93 @@
+package com.cadiducho.telegrambotapi.handlers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderedDispatcherTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void keepsOrderPerKey() throws InterruptedException {
+        OrderedDispatcher dispatcher = new OrderedDispatcher(executor);
+        Map<Integer, List<Integer>> handled = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(300);
+        for (int i = 0; i < 100; i++) {
+            for (int key = 0; key < 3; key++) {
+                final int chat = key;
+                final int sequence = i;
+                dispatcher.dispatch(chat, () -> {
+                    handled.computeIfAbsent(chat, k -> new CopyOnWriteArrayList<>()).add(sequence);
+                    done.countDown();
+                });
+            }
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        List<Integer> expected = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        for (int key = 0; key < 3; key++) {
+            assertEquals(expected, handled.get(key));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, dispatcher.activeKeys());
+    }
+
+    @Test
+    void slowKeyDoesNotBlockTheRest() throws InterruptedException {
+        OrderedDispatcher dispatcher = new OrderedDispatcher(executor);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch others = new CountDownLatch(10);
+        List<String> handled = new CopyOnWriteArrayList<>();
+
+        dispatcher.dispatch("slow", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handled.add("slow-1");
+        });
+        dispatcher.dispatch("slow", () -> handled.add("slow-2"));
+        for (int i = 0; i < 10; i++) {
+            dispatcher.dispatch("chat-" + i, others::countDown);
+        }
+
+        assertTrue(others.await(5, TimeUnit.SECONDS));
+        assertTrue(handled.isEmpty());
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(List.of("slow-1", "slow-2"), handled);
+    }
+
+    @Test
+    void runsInlineWhenTheExecutorIsShutDown() {
+        executor.shutdown();
+        OrderedDispatcher dispatcher = new OrderedDispatcher(executor);
+        List<Integer> handled = new ArrayList<>();
+        dispatcher.dispatch(1, () -> handled.add(1));
+        dispatcher.dispatch(null, () -> handled.add(2));
+        assertEquals(List.of(1, 2), handled);
+        assertEquals(0, dispatcher.activeKeys());
+    }
+}
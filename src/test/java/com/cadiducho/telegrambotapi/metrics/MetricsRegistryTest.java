@@ -0,0 +1,78 @@
+package com.cadiducho.telegrambotapi.metrics;
+
+import com.cadiducho.telegrambotapi.TelegramBot;
+import com.cadiducho.telegrambotapi.TelegramBotConfig;
+import com.cadiducho.telegrambotapi.exception.TelegramApiException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    @Test
+    void recordsLatencyErrorsAndSizes() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            TelegramBot bot = new TelegramBot("TOKEN", TelegramBotConfig.builder()
+                    .baseUrl(server.url("/").toString())
+                    .metrics(registry)
+                    .build());
+            server.enqueue(new MockResponse().setBody("{\"ok\":true,\"result\":true}"));
+            server.enqueue(new MockResponse().setResponseCode(400).setBody("{\"ok\":false,\"error_code\":400,\"description\":\"Bad Request\"}"));
+
+            assertTrue(bot.deleteMessage(1L, 2));
+            assertThrows(TelegramApiException.class, () -> bot.deleteMessage(1L, 3));
+        }
+
+        MethodMetrics metrics = registry.get("deleteMessage");
+        assertEquals(1, metrics.getSuccesses());
+        assertEquals(Map.of(400, 1L), metrics.getFailures());
+        assertEquals(0, metrics.getInFlight());
+        assertEquals(2, metrics.getLatency().getCount());
+        assertTrue(metrics.getRequestBytes() > 0);
+        assertTrue(metrics.getResponseBytes() > 0);
+        assertEquals(2, metrics.getPhase(NetworkPhase.TIME_TO_FIRST_BYTE).getCount());
+    }
+
+    @Test
+    void countsMalformedResponsesAsFailures() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            TelegramBot bot = new TelegramBot("TOKEN", TelegramBotConfig.builder()
+                    .baseUrl(server.url("/").toString())
+                    .metrics(registry)
+                    .build());
+            server.enqueue(new MockResponse().setBody("{\"ok\":true,\"result\":\"not a boolean\"}"));
+
+            assertThrows(Exception.class, () -> bot.deleteMessage(1L, 2));
+        }
+
+        MethodMetrics metrics = registry.get("deleteMessage");
+        assertEquals(0, metrics.getInFlight());
+        assertEquals(0, metrics.getSuccesses());
+        assertEquals(Map.of(MethodMetrics.NO_RESPONSE, 1L), metrics.getFailures());
+        assertEquals(1, metrics.getLatency().getCount());
+    }
+
+    @Test
+    void histogramPercentilesAreWithinTheirBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(1000), histogram.getMax());
+        long p50 = histogram.getValueAtPercentile(50);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(500), p50, TimeUnit.MICROSECONDS.toNanos(500) * 0.0625);
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(990), p99, TimeUnit.MICROSECONDS.toNanos(990) * 0.0625);
+        assertEquals(histogram.getMax(), histogram.getValueAtPercentile(100));
+    }
+}
@@ -0,0 +1,69 @@
+package com.cadiducho.telegrambotapi.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SendQueueTest {
+
+    @Test
+    void sendsByPriorityTakingTurnsBetweenChats() throws Exception {
+        SendQueue queue = new SendQueue(null, 100, 1);
+        CountDownLatch gate = new CountDownLatch(1);
+        List<String> sent = Collections.synchronizedList(new ArrayList<>());
+
+        //Keep the only worker busy while the requests are queued
+        CompletableFuture<Object> blocker = queue.submit(0, SendPriority.BULK, bot -> {
+            try {
+                gate.await();
+            } catch (InterruptedException ignored) {
+            }
+            return null;
+        });
+        for (String text : Arrays.asList("A1", "A2", "A3")) {
+            queue.submit("A", SendPriority.BULK, bot -> sent.add(text));
+        }
+        queue.submit("B", SendPriority.BULK, bot -> sent.add("B1"));
+        CompletableFuture<Boolean> last = queue.submit("C", SendPriority.INTERACTIVE, bot -> sent.add("C1"));
+
+        gate.countDown();
+        blocker.get(5, TimeUnit.SECONDS);
+        queue.close();
+        last.get(5, TimeUnit.SECONDS);
+        while (queue.size() > 0 || sent.size() < 5) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(Arrays.asList("C1", "A1", "B1", "A2", "A3"), sent);
+        assertThrows(IllegalStateException.class, () -> queue.submit("A", SendPriority.BULK, bot -> null));
+    }
+
+    @Test
+    void rejectsWhenFull() throws Exception {
+        SendQueue queue = new SendQueue(null, 1, 1);
+        CountDownLatch gate = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        queue.submit(1, SendPriority.BULK, bot -> {
+            started.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException ignored) {
+            }
+            return null;
+        });
+        started.await(5, TimeUnit.SECONDS);
+
+        assertNotNull(queue.trySubmit(1, SendPriority.BULK, bot -> null));
+        assertNull(queue.trySubmit(1, SendPriority.BULK, bot -> null));
+        gate.countDown();
+        queue.close();
+    }
+}
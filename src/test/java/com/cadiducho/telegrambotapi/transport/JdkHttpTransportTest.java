@@ -0,0 +1,114 @@
+package com.cadiducho.telegrambotapi.transport;
+
+import com.cadiducho.telegrambotapi.InputFile;
+import com.cadiducho.telegrambotapi.TelegramBot;
+import com.cadiducho.telegrambotapi.TelegramBotConfig;
+import com.cadiducho.telegrambotapi.User;
+import com.cadiducho.telegrambotapi.util.RequestParameters;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdkHttpTransportTest {
+
+    private MockWebServer server;
+    private TelegramBot bot;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        bot = new TelegramBot("TOKEN", TelegramBotConfig.builder()
+                .baseUrl(server.url("/").toString())
+                .transport(new JdkHttpTransport())
+                .build());
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    void sendsJsonRequests() throws Exception {
+        server.enqueue(new MockResponse().setBody("{\"ok\":true,\"result\":true}"));
+        assertTrue(bot.deleteMessage(1L, 2));
+
+        RecordedRequest request = server.takeRequest();
+        assertEquals("POST", request.getMethod());
+        assertEquals("/botTOKEN/deleteMessage", request.getPath());
+        assertTrue(request.getHeader("Content-Type").startsWith("application/json"));
+        assertTrue(request.getBody().readUtf8().contains("\"message_id\":2"));
+    }
+
+    @Test
+    void streamsUploads() throws Exception {
+        server.enqueue(new MockResponse().setBody("{\"ok\":true,\"result\":{\"message_id\":3,\"date\":0,\"chat\":{\"id\":1,\"type\":\"private\"}}}"));
+        byte[] content = "file content".getBytes(StandardCharsets.UTF_8);
+        assertEquals(3, bot.sendDocument(1L, InputFile.of(content, "file.txt"), null, null, null, null, null).getMessageId());
+
+        RecordedRequest request = server.takeRequest();
+        assertTrue(request.getHeader("Content-Type").startsWith("multipart/form-data"));
+        assertTrue(request.getBody().readUtf8().contains("file content"));
+    }
+
+    @Test
+    void completesAsyncRequests() throws Exception {
+        server.enqueue(new MockResponse().setBody("{\"ok\":true,\"result\":{\"id\":42,\"is_bot\":true,\"first_name\":\"Bot\"}}"));
+        User me = bot.getAsyncInstance().getMe().get();
+        assertEquals(42L, me.getId());
+    }
+
+    @Test
+    void cancelsAsyncRequests() throws Exception {
+        JdkHttpTransport transport = new JdkHttpTransport();
+        server.enqueue(new MockResponse().setHeadersDelay(1, TimeUnit.SECONDS).setBody("{\"ok\":true,\"result\":true}"));
+        CompletableFuture<TransportResponse> future = transport.executeAsync(TransportRequest.builder().url(server.url("/botTOKEN/getMe").toString()).build());
+        assertNotNull(server.takeRequest(5, TimeUnit.SECONDS));
+
+        assertTrue(future.cancel(true));
+        assertTrue(future.isCancelled());
+
+        server.enqueue(new MockResponse().setBody("{\"ok\":true,\"result\":true}"));
+        try (TransportResponse response = transport.execute(TransportRequest.builder().url(server.url("/botTOKEN/getMe").toString()).build())) {
+            assertEquals(200, response.code());
+        }
+    }
+
+    @Test
+    void doesNotSendStreamedBodiesTwice() throws Exception {
+        JdkHttpTransport transport = new JdkHttpTransport(HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.ALWAYS)
+                .build(), Duration.ofSeconds(10));
+        String url = server.url("/botTOKEN/sendDocument").toString();
+
+        RequestParameters repeatable = new RequestParameters();
+        repeatable.addFile("document", InputFile.of("file content".getBytes(StandardCharsets.UTF_8), "file.txt"), null);
+        server.enqueue(new MockResponse().setResponseCode(307).setHeader("Location", url));
+        server.enqueue(new MockResponse().setBody("{\"ok\":true,\"result\":true}"));
+        try (TransportResponse response = transport.execute(TransportRequest.builder().url(url).parameters(repeatable).build())) {
+            assertEquals(200, response.code());
+        }
+        server.takeRequest();
+        assertTrue(server.takeRequest().getBody().readUtf8().contains("file content"));
+
+        RequestParameters stream = new RequestParameters();
+        stream.addFile("document", InputFile.of(new ByteArrayInputStream("file content".getBytes(StandardCharsets.UTF_8)), "file.txt"), null);
+        server.enqueue(new MockResponse().setResponseCode(307).setHeader("Location", url));
+        assertThrows(IOException.class, () -> transport.execute(TransportRequest.builder().url(url).parameters(stream).build()).close());
+    }
+}
@@ -0,0 +1,85 @@
+package com.cadiducho.telegrambotapi.util;
+
+import com.cadiducho.telegrambotapi.Update;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatCacheTest {
+
+    private static RequestParameters chat(long chatId) {
+        RequestParameters parameters = new RequestParameters();
+        parameters.add("chat_id", chatId);
+        return parameters;
+    }
+
+    @Test
+    void cachesUntilTheChatChanges() throws IOException {
+        ChatCache cache = new ChatCache(Duration.ofMinutes(1), 10);
+        cache.put("getChatAdministrators", chat(-100), "admins", cache.generation(chat(-100)));
+        cache.put("getChatMemberCount", chat(-200), 5, cache.generation(chat(-200)));
+        assertEquals("admins", cache.get("getChatAdministrators", chat(-100)));
+        assertNull(cache.get("getChatMemberCount", chat(-100)));
+
+        String updates = "{\"ok\":true,\"result\":[{\"update_id\":1,\"message\":{\"message_id\":5,\"date\":1666000000," +
+                "\"chat\":{\"id\":-100,\"type\":\"group\"},\"new_chat_title\":\"New title\"}}]}";
+        for (Update update : ApiResponse.<List<Update>>from(updates, MoshiProvider.LIST_OF_UPDATE).getResult()) {
+            cache.invalidate(update);
+        }
+        for (Update update : ApiResponse.<List<Update>>from(updates, MoshiProvider.LIST_OF_LAZY_UPDATE).getResult()) {
+            cache.invalidate(update);
+        }
+
+        assertNull(cache.get("getChatAdministrators", chat(-100)));
+        assertEquals(5, cache.get("getChatMemberCount", chat(-200)));
+    }
+
+    @Test
+    void removesLeastRecentlyUsedChats() {
+        ChatCache cache = new ChatCache(Duration.ofMinutes(1), 2);
+        cache.put("getChat", chat(1), "one", cache.generation(chat(1)));
+        cache.put("getChat", chat(2), "two", cache.generation(chat(2)));
+        cache.get("getChat", chat(1));
+        cache.put("getChat", chat(3), "three", cache.generation(chat(3)));
+
+        assertEquals("one", cache.get("getChat", chat(1)));
+        assertNull(cache.get("getChat", chat(2)));
+        assertEquals("three", cache.get("getChat", chat(3)));
+    }
+
+    @Test
+    void invalidatesTheChatsChangedByRequests() {
+        ChatCache cache = new ChatCache(Duration.ofMinutes(1), 10);
+        cache.put("getChat", chat(-100), "chat", cache.generation(chat(-100)));
+        cache.put("getChat", chat(-200), "other", cache.generation(chat(-200)));
+
+        cache.invalidate("sendMessage", chat(-100), "message");
+        assertEquals("chat", cache.get("getChat", chat(-100)));
+        cache.invalidate("setChatTitle", chat(-100), true);
+        assertNull(cache.get("getChat", chat(-100)));
+        assertEquals("other", cache.get("getChat", chat(-200)));
+    }
+
+    @Test
+    void doesNotCacheResultsRequestedBeforeAnInvalidation() {
+        ChatCache cache = new ChatCache(Duration.ofMinutes(1), 1);
+        long generation = cache.generation(chat(-100));
+        cache.invalidate(-100L);
+        cache.put("getChat", chat(-100), "stale", generation);
+        assertNull(cache.get("getChat", chat(-100)));
+
+        //The generation is kept after the chat is removed from the cache
+        long removed = cache.generation(chat(-200));
+        cache.invalidate(-200L);
+        cache.invalidate(-300L);
+        cache.put("getChat", chat(-200), "stale", removed);
+        assertNull(cache.get("getChat", chat(-200)));
+
+        cache.put("getChat", chat(-100), "fresh", cache.generation(chat(-100)));
+        assertEquals("fresh", cache.get("getChat", chat(-100)));
+    }
+}
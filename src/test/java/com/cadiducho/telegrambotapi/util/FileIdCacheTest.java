@@ -0,0 +1,108 @@
+package com.cadiducho.telegrambotapi.util;
+
+import com.cadiducho.telegrambotapi.InputFile;
+import com.cadiducho.telegrambotapi.Message;
+import com.cadiducho.telegrambotapi.exception.TelegramApiException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileIdCacheTest {
+
+    private static RequestParameters document(String content) {
+        RequestParameters parameters = new RequestParameters();
+        parameters.add("chat_id", 80L);
+        parameters.addFile("document", InputFile.of(content.getBytes(StandardCharsets.UTF_8), "doc.txt"), MediaTypes.MEDIA_TYPE_APPLICATION);
+        return parameters;
+    }
+
+    private static Message sentDocument() throws Exception {
+        return MoshiProvider.<Message>adapter(Message.class).fromJson("{\"message_id\":1,\"date\":1666000000," +
+                "\"chat\":{\"id\":80,\"type\":\"private\"},\"document\":{\"file_id\":\"DOC_ID\",\"file_unique_id\":\"u\"}}");
+    }
+
+    @Test
+    void reusesTheFileIdOfTheSameContent() throws Exception {
+        FileIdCache cache = new FileIdCache();
+        Message sent = sentDocument();
+
+        RequestParameters first = document("report");
+        assertSame(sent, cache.upload("sendDocument", first, () -> sent));
+        assertTrue(first.hasFiles());
+        assertEquals(1, cache.size());
+
+        RequestParameters second = document("report");
+        cache.upload("sendDocument", second, () -> sent);
+        assertFalse(second.hasFiles());
+        assertEquals("DOC_ID", second.get("document"));
+
+        RequestParameters other = document("another report");
+        cache.upload("sendDocument", other, () -> sent);
+        assertTrue(other.hasFiles());
+    }
+
+    @Test
+    void skipsStreams() throws Exception {
+        FileIdCache cache = new FileIdCache();
+        RequestParameters parameters = new RequestParameters();
+        parameters.addFile("document", InputFile.of(new java.io.ByteArrayInputStream(new byte[4]), "doc.bin"), MediaTypes.MEDIA_TYPE_APPLICATION);
+        cache.upload("sendDocument", parameters, () -> null);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void onlyEvictsRejectedFileIds(@TempDir Path directory) throws Exception {
+        Path storage = directory.resolve("file_ids.tsv");
+        FileIdCache cache = new FileIdCache(storage);
+        Message sent = sentDocument();
+        cache.upload("sendDocument", document("report"), () -> sent);
+
+        AtomicInteger calls = new AtomicInteger();
+        TelegramApiException chatNotFound = assertThrows(TelegramApiException.class, () -> cache.upload("sendDocument", document("report"), () -> {
+            calls.incrementAndGet();
+            throw new TelegramApiException("Bad Request: chat not found", 400, null);
+        }));
+        assertEquals("Bad Request: chat not found", chatNotFound.getMessage());
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.size());
+
+        RequestParameters rejected = document("report");
+        cache.upload("sendDocument", rejected, () -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new TelegramApiException("Bad Request: wrong file identifier/HTTP URL specified", 400, null);
+            }
+            return null;
+        });
+        assertEquals(3, calls.get());
+        assertTrue(rejected.hasFiles());
+        assertEquals(0, cache.size());
+
+        //The removal is persisted, and the file is compacted when loaded
+        assertEquals(0, new FileIdCache(storage).size());
+        assertEquals(0, Files.readAllLines(storage).size());
+    }
+
+    @Test
+    void releasesUploadsWhenTheAsyncRequestThrows() throws Exception {
+        FileIdCache cache = new FileIdCache();
+        CompletableFuture<Message> failed = cache.uploadAsync("sendDocument", document("report"), () -> {
+            throw new IllegalStateException("could not encode");
+        });
+        ExecutionException ex = assertThrows(ExecutionException.class, failed::get);
+        assertTrue(ex.getCause() instanceof IllegalStateException);
+
+        //A later upload of the same content does not wait for the failed one
+        Message sent = sentDocument();
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> cache.upload("sendDocument", document("report"), () -> sent));
+        assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,40 @@
+package com.cadiducho.telegrambotapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    @Test
+    void onlyLimitsSendMethods() {
+        RateLimiter limiter = new RateLimiter();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, limiter.reserveChat("getChat", 80L));
+            assertEquals(0, limiter.reserveGlobal("getChat"));
+        }
+    }
+
+    @Test
+    void pacesMessagesToTheSameChat() {
+        RateLimiter limiter = new RateLimiter();
+        assertEquals(0, limiter.reserveChat("sendMessage", 80L));
+        long delay = limiter.reserveChat("sendMessage", 80L);
+        assertTrue(delay > TimeUnit.MILLISECONDS.toNanos(900), "Second message in a private chat must wait one second");
+
+        assertEquals(0, limiter.reserveChat("sendMessage", -100L));
+        delay = limiter.reserveChat("sendMessage", -100L);
+        assertTrue(delay > TimeUnit.SECONDS.toNanos(2), "Groups only allow 20 messages per minute");
+    }
+
+    @Test
+    void burstsUpToTheGlobalLimit() {
+        RateLimiter limiter = new RateLimiter(30, 1, 20);
+        for (int i = 0; i < 30; i++) {
+            assertEquals(0, limiter.reserveGlobal("sendMessage"));
+        }
+        assertTrue(limiter.reserveGlobal("sendMessage") > 0);
+    }
+}
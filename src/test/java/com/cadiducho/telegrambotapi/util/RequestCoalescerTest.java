@@ -0,0 +1,141 @@
+package com.cadiducho.telegrambotapi.util;
+
+import com.cadiducho.telegrambotapi.TelegramBot;
+import com.cadiducho.telegrambotapi.TelegramBotConfig;
+import com.cadiducho.telegrambotapi.User;
+import com.cadiducho.telegrambotapi.exception.TelegramApiException;
+import com.cadiducho.telegrambotapi.testing.Fault;
+import com.cadiducho.telegrambotapi.testing.FakeBotApiServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private FakeBotApiServer server;
+    private TelegramBot bot;
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = new FakeBotApiServer();
+        server.start();
+        //Keep the first request in flight while the rest of callers arrive
+        server.setLatency(Duration.ofMillis(500));
+        bot = new TelegramBot("123456789:TOKEN", TelegramBotConfig.builder()
+                .baseUrl(server.getBaseUrl())
+                .coalesceReads(true)
+                .build());
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+        executor.shutdownNow();
+        server.close();
+    }
+
+    private List<Future<User>> getMeConcurrently() {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<User>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return bot.getMe();
+            }));
+        }
+        start.countDown();
+        return results;
+    }
+
+    @Test
+    void sharesOneRequestBetweenSyncCallers() throws Exception {
+        List<Future<User>> results = getMeConcurrently();
+        User first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<User> result : results) {
+            assertSame(first, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, server.getCalls("getMe").size());
+    }
+
+    @Test
+    void sharesOneRequestBetweenAsyncCallers() throws Exception {
+        List<CompletableFuture<User>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(bot.getAsyncInstance().getMe());
+        }
+        User first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<User> result : results) {
+            assertSame(first, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, server.getCalls("getMe").size());
+    }
+
+    @Test
+    void failsEveryCaller() {
+        server.failNext("getMe", Fault.serverError(500));
+        for (Future<User> result : getMeConcurrently()) {
+            ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertEquals(500, assertInstanceOf(TelegramApiException.class, error.getCause()).getErrorCode());
+        }
+        assertEquals(1, server.getCalls("getMe").size());
+
+        server.failNext("getMe", Fault.serverError(500));
+        List<CompletableFuture<User>> results = List.of(bot.getAsyncInstance().getMe(), bot.getAsyncInstance().getMe());
+        for (CompletableFuture<User> result : results) {
+            ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(TelegramApiException.class, error.getCause());
+        }
+        assertEquals(2, server.getCalls("getMe").size());
+    }
+
+    @Test
+    void sendsTheNextRequestAfterTheFlightEnds() throws Exception {
+        server.setLatency(null);
+        bot.getMe();
+        bot.getMe();
+        assertEquals(2, server.getCalls("getMe").size());
+
+        server.failNext("getMe", Fault.serverError(500));
+        assertThrows(TelegramApiException.class, bot::getMe);
+        assertNotNull(bot.getMe());
+        assertEquals(4, server.getCalls("getMe").size());
+
+        bot.getAsyncInstance().getMe().get(5, TimeUnit.SECONDS);
+        server.failNext("getMe", Fault.serverError(500));
+        assertThrows(ExecutionException.class, () -> bot.getAsyncInstance().getMe().get(5, TimeUnit.SECONDS));
+        assertNotNull(bot.getAsyncInstance().getMe().get(5, TimeUnit.SECONDS));
+        assertEquals(7, server.getCalls("getMe").size());
+    }
+
+    @Test
+    void wakesUpCallersWhenTheRequestThrowsAnError() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        CountDownLatch joined = new CountDownLatch(1);
+        CompletableFuture<CompletableFuture<Object>> waiter = new CompletableFuture<>();
+        Future<?> first = executor.submit(() -> coalescer.execute("getMe", () -> {
+            waiter.complete(coalescer.executeAsync("getMe", () -> CompletableFuture.completedFuture("not coalesced")));
+            joined.countDown();
+            throw new AssertionError("failed");
+        }));
+        assertTrue(joined.await(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(AssertionError.class, assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS)).getCause());
+        ExecutionException error = assertThrows(ExecutionException.class, () -> waiter.get().get(5, TimeUnit.SECONDS));
+        assertInstanceOf(AssertionError.class, error.getCause());
+    }
+}
@@ -0,0 +1,74 @@
+package com.cadiducho.telegrambotapi.util;
+
+import com.cadiducho.telegrambotapi.InputFile;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestParametersTest {
+
+    @Test
+    void encodesJsonWithoutFiles() throws IOException {
+        RequestParameters parameters = new RequestParameters();
+        parameters.add("chat_id", 80L);
+        parameters.add("text", "Hello");
+        parameters.add("disable_notification", true);
+        parameters.add("reply_to_message_id", null);
+        parameters.add("options", Arrays.asList("a", "b"), MoshiProvider.LIST_OF_STRING);
+
+        RequestBody body = parameters.toRequestBody(false);
+        assertEquals(MediaTypes.MEDIA_TYPE_JSON, body.contentType());
+
+        String json = "{\"chat_id\":80,\"text\":\"Hello\",\"disable_notification\":true,\"options\":[\"a\",\"b\"]}";
+        assertEquals(json.length(), body.contentLength());
+        for (int i = 0; i < 2; i++) {
+            Buffer buffer = new Buffer();
+            body.writeTo(buffer);
+            assertEquals(json, buffer.readUtf8());
+        }
+    }
+
+    @Test
+    void encodesMultipartWhenForced() {
+        RequestParameters parameters = new RequestParameters();
+        parameters.add("chat_id", 80L);
+        parameters.add("options", Arrays.asList("a", "b"), MoshiProvider.LIST_OF_STRING);
+
+        RequestBody body = parameters.toRequestBody(true);
+        assertInstanceOf(MultipartBody.class, body);
+        assertEquals(2, ((MultipartBody) body).size());
+    }
+
+    @Test
+    void uploadsFilesFromMemory() throws IOException {
+        byte[] content = "file content".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(content.length);
+        direct.put(content).flip();
+
+        RequestParameters parameters = new RequestParameters();
+        parameters.add("chat_id", 80L);
+        parameters.addFile("photo", InputFile.of(content, "photo.jpg"), MediaTypes.MEDIA_TYPE_PHOTO);
+        parameters.addFile("thumbnail", InputFile.of(direct, "thumb.jpg"), MediaTypes.MEDIA_TYPE_PHOTO);
+        assertTrue(parameters.isRepeatable());
+
+        MultipartBody body = (MultipartBody) parameters.toRequestBody(false);
+        assertEquals(3, body.size());
+        assertEquals(content.length, body.part(2).body().contentLength());
+        Buffer buffer = new Buffer();
+        body.part(2).body().writeTo(buffer);
+        assertEquals("file content", buffer.readUtf8());
+        assertEquals(content.length, direct.remaining());
+
+        parameters.addFile("document", InputFile.of(new ByteArrayInputStream(content), "doc.txt"), MediaTypes.MEDIA_TYPE_APPLICATION);
+        assertFalse(parameters.isRepeatable());
+    }
+}
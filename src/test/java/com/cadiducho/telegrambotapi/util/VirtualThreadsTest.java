@@ -0,0 +1,28 @@
+package com.cadiducho.telegrambotapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsTest {
+
+    @Test
+    void runsTasksInVirtualThreads() throws Exception {
+        assumeTrue(VirtualThreads.isSupported(), "Virtual threads require Java 21");
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("test-");
+        CompletableFuture<String> name = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor);
+        assertEquals("test-0", name.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+
+    @Test
+    void failsOnOlderRuntimes() {
+        assumeTrue(!VirtualThreads.isSupported());
+        assertThrows(UnsupportedOperationException.class, () -> VirtualThreads.factory("test-"));
+    }
+}
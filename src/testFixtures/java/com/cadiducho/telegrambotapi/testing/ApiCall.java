@@ -0,0 +1,43 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.testing;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * A request received by a {@link FakeBotApiServer}
+ */
+@Value
+public class ApiCall {
+
+    /**
+     * Name of the Bot API method
+     */
+    String method;
+
+    /**
+     * Parameters of the request as strings, with objects and arrays as JSON
+     */
+    Map<String, String> parameters;
+
+    /**
+     * Content of the uploaded files, by parameter name
+     */
+    Map<String, byte[]> files;
+
+    /**
+     * Get a parameter
+     * @param name Name of the parameter
+     * @return The value, or null if it was not sent
+     */
+    public String get(String name) {
+        return parameters.get(name);
+    }
+}
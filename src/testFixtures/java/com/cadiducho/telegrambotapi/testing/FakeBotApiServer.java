@@ -0,0 +1,706 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.testing;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.Moshi;
+import okhttp3.MediaType;
+import okhttp3.MultipartReader;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * In-process stand-in for the Bot API, to test and benchmark bots offline. Point a bot to it with
+ * <code>TelegramBotConfig.builder().baseUrl(server.getBaseUrl())</code>.
+ * <p>
+ * It answers getMe, getUpdates with long polling, sendMessage, editMessageText, the media sends, getFile,
+ * answerCallbackQuery and deleteMessage, and serves the downloads of the uploaded files.
+ * Other methods answer 404 unless their result is set with {@link #setResult(String, String)}.
+ * Updates are scripted with {@link #pushUpdate(String, String)} and its shortcuts, every received request is recorded as an {@link ApiCall},
+ * and {@link Fault}s can be injected once or at random.
+ * Any token is accepted.
+ */
+public class FakeBotApiServer implements Closeable {
+
+    /**
+     * Identifier of the bot returned by getMe and sending every message
+     */
+    public static final long BOT_ID = 123456789L;
+
+    private static final Map<String, String> MEDIA_METHODS = Map.of(
+            "sendPhoto", "photo", "sendDocument", "document", "sendAudio", "audio", "sendVideo", "video",
+            "sendAnimation", "animation", "sendVoice", "voice", "sendVideoNote", "video_note", "sendSticker", "sticker");
+    private static final Pattern API_PATH = Pattern.compile("/bot[^/]+/([A-Za-z]+)");
+    private static final Pattern FILE_PATH = Pattern.compile("/file/bot[^/]+/files/(.+)");
+    private static final Pattern PART_NAME = Pattern.compile("(?:^|;)\\s*name=\"([^\"]*)\"");
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-");
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_TIMEOUT = 50;
+
+    private final JsonAdapter<Object> json = new Moshi.Builder().build().adapter(Object.class);
+    private final MockWebServer server = new MockWebServer();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition updateArrived = lock.newCondition();
+    private final Condition callArrived = lock.newCondition();
+    private final List<Map<String, Object>> updates = new ArrayList<>();
+    private final List<ApiCall> calls = new ArrayList<>();
+    private int nextUpdateId = 1;
+    private boolean closed;
+
+    private final AtomicInteger nextMessageId = new AtomicInteger(1);
+    private final AtomicInteger nextFileId = new AtomicInteger(1);
+    private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+    private final Map<String, String> results = new ConcurrentHashMap<>();
+
+    private final Map<String, Deque<Fault>> scheduledFaults = new HashMap<>();
+    private final List<RandomFault> randomFaults = new CopyOnWriteArrayList<>();
+    private volatile Duration latency;
+
+    /**
+     * Start listening in a random local port
+     * @throws IOException If the server cannot be started
+     */
+    public void start() throws IOException {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                return FakeBotApiServer.this.dispatch(request);
+            }
+        });
+        server.start();
+    }
+
+    /**
+     * Get the URL to pass to {@link com.cadiducho.telegrambotapi.TelegramBotConfig#getBaseUrl()}
+     * @return The base URL of the server
+     */
+    public String getBaseUrl() {
+        return server.url("/").toString();
+    }
+
+    /**
+     * Stop the server, answering the pending long polls
+     * @throws IOException If the server cannot be stopped
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            updateArrived.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        server.shutdown();
+    }
+
+    //---- Updates ----//
+
+    /**
+     * Queue an update, delivered by getUpdates until it is confirmed by a higher offset
+     * @param kind Field of the update, like message or callback_query
+     * @param content JSON object of the field
+     * @return The update_id
+     * @throws IOException If the content is not valid JSON
+     */
+    public int pushUpdate(String kind, String content) throws IOException {
+        return pushUpdate(kind, json.fromJson(content));
+    }
+
+    /**
+     * Queue a text message sent by a user. Texts starting with / have a bot_command entity
+     * @param chatId Chat of the message, negative for groups
+     * @param userId Sender of the message
+     * @param text Text of the message
+     * @return The update_id
+     */
+    public int pushMessage(long chatId, long userId, String text) {
+        final Map<String, Object> message = message(chat(Long.toString(chatId)), user(userId));
+        message.put("text", text);
+        if (text.startsWith("/")) {
+            final int end = text.indexOf(' ');
+            message.put("entities", List.of(Map.of("type", "bot_command", "offset", 0, "length", end < 0 ? text.length() : end)));
+        }
+        return pushUpdate("message", message);
+    }
+
+    /**
+     * Queue the press of a button of an inline keyboard
+     * @param chatId Chat of the message with the keyboard
+     * @param userId User that pressed the button
+     * @param messageId Message with the keyboard
+     * @param data Callback data of the button
+     * @return The update_id
+     */
+    public int pushCallbackQuery(long chatId, long userId, int messageId, String data) {
+        final Map<String, Object> message = message(chat(Long.toString(chatId)), botUser());
+        message.put("message_id", messageId);
+        message.put("text", "Keyboard");
+        final Map<String, Object> query = new LinkedHashMap<>();
+        query.put("id", Long.toString(ThreadLocalRandom.current().nextLong(Long.MAX_VALUE)));
+        query.put("from", user(userId));
+        query.put("message", message);
+        query.put("chat_instance", Long.toString(chatId));
+        query.put("data", data);
+        return pushUpdate("callback_query", query);
+    }
+
+    /**
+     * Get the number of updates that have not been confirmed yet
+     * @return Pending updates
+     */
+    public int getPendingUpdates() {
+        lock.lock();
+        try {
+            return updates.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int pushUpdate(String kind, Object content) {
+        lock.lock();
+        try {
+            final Map<String, Object> update = new LinkedHashMap<>();
+            final int updateId = nextUpdateId++;
+            update.put("update_id", updateId);
+            update.put(kind, content);
+            updates.add(update);
+            updateArrived.signalAll();
+            return updateId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //---- Calls ----//
+
+    /**
+     * Get every request received, including those answered with a fault
+     * @return Copy of the calls in the order they were received
+     */
+    public List<ApiCall> getCalls() {
+        lock.lock();
+        try {
+            return new ArrayList<>(calls);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the requests of a method
+     * @param method Name of the Bot API method
+     * @return Copy of the calls in the order they were received
+     */
+    public List<ApiCall> getCalls(String method) {
+        return getCalls().stream().filter(call -> call.getMethod().equals(method)).collect(Collectors.toList());
+    }
+
+    /**
+     * Wait until a method has been called a number of times
+     * @param method Name of the Bot API method
+     * @param count Number of calls
+     * @param timeout Maximum time to wait
+     * @return True if the method was called at least that many times
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public boolean awaitCalls(String method, int count, Duration timeout) throws InterruptedException {
+        long remaining = timeout.toNanos();
+        lock.lock();
+        try {
+            while (calls.stream().filter(call -> call.getMethod().equals(method)).count() < count) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = callArrived.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Answer a method with a fixed result, replacing its default answer
+     * @param method Name of the Bot API method
+     * @param result JSON of the result field of the response
+     */
+    public void setResult(String method, String result) {
+        results.put(method, result);
+    }
+
+    /**
+     * Store a file, to be returned by getFile and downloaded
+     * @param content Content of the file
+     * @return The file_id
+     */
+    public String addFile(byte[] content) {
+        final String fileId = "file" + nextFileId.getAndIncrement();
+        files.put(fileId, content);
+        return fileId;
+    }
+
+    /**
+     * Get the content of an uploaded file
+     * @param fileId Identifier of the file
+     * @return The content, or null if there is no such file
+     */
+    public byte[] getFile(String fileId) {
+        return files.get(fileId);
+    }
+
+    //---- Faults ----//
+
+    /**
+     * Delay every answer
+     * @param latency Time waited before answering, or null to answer immediately
+     */
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Answer the next call of a method with a fault. Several faults are injected in the order they are added
+     * @param method Name of the Bot API method, or null for any method
+     * @param fault The fault
+     */
+    public void failNext(String method, Fault fault) {
+        synchronized (scheduledFaults) {
+            scheduledFaults.computeIfAbsent(String.valueOf(method), k -> new ArrayDeque<>()).add(fault);
+        }
+    }
+
+    /**
+     * Answer a fraction of the calls of a method with a fault, until {@link #clearFaults()}
+     * @param method Name of the Bot API method, or null for any method
+     * @param fault The fault
+     * @param probability Probability of every call to fail, between 0 and 1
+     */
+    public void failRandomly(String method, Fault fault, double probability) {
+        randomFaults.add(new RandomFault(method, fault, probability));
+    }
+
+    /**
+     * Remove every pending fault
+     */
+    public void clearFaults() {
+        synchronized (scheduledFaults) {
+            scheduledFaults.clear();
+        }
+        randomFaults.clear();
+    }
+
+    private Fault nextFault(String method) {
+        synchronized (scheduledFaults) {
+            for (String key : new String[]{method, "null"}) {
+                final Deque<Fault> faults = scheduledFaults.get(key);
+                if (faults != null && !faults.isEmpty()) {
+                    return faults.poll();
+                }
+            }
+        }
+        for (RandomFault random : randomFaults) {
+            if ((random.method == null || random.method.equals(method)) && ThreadLocalRandom.current().nextDouble() < random.probability) {
+                return random.fault;
+            }
+        }
+        return null;
+    }
+
+    //---- Requests ----//
+
+    private MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+        final String path = request.getRequestUrl().encodedPath();
+        final Matcher download = FILE_PATH.matcher(path);
+        if (download.matches()) {
+            return download(download.group(1), request);
+        }
+        final Matcher api = API_PATH.matcher(path);
+        if (!api.matches()) {
+            return error(404, "Not Found");
+        }
+
+        final ApiCall call;
+        try {
+            call = parse(api.group(1), request);
+        } catch (IOException | RuntimeException ex) {
+            return error(400, "Bad Request: could not parse the request, " + ex.getMessage());
+        }
+        lock.lock();
+        try {
+            calls.add(call);
+            callArrived.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        final Fault fault = nextFault(call.getMethod());
+        final MockResponse failure = fault != null ? fault.response() : null;
+        if (failure != null) {
+            if (latency != null) {
+                failure.setHeadersDelay(latency.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return failure;
+        }
+
+        MockResponse answer;
+        try {
+            answer = answer(call);
+        } catch (IllegalArgumentException ex) {
+            answer = error(400, "Bad Request: " + ex.getMessage());
+        }
+        final Duration delay = fault != null ? fault.getLatency() : latency;
+        if (delay != null) {
+            answer.setHeadersDelay(delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return answer;
+    }
+
+    private MockResponse answer(ApiCall call) throws InterruptedException {
+        final String stub = results.get(call.getMethod());
+        if (stub != null) {
+            return new MockResponse().setBody("{\"ok\":true,\"result\":" + stub + "}");
+        }
+
+        switch (call.getMethod()) {
+            case "getMe":
+                return ok(botUser());
+            case "getUpdates":
+                return ok(getUpdates(call));
+            case "sendMessage":
+                final Map<String, Object> message = sentMessage(call);
+                message.put("text", required(call, "text"));
+                return ok(message);
+            case "editMessageText":
+                if (call.get("inline_message_id") != null) {
+                    return ok(true);
+                }
+                final Map<String, Object> edited = sentMessage(call);
+                edited.put("message_id", Integer.parseInt(required(call, "message_id")));
+                edited.put("edit_date", System.currentTimeMillis() / 1000);
+                edited.put("text", required(call, "text"));
+                return ok(edited);
+            case "answerCallbackQuery":
+            case "deleteMessage":
+                return ok(true);
+            case "getFile":
+                final String fileId = required(call, "file_id");
+                final byte[] content = files.get(fileId);
+                if (content == null) {
+                    throw new IllegalArgumentException("invalid file_id");
+                }
+                return ok(file(fileId, content.length, Map.of("file_path", "files/" + fileId)));
+            default:
+                final String field = MEDIA_METHODS.get(call.getMethod());
+                if (field == null) {
+                    return error(404, "Not Found");
+                }
+                final Map<String, Object> media = sentMessage(call);
+                media.put(field, media(field, storeFile(call, field)));
+                if (call.get("caption") != null) {
+                    media.put("caption", call.get("caption"));
+                }
+                return ok(media);
+        }
+    }
+
+    /**
+     * Deliver the pending updates from the offset, waiting for them up to the timeout of the request
+     */
+    private List<Map<String, Object>> getUpdates(ApiCall call) throws InterruptedException {
+        final long offset = call.get("offset") != null ? Long.parseLong(call.get("offset")) : 0;
+        final int requestedLimit = call.get("limit") != null ? Integer.parseInt(call.get("limit")) : MAX_LIMIT;
+        final int limit = requestedLimit <= 0 || requestedLimit > MAX_LIMIT ? MAX_LIMIT : requestedLimit;
+        final int timeout = call.get("timeout") != null ? Math.min(Integer.parseInt(call.get("timeout")), MAX_TIMEOUT) : 0;
+        final List<?> allowed = call.get("allowed_updates") != null ? (List<?>) parseJson(call.get("allowed_updates")) : null;
+
+        long remaining = TimeUnit.SECONDS.toNanos(timeout);
+        lock.lock();
+        try {
+            //A higher offset confirms the previous updates
+            updates.removeIf(update -> (int) update.get("update_id") < offset);
+            while (true) {
+                final List<Map<String, Object>> batch = updates.stream()
+                        .filter(update -> allowed == null || allowed.isEmpty() || allowed.stream().anyMatch(update::containsKey))
+                        .limit(limit)
+                        .collect(Collectors.toList());
+                if (!batch.isEmpty() || remaining <= 0 || closed) {
+                    return batch;
+                }
+                remaining = updateArrived.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private MockResponse download(String fileId, RecordedRequest request) {
+        final byte[] content = files.get(fileId);
+        if (content == null) {
+            return error(404, "Not Found");
+        }
+        final String range = request.getHeader("Range");
+        final Matcher matcher = range != null ? RANGE.matcher(range) : null;
+        if (matcher != null && matcher.matches() && Integer.parseInt(matcher.group(1)) < content.length) {
+            final int offset = Integer.parseInt(matcher.group(1));
+            return new MockResponse().setResponseCode(206)
+                    .setHeader("Content-Range", "bytes " + offset + "-" + (content.length - 1) + "/" + content.length)
+                    .setBody(new Buffer().write(content, offset, content.length - offset));
+        }
+        return new MockResponse().setBody(new Buffer().write(content));
+    }
+
+    /**
+     * Read the parameters of a request, sent in the query, as JSON, as multipart/form-data or url encoded
+     */
+    private ApiCall parse(String method, RecordedRequest request) throws IOException {
+        final Map<String, String> parameters = new LinkedHashMap<>();
+        final Map<String, byte[]> uploads = new LinkedHashMap<>();
+        for (String name : request.getRequestUrl().queryParameterNames()) {
+            parameters.put(name, request.getRequestUrl().queryParameter(name));
+        }
+
+        final Buffer body = request.getBody();
+        final String contentType = request.getHeader("Content-Type");
+        final MediaType mediaType = contentType != null ? MediaType.parse(contentType) : null;
+        if (mediaType != null && body.size() > 0) {
+            switch (mediaType.subtype()) {
+                case "json":
+                    ((Map<?, ?>) parseJson(body.readUtf8())).forEach((name, value) -> {
+                        if (value != null) {
+                            parameters.put(name.toString(), string(value));
+                        }
+                    });
+                    break;
+                case "form-data":
+                    try (MultipartReader reader = new MultipartReader(body, mediaType.parameter("boundary"))) {
+                        MultipartReader.Part part;
+                        while ((part = reader.nextPart()) != null) {
+                            try (MultipartReader.Part current = part) {
+                                final String disposition = current.headers().get("Content-Disposition");
+                                final Matcher name = disposition != null ? PART_NAME.matcher(disposition) : null;
+                                if (name == null || !name.find()) {
+                                    continue;
+                                }
+                                if (disposition.contains("filename=")) {
+                                    uploads.put(name.group(1), current.body().readByteArray());
+                                } else {
+                                    parameters.put(name.group(1), current.body().readUtf8());
+                                }
+                            }
+                        }
+                    }
+                    break;
+                case "x-www-form-urlencoded":
+                    for (String pair : body.readUtf8().split("&")) {
+                        final int separator = pair.indexOf('=');
+                        if (separator > 0) {
+                            parameters.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                                    URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+                        }
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return new ApiCall(method, Collections.unmodifiableMap(parameters), Collections.unmodifiableMap(uploads));
+    }
+
+    private Object parseJson(String value) {
+        try {
+            return json.fromJson(value);
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("invalid JSON " + value, ex);
+        }
+    }
+
+    /**
+     * Write a JSON value as a string parameter, with numbers decoded by Moshi as doubles written as integers
+     */
+    private String string(Object value) {
+        if (value instanceof String) {
+            return (String) value;
+        }
+        if (value instanceof Double && (Double) value == Math.rint((Double) value)) {
+            return Long.toString(((Double) value).longValue());
+        }
+        if (value instanceof Map || value instanceof List) {
+            return json.toJson(value);
+        }
+        return value.toString();
+    }
+
+    //---- Objects ----//
+
+    private Map<String, Object> sentMessage(ApiCall call) {
+        final Map<String, Object> message = message(chat(required(call, "chat_id")), botUser());
+        if (call.get("message_thread_id") != null) {
+            message.put("message_thread_id", Integer.parseInt(call.get("message_thread_id")));
+        }
+        if (call.get("reply_markup") != null) {
+            message.put("reply_markup", parseJson(call.get("reply_markup")));
+        }
+        return message;
+    }
+
+    private Map<String, Object> message(Map<String, Object> chat, Map<String, Object> from) {
+        final Map<String, Object> message = new LinkedHashMap<>();
+        message.put("message_id", nextMessageId.getAndIncrement());
+        message.put("from", from);
+        message.put("chat", chat);
+        message.put("date", System.currentTimeMillis() / 1000);
+        return message;
+    }
+
+    private static Map<String, Object> chat(String chatId) {
+        final Map<String, Object> chat = new LinkedHashMap<>();
+        if (chatId.startsWith("@")) {
+            chat.put("id", -1000000000000L - Math.abs(chatId.hashCode()));
+            chat.put("type", "channel");
+            chat.put("username", chatId.substring(1));
+            return chat;
+        }
+        final long id;
+        try {
+            id = Long.parseLong(chatId);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("chat not found");
+        }
+        chat.put("id", id);
+        if (id > 0) {
+            chat.put("type", "private");
+            chat.put("first_name", "User " + id);
+        } else {
+            chat.put("type", id < -1000000000000L ? "supergroup" : "group");
+            chat.put("title", "Group " + -id);
+        }
+        return chat;
+    }
+
+    private static Map<String, Object> user(long userId) {
+        final Map<String, Object> user = new LinkedHashMap<>();
+        user.put("id", userId);
+        user.put("is_bot", false);
+        user.put("first_name", "User " + userId);
+        return user;
+    }
+
+    private static Map<String, Object> botUser() {
+        final Map<String, Object> user = new LinkedHashMap<>();
+        user.put("id", BOT_ID);
+        user.put("is_bot", true);
+        user.put("first_name", "Fake bot");
+        user.put("username", "fake_bot");
+        user.put("can_join_groups", true);
+        user.put("can_read_all_group_messages", false);
+        user.put("supports_inline_queries", false);
+        return user;
+    }
+
+    /**
+     * Store the file uploaded or referenced by a media send
+     * @return The file_id
+     */
+    private String storeFile(ApiCall call, String field) {
+        final byte[] upload = call.getFiles().get(field);
+        if (upload != null) {
+            return addFile(upload);
+        }
+        final String reference = required(call, field);
+        //A URL or a file_id of another bot is accepted, with an empty content
+        return files.containsKey(reference) ? reference : addFile(new byte[0]);
+    }
+
+    private Object media(String field, String fileId) {
+        final int size = files.get(fileId).length;
+        switch (field) {
+            case "photo":
+                return List.of(file(fileId, size, Map.of("width", 800, "height", 600)));
+            case "video":
+            case "animation":
+                return file(fileId, size, Map.of("width", 640, "height", 480, "duration", 10));
+            case "video_note":
+                return file(fileId, size, Map.of("length", 240, "duration", 10));
+            case "audio":
+            case "voice":
+                return file(fileId, size, Map.of("duration", 10));
+            case "sticker":
+                return file(fileId, size, Map.of("width", 512, "height", 512, "type", "regular", "is_animated", false, "is_video", false));
+            default:
+                return file(fileId, size, Map.of());
+        }
+    }
+
+    private static Map<String, Object> file(String fileId, int size, Map<String, Object> fields) {
+        final Map<String, Object> file = new LinkedHashMap<>();
+        file.put("file_id", fileId);
+        file.put("file_unique_id", "unique-" + fileId);
+        file.put("file_size", size);
+        file.putAll(fields);
+        return file;
+    }
+
+    private static String required(ApiCall call, String name) {
+        final String value = call.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException(name + " is empty");
+        }
+        return value;
+    }
+
+    private MockResponse ok(Object result) {
+        return new MockResponse().setBody("{\"ok\":true,\"result\":" + json.toJson(result) + "}");
+    }
+
+    private static MockResponse error(int code, String description) {
+        return new MockResponse().setResponseCode(code)
+                .setBody("{\"ok\":false,\"error_code\":" + code + ",\"description\":\"" + description.replace("\"", "'") + "\"}");
+    }
+
+    private static class RandomFault {
+        private final String method;
+        private final Fault fault;
+        private final double probability;
+
+        private RandomFault(String method, Fault fault, double probability) {
+            this.method = method;
+            this.fault = fault;
+            this.probability = probability;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 Cadiducho.
+ * Read more in https://github.com/Cadiducho/Telegram-Bot-API/blob/master/LICENSE
+ */
+
+package com.cadiducho.telegrambotapi.testing;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.SocketPolicy;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * A failure injected by a {@link FakeBotApiServer} instead of or in addition to the normal answer of a method
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Fault {
+
+    private static final String ERROR = "{\"ok\":false,\"error_code\":%d,\"description\":\"%s\"}";
+    private static final String TOO_MANY_REQUESTS = "{\"ok\":false,\"error_code\":429,"
+            + "\"description\":\"Too Many Requests: retry after %d\",\"parameters\":{\"retry_after\":%d}}";
+    private static final String MIGRATED = "{\"ok\":false,\"error_code\":400,"
+            + "\"description\":\"Bad Request: group chat was upgraded to a supergroup chat\",\"parameters\":{\"migrate_to_chat_id\":%d}}";
+
+    private final Supplier<MockResponse> response;
+
+    /**
+     * Delay added to the normal answer, or null if the fault replaces it
+     */
+    @Getter(AccessLevel.PACKAGE) private final Duration latency;
+
+    /**
+     * Answer normally, but after a delay
+     * @param latency Time waited before sending the headers of the answer
+     * @return The fault
+     */
+    public static Fault latency(Duration latency) {
+        return new Fault(null, latency);
+    }
+
+    /**
+     * Close the connection after reading the request, without answering it
+     * @return The fault
+     */
+    public static Fault connectionReset() {
+        return new Fault(() -> new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST), null);
+    }
+
+    /**
+     * Answer with a server error, like 500 or 502 from a proxy in front of the Bot API
+     * @param code HTTP status code
+     * @return The fault
+     */
+    public static Fault serverError(int code) {
+        return new Fault(() -> new MockResponse().setResponseCode(code).setBody(String.format(ERROR, code, "Internal Server Error")), null);
+    }
+
+    /**
+     * Answer with the flood control error of Telegram
+     * @param retryAfter Seconds the client must wait before retrying
+     * @return The fault
+     */
+    public static Fault tooManyRequests(int retryAfter) {
+        return new Fault(() -> new MockResponse().setResponseCode(429).setBody(String.format(TOO_MANY_REQUESTS, retryAfter, retryAfter)), null);
+    }
+
+    /**
+     * Answer with the error of a group that was upgraded to a supergroup
+     * @param chatId Identifier of the supergroup
+     * @return The fault
+     */
+    public static Fault migratedTo(long chatId) {
+        return new Fault(() -> new MockResponse().setResponseCode(400).setBody(String.format(MIGRATED, chatId)), null);
+    }
+
+    /**
+     * Get the answer that replaces the normal one
+     * @return A new response, or null if the fault only adds latency
+     */
+    MockResponse response() {
+        return response != null ? response.get() : null;
+    }
+}